@@ -0,0 +1,4 @@
+#!/bin/bash
+# 주 DB 첫 기동 때 한 번 실행된다(docker-entrypoint-initdb.d): 복제본 컨테이너의 복제 접속을 허용한다.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,49 @@
+package com.tikkit.api.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse 직렬화 비용. 스프링 MVC 와 같은 기본 설정의 ObjectMapper 를 쓴다.
+ * preSerializedFailResponse 는 같은 실패 응답을 PreSerializedResponses 에서 꺼내는 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ApiResponse<UserResponse> success =
+            ApiResponse.success(new UserResponse("member1234@tikkit.com", "이재훈", "01012345678"));
+    private final PreSerializedResponses preSerializedResponses = new PreSerializedResponses(objectMapper);
+    private final ApiResponse<Void> fail =
+            ApiResponse.fail(ErrorCode.DUPLICATE_EMAIL.getCode(), ErrorCode.DUPLICATE_EMAIL.getMessage());
+
+    @Benchmark
+    public byte[] userResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(success);
+    }
+
+    @Benchmark
+    public byte[] failResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fail);
+    }
+
+    @Benchmark
+    public byte[] preSerializedFailResponse() {
+        return preSerializedResponses.failure(ErrorCode.DUPLICATE_EMAIL);
+    }
+}
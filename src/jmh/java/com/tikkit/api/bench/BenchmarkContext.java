@@ -0,0 +1,38 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.TikkitApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크용 스프링 컨텍스트. 내장 H2(bench 프로필) 위에서 임의 포트로 띄운다.
+ * 환경변수 TIKKIT_BENCH_ARGS 로 인자를 덧붙여 로컬 PostgreSQL 등으로 바꿀 수 있다.
+ * 예) TIKKIT_BENCH_ARGS="--spring.datasource.url=jdbc:postgresql://localhost:5432/tikkit_db --spring.datasource.driver-class-name=org.postgresql.Driver"
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    public static ConfigurableApplicationContext start(String... args) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--spring.profiles.active=bench");
+        arguments.addAll(Arrays.asList(args));
+        String extra = System.getenv("TIKKIT_BENCH_ARGS");
+        if (extra != null && !extra.isBlank()) {
+            arguments.addAll(Arrays.asList(extra.trim().split("\\s+")));
+        }
+        return new SpringApplicationBuilder(TikkitApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    public static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+}
@@ -0,0 +1,69 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.user.dto.UserBulkRegisterResult;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 회원가입 처리량(rows/sec)을 JDBC 배치 크기별로 측정한다.
+ * 해싱 비용이 insert 비용을 가리지 않도록 BCrypt 강도를 최소(4)로 낮춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkRegisterBenchmark.ROWS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class BulkRegisterBenchmark {
+
+    static final int ROWS = 2_000;
+
+    @Param({"1", "10", "50", "100", "500", "1000"})
+    int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--tikkit.user.bulk.chunk-size=1000",
+                "--tikkit.security.password.bcrypt-strength=4"
+        );
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserBulkRegisterResult> registerAll() {
+        List<User> users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            users.add(User.of("bulk" + (sequence++) + "@tikkit.com", "password1234", "벤치", "01012345678"));
+        }
+        return userService.registerAll(users);
+    }
+}
@@ -0,0 +1,103 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.event.catalog.CatalogSnapshot;
+import com.tikkit.api.event.catalog.CatalogSnapshots;
+import com.tikkit.api.event.dto.EventResponse;
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공연 목록(공연 500개): 요청마다 JPA 로 읽어 Jackson 으로 직렬화하는 비용(renderFromJpa, HTTP 제외)과
+ * 카탈로그 스냅샷을 HTTP 로 받는 비용 비교. sendfile=false 면 매핑된 버퍼를 응답 스트림으로 쓴다.
+ * snapshotIdentity 는 gzip 을 받지 않는 클라이언트(서버에서 압축 해제), notModified 는 ETag 재검증(304).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogSnapshotBenchmark {
+
+    private static final int EVENTS = 500;
+
+    @Param({"true", "false"})
+    boolean sendfile;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private PreSerializedResponses preSerializedResponses;
+    private HttpClient http;
+    private HttpRequest gzip;
+    private HttpRequest identity;
+    private HttpRequest revalidate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--tikkit.catalog.snapshot.sendfile=" + sendfile);
+        eventRepository = context.getBean(EventRepository.class);
+        preSerializedResponses = context.getBean(PreSerializedResponses.class);
+
+        List<Event> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(Event.of("2025 TIKKIT 콘서트 " + i + "회차 - 서울 올림픽공원 KSPO DOME", 10_000 + i));
+        }
+        eventRepository.saveAll(events);
+        CatalogSnapshots catalogSnapshots = context.getBean(CatalogSnapshots.class);
+        catalogSnapshots.refresh();
+        CatalogSnapshot listing = catalogSnapshots.find(CatalogSnapshots.EVENTS).orElseThrow();
+        System.out.printf("listing json=%d bytes gzip=%d bytes%n", listing.jsonLength(), listing.gzippedLength());
+
+        http = HttpClient.newHttpClient();
+        URI uri = URI.create(BenchmarkContext.baseUrl(context) + "/api/events");
+        gzip = HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").build();
+        identity = HttpRequest.newBuilder(uri).build();
+        revalidate = HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip")
+                .header("If-None-Match", listing.gzipEtag()).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] renderFromJpa() {
+        return preSerializedResponses.serialize(ApiResponse.success(
+                eventRepository.findAll().stream().map(EventResponse::from).toList()));
+    }
+
+    @Benchmark
+    public byte[] snapshotGzip() throws IOException, InterruptedException {
+        return http.send(gzip, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public byte[] snapshotIdentity() throws IOException, InterruptedException {
+        return http.send(identity, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public int notModified() throws IOException, InterruptedException {
+        return http.send(revalidate, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,93 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.index.EmailExistenceIndex;
+import com.tikkit.api.user.repository.UserRepository;
+import com.tikkit.api.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 중복 확인: 인덱스를 거친 조회와 UserRepository.existsByEmail 직접 호출 비교.
+ * absentRatio 는 조회 대상 중 가입되지 않은 이메일의 비율(가입 폭주 시에는 대부분 미가입).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class EmailExistenceBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailExistenceBenchmark.class);
+    private static final int SEEDED_USERS = 10_000;
+    private static final int LOOKUP_KEYS = 4_096;
+
+    @Param({"0.9", "0.5"})
+    double absentRatio;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserService userService;
+    private EmailExistenceIndex index;
+    private String[] lookups;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        userService = context.getBean(UserService.class);
+        index = context.getBean(EmailExistenceIndex.class);
+
+        List<User> users = new ArrayList<>(SEEDED_USERS);
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            users.add(User.of("member" + i + "@tikkit.com", "{noop}password", "벤치", "01000000000"));
+        }
+        userRepository.saveAll(users);
+        index.refresh();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        lookups = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            lookups[i] = random.nextDouble() < absentRatio
+                    ? "visitor" + random.nextInt(1_000_000) + "@tikkit.com"
+                    : "member" + random.nextInt(SEEDED_USERS) + "@tikkit.com";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        log.info("email index hits={} misses={} falsePositives={}",
+                index.getHitCount(), index.getMissCount(), index.getFalsePositiveCount());
+        context.close();
+    }
+
+    @Benchmark
+    public boolean repository() {
+        return userRepository.existsByEmail(nextEmail());
+    }
+
+    @Benchmark
+    public boolean indexed() {
+        return userService.isEmailDuplicated(nextEmail());
+    }
+
+    private String nextEmail() {
+        return lookups[ThreadLocalRandom.current().nextInt(LOOKUP_KEYS)];
+    }
+}
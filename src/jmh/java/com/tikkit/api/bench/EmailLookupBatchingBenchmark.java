@@ -0,0 +1,95 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.index.EmailExistenceIndex;
+import com.tikkit.api.user.repository.UserRepository;
+import com.tikkit.api.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이메일 중복 확인을 묶을 때(tikkit.user.email-lookup)와 요청마다 조회할 때 비교.
+ * window=off 는 묶지 않음, 0ms 는 조회 중에 쌓인 것만 묶음, 그 외는 첫 요청 뒤로 그만큼 더 기다린다.
+ * 모두 가입된 이메일을 조회해 블룸 필터가 DB 조회를 건너뛰지 않게 한다. SampleTime 으로 p99 를 보고,
+ * 끝나면 확인 1000건당 DB 조회 수와 평균 묶음 크기를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Threads(32)
+public class EmailLookupBatchingBenchmark {
+
+    private static final int SEEDED_USERS = 10_000;
+
+    @Param({"off", "0ms", "1ms", "5ms"})
+    String window;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private MeterRegistry meterRegistry;
+    private final LongAdder lookups = new LongAdder();
+    private double queriesBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean enabled = !"off".equals(window);
+        context = BenchmarkContext.start(
+                "--tikkit.user.email-lookup.enabled=" + enabled,
+                "--tikkit.user.email-lookup.window=" + (enabled ? window : "0ms"));
+        userService = context.getBean(UserService.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+
+        List<User> users = new ArrayList<>(SEEDED_USERS);
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            users.add(User.of("member" + i + "@tikkit.com", "{noop}password", "벤치", "01000000000"));
+        }
+        context.getBean(UserRepository.class).saveAll(users);
+        context.getBean(EmailExistenceIndex.class).refresh();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        lookups.reset();
+        queriesBefore = meterRegistry.counter("tikkit.user.email-lookup.queries").count();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounts() {
+        double queries = meterRegistry.counter("tikkit.user.email-lookup.queries").count() - queriesBefore;
+        System.out.printf("window=%s lookups=%d queries=%.0f queriesPer1000=%.1f avgBatch=%.1f%n",
+                window, lookups.sum(), queries, queries * 1000 / Math.max(1, lookups.sum()),
+                lookups.sum() / Math.max(1, queries));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean isEmailDuplicated() {
+        lookups.increment();
+        return userService.isEmailDuplicated("member" + ThreadLocalRandom.current().nextInt(SEEDED_USERS) + "@tikkit.com");
+    }
+}
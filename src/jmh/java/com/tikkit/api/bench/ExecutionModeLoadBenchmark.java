@@ -0,0 +1,77 @@
+package com.tikkit.api.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 풀)와 가상 스레드(virtual 프로필) 모드의 HTTP 부하 비교.
+ * 클라이언트 동시성을 Tomcat 기본 스레드 수(200)보다 크게 잡는다.
+ * DB 대기 시간이 있어야 차이가 드러나므로 TIKKIT_BENCH_ARGS 로 로컬 PostgreSQL 을 붙여 돌리는 것을 권장한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class ExecutionModeLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    String mode;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                "--tikkit.security.password.bcrypt-strength=4"
+        );
+        baseUrl = BenchmarkContext.baseUrl(context);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int checkEmail() throws Exception {
+        String email = "visitor" + ThreadLocalRandom.current().nextInt(1_000_000) + "@tikkit.com";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/check-email?email=" + email)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int register() throws Exception {
+        String body = """
+                {"email":"load%d@tikkit.com","password":"password1234","name":"부하","phone":"01012345678"}
+                """.formatted(sequence.incrementAndGet());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
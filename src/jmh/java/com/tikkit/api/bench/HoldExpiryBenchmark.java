@@ -0,0 +1,82 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.concurrent.HierarchicalTimingWheel;
+import com.tikkit.api.global.concurrent.HierarchicalTimingWheel.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 선점 만료 예약 비용: pending 개의 선점이 걸려 있는 상태에서 선점 1건 등록 + 해제(취소).
+ * 타이밍 휠은 O(1), ScheduledThreadPoolExecutor 는 힙이라 O(log n) 이고 선점마다 Future 객체가 남는다.
+ * expireBatch 는 pending 개를 한 번에 만료시키는 데 드는 시간(틱 한 번에 몰려도 감당되는지).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HoldExpiryBenchmark {
+
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    @Param({"10000", "1000000"})
+    int pending;
+
+    private HierarchicalTimingWheel<Integer> wheel;
+    private ScheduledThreadPoolExecutor executor;
+    private final Runnable noop = () -> { };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        wheel = new HierarchicalTimingWheel<>(100, 6, 0);
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < pending; i++) {
+            long deadline = TTL_MILLIS + random.nextLong(TTL_MILLIS);
+            wheel.schedule(i, deadline);
+            executor.schedule(noop, deadline, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean timingWheelScheduleCancel() {
+        Timeout<Integer> timeout = wheel.schedule(-1, TTL_MILLIS + ThreadLocalRandom.current().nextLong(TTL_MILLIS));
+        return wheel.cancel(timeout);
+    }
+
+    @Benchmark
+    public boolean scheduledFutureScheduleCancel() {
+        ScheduledFuture<?> future = executor.schedule(noop,
+                TTL_MILLIS + ThreadLocalRandom.current().nextLong(TTL_MILLIS), TimeUnit.MILLISECONDS);
+        return future.cancel(false);
+    }
+
+    // 매 호출마다 새 휠을 채우므로 채우는 비용이 포함된다: 결과를 pending 으로 나누면 선점당 등록+만료 비용
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int expireBatch() {
+        HierarchicalTimingWheel<Integer> batch = new HierarchicalTimingWheel<>(100, 6, 0);
+        for (int i = 0; i < pending; i++) {
+            batch.schedule(i, TTL_MILLIS + (i % 1_000));
+        }
+        return batch.advance(2 * TTL_MILLIS).size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.tikkit.api.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 두 JMH JSON 결과(기준 커밋, 비교 커밋)를 벤치마크+파라미터 단위로 맞춰 변화율을 출력한다.
+ * 처리량(thrpt)은 높을수록, 그 외 모드(avgt, sample, ss)는 낮을수록 좋은 것으로 본다.
+ * 허용치를 넘는 성능 저하가 하나라도 있으면 종료 코드 1 로 끝난다.
+ *
+ * 사용법: JmhResultComparator <baseline.json> <candidate.json> [maxRegression(기본 0.05)]
+ */
+public final class JmhResultComparator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private JmhResultComparator() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhResultComparator <baseline.json> <candidate.json> [maxRegression]");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> candidate = read(Path.of(args[1]));
+        double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : 0.05;
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "candidate", "change");
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", after.score(), "new");
+                continue;
+            }
+            double change = (after.score() - before.score()) / before.score();
+            double improvement = after.higherIsBetter() ? change : -change;
+            boolean regressed = improvement < -maxRegression;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %s %s%n",
+                    entry.getKey(), before.score(), after.score(), change * 100, after.unit(), regressed ? "REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, maxRegression * 100);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : OBJECT_MAPPER.readTree(Files.readAllBytes(path))) {
+            String mode = run.path("mode").asText();
+            JsonNode metric = run.path("primaryMetric");
+            results.put(key(run, mode), new Result(
+                    metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText(),
+                    "thrpt".equals(mode)
+            ));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run, String mode) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText()).append(" [").append(mode).append(']');
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+        fields.forEachRemaining(field -> params.put(field.getKey(), field.getValue().asText()));
+        params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        return key.toString();
+    }
+
+    private record Result(double score, String unit, boolean higherIsBetter) {
+    }
+}
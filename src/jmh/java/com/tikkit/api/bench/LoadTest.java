@@ -0,0 +1,350 @@
+package com.tikkit.api.bench;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전 구간(HTTP → 필터 → 서비스 → 커넥션 풀 → DB) 부하 시험. JMH 와 달리 꼬리 지연, 풀 포화, GC 멈춤이 그대로 보인다.
+ *
+ * 열린 모델(open loop): 응답을 기다리지 않고 정해진 도착률로 요청을 보낸다. i 번째 요청의 예정 시각은 start + i/rate 이고,
+ * 지연은 응답 시각 - 예정 시각으로 잰다. 서버(또는 발생기 자신)가 멈춰 요청을 제때 못 보낸 시간도 지연에 들어가므로
+ * 닫힌 모델의 coordinated omission(느린 구간에 표본이 적게 잡혀 꼬리가 실제보다 좋아 보이는 것)이 생기지 않는다.
+ * 비교용으로 실제 전송 시각부터 잰 서비스 시간도 함께 남긴다.
+ *
+ * target 이 없으면 TikkitApplication 을 같은 JVM 에 bench 프로필(H2)로 띄운다. PostgreSQL 은 TIKKIT_BENCH_ARGS 로 붙인다(BenchmarkContext).
+ * 결과는 엔드포인트별 HdrHistogram 백분위 분포(.hgrm, ms)와 요약(summary.txt)으로 reports 디렉터리에 남고,
+ * SLO 를 하나라도 어기면 종료 코드 1 로 끝난다.
+ *
+ * 인자(key=value): rate(초당 요청, 기본 50), duration(60s), warmup(10s),
+ *   mix(check-email:9,register:1), slo(check-email:p99<=50ms,register:p99<=1000ms), maxErrorRate(0.001),
+ *   target(http://localhost:8080), reports(디렉터리), timeout(10s), maxInFlight(10000)
+ */
+public final class LoadTest {
+
+    private static final String CHECK_EMAIL = "check-email";
+    private static final String REGISTER = "register";
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Random random = new Random(42);
+    private final AtomicLong registered = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // register 는 고유 이메일이 필요하다: 실행마다 접두사를 바꿔 같은 DB 에 다시 돌려도 중복이 나지 않게 한다
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private LoadTest(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int rate = Integer.parseInt(options.getOrDefault("rate", "50"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        Map<String, Integer> mix = weights(options.getOrDefault("mix", CHECK_EMAIL + ":9," + REGISTER + ":1"));
+        List<Slo> slos = slos(options.getOrDefault("slo", CHECK_EMAIL + ":p99<=50ms," + REGISTER + ":p99<=1000ms"));
+        double maxErrorRate = Double.parseDouble(options.getOrDefault("maxErrorRate", "0.001"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("maxInFlight", "10000"));
+        Path reports = Path.of(options.getOrDefault("reports", "build/load-reports"))
+                .resolve(String.valueOf(System.currentTimeMillis()));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.get("target");
+        if (target == null) {
+            // devtools 가 클래스패스에 있으면 호출한 main(이 클래스)을 스프링 인자로 다시 실행한다
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            context = BenchmarkContext.start();
+            target = BenchmarkContext.baseUrl(context);
+        }
+        boolean passed;
+        try {
+            LoadTest loadTest = new LoadTest(target, duration(options.getOrDefault("timeout", "10s")));
+            System.out.printf("target %s, %d req/s, mix %s, warmup %s, duration %s%n", target, rate, mix, warmup, duration);
+            loadTest.run(rate, warmup, mix, maxInFlight, null);
+            Map<String, Result> results = new LinkedHashMap<>();
+            mix.keySet().forEach(endpoint -> results.put(endpoint, new Result()));
+            GcSnapshot gcBefore = GcSnapshot.take();
+            long acquiresBefore = acquireCount(context);
+            loadTest.run(rate, duration, mix, maxInFlight, results);
+            GcSnapshot gc = GcSnapshot.take().minus(gcBefore);
+
+            passed = report(results, slos, maxErrorRate, gc, context, acquiresBefore, rate, duration, reports);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * 한 스레드가 예정 시각마다 비동기로 보낸다. 발생기가 밀려도 예정 시각은 그대로라 밀린 만큼 지연에 잡힌다.
+     * results 가 null 이면 예열(기록하지 않음)이다.
+     */
+    private void run(int rate, Duration duration, Map<String, Integer> mix, int maxInFlight, Map<String, Result> results)
+            throws InterruptedException {
+        List<String> schedule = expand(mix);
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.toSeconds() * rate;
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * periodNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String endpoint = schedule.get(random.nextInt(schedule.size()));
+            Result result = results == null ? null : results.get(endpoint);
+            if (inFlight.get() >= maxInFlight) {
+                // 서버가 받지 못하는 만큼 쌓인다: 보내지 않고 실패로 센다(열린 모델에서 대기열은 끝없이 늘 수 있다)
+                if (result != null) {
+                    result.dropped.increment();
+                }
+                continue;
+            }
+            send(endpoint, intended, result);
+        }
+        while (inFlight.get() > 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private void send(String endpoint, long intended, Result result) {
+        HttpRequest request = request(endpoint);
+        long sent = System.nanoTime();
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            long done = System.nanoTime();
+            inFlight.decrementAndGet();
+            if (result == null) {
+                return;
+            }
+            result.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(done - intended));
+            result.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(done - sent));
+            if (error != null || response.statusCode() >= 400) {
+                result.errors.increment();
+            }
+        });
+    }
+
+    // check-email 은 절반은 가입된 이메일, 절반은 없는 이메일(블룸 필터가 DB 없이 답하는 경로)을 묻는다
+    private HttpRequest request(String endpoint) {
+        if (REGISTER.equals(endpoint)) {
+            String body = """
+                    {"email":"load-%s-%d@tikkit.com","password":"password1234","name":"부하","phone":"01012345678"}
+                    """.formatted(runId, registered.incrementAndGet());
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/register"))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        long known = registered.get();
+        String email = random.nextBoolean() && known > 0
+                ? "load-" + runId + "-" + (1 + random.nextLong(known)) + "@tikkit.com"
+                : "visitor-" + random.nextInt(1_000_000) + "@tikkit.com";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/check-email?email=" + email))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    private static boolean report(Map<String, Result> results, List<Slo> slos, double maxErrorRate, GcSnapshot gc,
+                                  ConfigurableApplicationContext context, long acquiresBefore,
+                                  int rate, Duration duration, Path reports) throws IOException {
+        Files.createDirectories(reports);
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d req/s for %s%n", rate, duration));
+        summary.append(String.format("%-12s %8s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "dropped", "p50", "p90", "p99", "p99.9", "p99.99", "max"));
+        boolean passed = true;
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            summary.append(row(entry.getKey(), result, result.latency));
+            summary.append(row("  (service)", result, result.serviceTime));
+            writeDistribution(reports.resolve(entry.getKey() + ".hgrm"), result.latency);
+            writeDistribution(reports.resolve(entry.getKey() + "-service.hgrm"), result.serviceTime);
+
+            long attempts = result.latency.getTotalCount() + result.dropped.sum();
+            double errorRate = attempts == 0 ? 0 : (double) (result.errors.sum() + result.dropped.sum()) / attempts;
+            if (errorRate > maxErrorRate) {
+                passed = false;
+                summary.append(String.format("FAIL %s error rate %.4f > %.4f%n", entry.getKey(), errorRate, maxErrorRate));
+            }
+        }
+        for (Slo slo : slos) {
+            Result result = results.get(slo.endpoint());
+            if (result == null) {
+                continue;
+            }
+            double actualMillis = result.latency.getValueAtPercentile(slo.percentile()) / 1000.0;
+            boolean met = actualMillis <= slo.thresholdMillis();
+            passed &= met;
+            summary.append(String.format("%s %s p%s %.1f ms <= %.1f ms%n",
+                    met ? "PASS" : "FAIL", slo.endpoint(), format(slo.percentile()), actualMillis, slo.thresholdMillis()));
+        }
+        // 같은 JVM 에 띄웠으면 발생기의 GC 도 포함된다
+        summary.append(String.format("gc: %d collections, %d ms total%n", gc.count(), gc.millis()));
+        if (context != null) {
+            Timer acquire = context.getBean(MeterRegistry.class).find("hikaricp.connections.acquire").timer();
+            if (acquire != null) {
+                summary.append(String.format("hikari acquire: %d, max %.1f ms%n",
+                        acquire.count() - acquiresBefore, acquire.max(TimeUnit.MILLISECONDS)));
+            }
+        }
+        summary.append(passed ? "RESULT: PASS" : "RESULT: FAIL").append(System.lineSeparator());
+        System.out.print(summary);
+        Files.writeString(reports.resolve("summary.txt"), summary);
+        System.out.println("reports: " + reports.toAbsolutePath());
+        return passed;
+    }
+
+    private static String row(String name, Result result, Histogram histogram) {
+        StringBuilder row = new StringBuilder(String.format("%-12s %8d %7d %7d",
+                name, histogram.getTotalCount(), result.errors.sum(), result.dropped.sum()));
+        for (double percentile : REPORTED_PERCENTILES) {
+            row.append(String.format(" %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        row.append(String.format(" %9.2f%n", histogram.getMaxValue() / 1000.0));
+        return row.toString();
+    }
+
+    private static void writeDistribution(Path path, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static long acquireCount(ConfigurableApplicationContext context) {
+        if (context == null) {
+            return 0;
+        }
+        Timer acquire = context.getBean(MeterRegistry.class).find("hikaricp.connections.acquire").timer();
+        return acquire == null ? 0 : acquire.count();
+    }
+
+    private static List<String> expand(Map<String, Integer> mix) {
+        List<String> schedule = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(endpoint);
+            }
+        });
+        return schedule;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> weights(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (!CHECK_EMAIL.equals(pair[0]) && !REGISTER.equals(pair[0])) {
+                throw new IllegalArgumentException("unknown endpoint: " + pair[0]);
+            }
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+
+    // check-email:p99<=50ms
+    private static List<Slo> slos(String spec) {
+        List<Slo> slos = new ArrayList<>();
+        if (spec.isBlank()) {
+            return slos;
+        }
+        for (String part : spec.split(",")) {
+            String[] endpointAndRule = part.trim().split(":");
+            String[] percentileAndThreshold = endpointAndRule[1].split("<=");
+            slos.add(new Slo(endpointAndRule[0],
+                    Double.parseDouble(percentileAndThreshold[0].substring(1)),
+                    duration(percentileAndThreshold[1]).toNanos() / 1_000_000.0));
+        }
+        return slos;
+    }
+
+    // 10s, 500ms, 2m
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("duration: " + value);
+        };
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static final class Result {
+        // 마이크로초. 자동 확장이라 최댓값을 미리 정하지 않는다
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+
+    private record Slo(String endpoint, double percentile, double thresholdMillis) {
+    }
+
+    private record GcSnapshot(long count, long millis) {
+        static GcSnapshot take() {
+            long count = 0;
+            long millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(gc.getCollectionCount(), 0);
+                millis += Math.max(gc.getCollectionTime(), 0);
+            }
+            return new GcSnapshot(count, millis);
+        }
+
+        GcSnapshot minus(GcSnapshot before) {
+            return new GcSnapshot(count - before.count, millis - before.millis);
+        }
+    }
+}
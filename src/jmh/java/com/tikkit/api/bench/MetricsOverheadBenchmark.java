@@ -0,0 +1,72 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.metrics.ErrorMetrics;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.service.UserMetrics;
+import com.tikkit.api.user.service.UserValidator;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계측 비용: 검증을 그대로 호출한 경우와 히스토그램 Timer 로 감싼 경우, 오류 카운터 증가.
+ * 운영과 같이 백분위 히스토그램을 켠 Prometheus 레지스트리를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class MetricsOverheadBenchmark {
+
+    private final User valid = User.of("member1234@tikkit.com", "password1234", "이재훈", "01012345678");
+
+    private UserMetrics userMetrics;
+    private ErrorMetrics errorMetrics;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        });
+        userMetrics = new UserMetrics(registry);
+        errorMetrics = new ErrorMetrics(registry);
+    }
+
+    @Benchmark
+    public User validateDirect() {
+        UserValidator.validate(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public User validateTimed() {
+        userMetrics.record(UserMetrics.Stage.VALIDATE, () -> UserValidator.validate(valid));
+        return valid;
+    }
+
+    @Benchmark
+    public void errorCounter() {
+        errorMetrics.increment("validation", ErrorCode.INVALID_EMAIL_FORMAT);
+    }
+}
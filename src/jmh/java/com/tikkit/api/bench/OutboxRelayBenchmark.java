@@ -0,0 +1,84 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.outbox.OutboxProperties;
+import com.tikkit.api.global.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이 처리량(메시지/초): 밀린 1만 건을 비우는 데 걸리는 시간. 싱크는 아무것도 하지 않는다.
+ * batchSize=1 은 행마다 트랜잭션을 여는 단건 릴레이와 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(OutboxRelayBenchmark.BACKLOG)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class OutboxRelayBenchmark {
+
+    static final int BACKLOG = 10_000;
+    private static final String INSERT_SQL = "insert into outbox_events "
+            + "(id, aggregate_type, aggregate_id, event_type, payload, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    @Param({"1", "50", "500"})
+    int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private OutboxRelay relay;
+    private long nextId = 1_000_000;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--tikkit.outbox.relay-enabled=false");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        OutboxProperties properties = new OutboxProperties(true, Duration.ofHours(1), batchSize,
+                Integer.MAX_VALUE, "none", "unused");
+        relay = new OutboxRelay(jdbcTemplate, context.getBean(TransactionOperations.class),
+                messages -> { }, properties, new SimpleMeterRegistry());
+    }
+
+    @Setup(Level.Invocation)
+    public void fillBacklog() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(BACKLOG);
+        for (int i = 0; i < BACKLOG; i++) {
+            long id = nextId++;
+            rows.add(new Object[]{id, "user", Long.toString(id), "user.registered",
+                    "{\"userId\":" + id + ",\"email\":\"bench" + id + "@tikkit.com\",\"name\":\"bench\"}", now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int drain() {
+        return relay.drain();
+    }
+}
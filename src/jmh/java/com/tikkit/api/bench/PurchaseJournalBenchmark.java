@@ -0,0 +1,92 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.purchase.journal.PurchaseJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구매 저널의 묶음 확정(group commit) 비교. 테이블 반영(PurchaseProjector)은 측정 중에 돌지 않게 한다.
+ * window=each 는 기록마다 fsync(maxBatchSize=1, 건마다 커밋하는 DB 와 같은 내구성 비용),
+ * 그 외는 첫 기록 뒤로 그만큼 더 모아 fsync 한 번으로 확정한다.
+ * 임시 디렉터리가 tmpfs 일 수 있어 실제 디스크(build/)에 쓴다. 반복마다 기록 1000건당 fsync 수를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Threads(32)
+public class PurchaseJournalBenchmark {
+
+    private static final int[] SEATS = {1, 2};
+
+    @Param({"each", "0ms", "1ms", "2ms"})
+    String window;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private MeterRegistry meterRegistry;
+    private PurchaseJournal journal;
+    private double appendsBefore;
+    private double fsyncsBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory(Files.createDirectories(Path.of("build", "jmh-journal")), "purchases");
+        boolean each = "each".equals(window);
+        context = BenchmarkContext.start(
+                "--tikkit.purchase.journal.directory=" + directory.toAbsolutePath(),
+                "--tikkit.purchase.journal.commit-window=" + (each ? "0ms" : window),
+                "--tikkit.purchase.journal.max-batch-size=" + (each ? 1 : 1000),
+                "--tikkit.purchase.journal.queue-capacity=100000",
+                "--tikkit.purchase.journal.projector-enabled=false");
+        meterRegistry = context.getBean(MeterRegistry.class);
+        journal = context.getBean(PurchaseJournal.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        appendsBefore = meterRegistry.counter("tikkit.purchase.journal.appends").count();
+        fsyncsBefore = meterRegistry.counter("tikkit.purchase.journal.fsyncs").count();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounts() {
+        double appends = meterRegistry.counter("tikkit.purchase.journal.appends").count() - appendsBefore;
+        double fsyncs = meterRegistry.counter("tikkit.purchase.journal.fsyncs").count() - fsyncsBefore;
+        System.out.printf("window=%s appends=%.0f fsyncs=%.0f fsyncsPer1000=%.1f%n",
+                window, appends, fsyncs, appends == 0 ? 0 : fsyncs * 1000 / appends);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long append() {
+        long userId = ThreadLocalRandom.current().nextLong(1, 100_000);
+        return journal.append(userId, 1L, System.currentTimeMillis(), SEATS).join();
+    }
+}
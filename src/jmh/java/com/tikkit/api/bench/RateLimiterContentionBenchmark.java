@@ -0,0 +1,93 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.ratelimit.GcraRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64 스레드 동시 요청에서 GcraRateLimiter 와 전역 락 기반 토큰 버킷 비교.
+ * hotKey 는 모두 같은 IP(최악의 CAS 경합), spreadKeys 는 4096 개 IP 에 고르게 분산된 경우.
+ * permitsPerSecond 가 크면 대부분 허용(상태 갱신), 작으면 대부분 거부(읽기만) 경로를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+public class RateLimiterContentionBenchmark {
+
+    private static final int KEYS = 4_096;
+
+    @Param({"1000000000", "10"})
+    int permitsPerSecond;
+
+    private GcraRateLimiter gcra;
+    private LockingTokenBucket locking;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        gcra = new GcraRateLimiter(permitsPerSecond, Duration.ofSeconds(1), 20, 100_000);
+        locking = new LockingTokenBucket(permitsPerSecond, 20);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10.0." + (i >> 8) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public long gcraHotKey() {
+        return gcra.tryAcquire(keys[0]);
+    }
+
+    @Benchmark
+    public long gcraSpreadKeys() {
+        return gcra.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public boolean lockingHotKey() {
+        return locking.tryAcquire(keys[0]);
+    }
+
+    @Benchmark
+    public boolean lockingSpreadKeys() {
+        return locking.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    // 비교 대상: 흔한 synchronized + HashMap 토큰 버킷
+    static class LockingTokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private final Map<String, double[]> buckets = new HashMap<>();
+
+        LockingTokenBucket(int permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / 1e9;
+            this.capacity = burst;
+        }
+
+        synchronized boolean tryAcquire(String key) {
+            long now = System.nanoTime();
+            double[] bucket = buckets.computeIfAbsent(key, k -> new double[]{capacity, now});
+            bucket[0] = Math.min(capacity, bucket[0] + (now - bucket[1]) * permitsPerNano);
+            bucket[1] = now;
+            if (bucket[0] < 1) {
+                return false;
+            }
+            bucket[0] -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import com.tikkit.api.user.service.UserService;
+import com.tikkit.api.user.service.UserValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원가입 처리량: 트랜잭션 안에서 BCrypt 를 돌리던 기존 방식(inTransaction)과
+ * 전용 해싱 풀에서 먼저 해싱한 뒤 짧은 트랜잭션으로 저장하는 방식(hashFirst) 비교.
+ * 커넥션 풀을 작게 잡아 풀 고갈이 처리량에 미치는 영향을 드러낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class RegisterThroughputBenchmark {
+
+    @Param({"hashFirst", "inTransaction"})
+    String mode;
+
+    @Param({"4"})
+    int poolSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--spring.datasource.hikari.maximum-pool-size=" + poolSize);
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        passwordEncoder = context.getBean(PasswordEncoder.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User register() {
+        User user = User.of("bench" + sequence.incrementAndGet() + "@tikkit.com", "password1234", "벤치", "01012345678");
+        return "hashFirst".equals(mode) ? userService.register(user) : registerInTransaction(user);
+    }
+
+    // 변경 전 UserServiceImpl.register 와 같은 순서
+    private User registerInTransaction(User user) {
+        return transactionTemplate.execute(status -> {
+            UserValidator.validate(user);
+            if (userRepository.existsByEmail(user.getEmail())) {
+                throw new ValidationException(ErrorCode.DUPLICATE_EMAIL, ErrorCode.DUPLICATE_EMAIL.getMessage());
+            }
+            return userRepository.save(User.of(
+                    user.getEmail(),
+                    passwordEncoder.encode(user.getPassword()),
+                    user.getName(),
+                    user.getPhone()
+            ));
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.entity.Seat;
+import com.tikkit.api.event.entity.SeatStatus;
+import com.tikkit.api.event.repository.SeatRepository;
+import com.tikkit.api.event.service.SeatService;
+import com.tikkit.api.global.exception.ConflictException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10만 석 공연에 1만 명이 동시에 좌석을 잡는 상황(가상 스레드 1만 개).
+ * 각 사용자는 임의의 좌석을 한 번 잡아 보고, 성공하면 바로 놓아 좌석표가 가득 차지 않게 유지한다.
+ * inventory: 메모리 좌석표(CAS) + write-behind, selectForUpdate: 매 시도마다 트랜잭션 + SELECT ... FOR UPDATE.
+ * seatRange 를 줄이면 인기 구역에 몰리는 경합을 흉내 낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(SeatHoldBenchmark.HOLDERS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+public class SeatHoldBenchmark {
+
+    static final int HOLDERS = 10_000;
+    private static final int SEATS = 100_000;
+
+    @Param({"inventory", "selectForUpdate"})
+    String implementation;
+
+    @Param({"100000", "1000"})
+    int seatRange;
+
+    private ConfigurableApplicationContext context;
+    private SeatService seatService;
+    private NaiveSeatHolds naive;
+    private long eventId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        seatService = context.getBean(SeatService.class);
+        naive = new NaiveSeatHolds(context.getBean(SeatRepository.class),
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class)));
+        Event event = seatService.createEvent("bench", SEATS);
+        eventId = event.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int holdAndRelease() throws Exception {
+        boolean useInventory = "inventory".equals(implementation);
+        List<Future<Boolean>> results = new ArrayList<>(HOLDERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < HOLDERS; i++) {
+                long userId = i + 1;
+                results.add(executor.submit(() -> {
+                    int seatNo = ThreadLocalRandom.current().nextInt(seatRange);
+                    return useInventory ? holdInMemory(seatNo, userId) : naive.holdAndRelease(eventId, seatNo, userId);
+                }));
+            }
+        }
+        int held = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                held++;
+            }
+        }
+        return held;
+    }
+
+    private boolean holdInMemory(int seatNo, long userId) {
+        try {
+            seatService.hold(eventId, seatNo, userId);
+        } catch (ConflictException e) {
+            return false;
+        }
+        seatService.release(eventId, seatNo, userId);
+        return true;
+    }
+
+    // 비교 대상: 좌석 행을 잠그고 상태를 바꾸는 전형적인 구현
+    static class NaiveSeatHolds {
+        private final SeatRepository seatRepository;
+        private final TransactionTemplate transactionTemplate;
+
+        NaiveSeatHolds(SeatRepository seatRepository, TransactionTemplate transactionTemplate) {
+            this.seatRepository = seatRepository;
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        boolean holdAndRelease(long eventId, int seatNo, long userId) {
+            Boolean held = transactionTemplate.execute(status -> {
+                Seat seat = seatRepository.findForUpdate(eventId, seatNo).orElseThrow();
+                if (seat.getStatus() != SeatStatus.AVAILABLE) {
+                    return false;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                seat.hold(userId, now, now.plusMinutes(5));
+                return true;
+            });
+            if (!Boolean.TRUE.equals(held)) {
+                return false;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    seatRepository.findForUpdate(eventId, seatNo).orElseThrow().release(LocalDateTime.now()));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.tikkit.api.bench;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 모드별로 새 JVM 을 띄워 잰다(JMH 는 한 JVM 안에서 반복하므로 기동 시간을 잴 수 없다).
+ * - ready: 프로세스 시작 → readiness 200
+ * - first: readiness 직후 첫 요청(check-email, 인증 없이 DB 까지 가는 경로)의 응답 시간
+ * - total: 둘의 합. 로드밸런서가 새 인스턴스로 처음 보낸 요청이 끝나기까지의 시간이다.
+ * 모드: default, cds, (aot 빌드면) aot, aot+cds, 그리고 가장 빠른 조합에 예열(tikkit.startup.warmup)을 켠 것.
+ * build/cds 의 jar 와 아카이브는 ./gradlew cdsArchive [-Paot] 가 만든다. 프로세스 로그는 build/cds/startup-*.log 에 남는다.
+ *
+ * 사용법: StartupBenchmark <java> <cdsDir> <jar> <aot(true|false)> <runs> [앱 인자...]
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String FIRST_REQUEST_PATH = "/api/users/check-email?email=startup@tikkit.invalid";
+
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("usage: StartupBenchmark <java> <cdsDir> <jar> <aot> <runs> [app args...]");
+            System.exit(2);
+        }
+        String java = args[0];
+        Path dir = Path.of(args[1]);
+        String jar = args[2];
+        boolean aot = Boolean.parseBoolean(args[3]);
+        int runs = Integer.parseInt(args[4]);
+        List<String> appArgs = Arrays.asList(args).subList(5, args.length);
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("default", List.of(), false));
+        modes.add(new Mode("cds", List.of("-XX:SharedArchiveFile=app.jsa"), false));
+        if (aot) {
+            modes.add(new Mode("aot", List.of("-Dspring.aot.enabled=true"), false));
+            modes.add(new Mode("aot+cds", List.of("-XX:SharedArchiveFile=app-aot.jsa", "-Dspring.aot.enabled=true"), false));
+        }
+        Mode fastest = modes.get(modes.size() - 1);
+        modes.add(new Mode(fastest.name() + "+warmup", fastest.jvmArgs(), true));
+
+        System.out.printf("%-20s %10s %10s %10s   (median of %d runs, ms)%n", "mode", "ready", "first", "total", runs);
+        for (Mode mode : modes) {
+            long[] ready = new long[runs];
+            long[] first = new long[runs];
+            long[] total = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                Sample sample = measure(java, dir, jar, mode, appArgs, dir.resolve("startup-" + mode.name() + "-" + run + ".log"));
+                ready[run] = sample.readyMillis();
+                first[run] = sample.firstMillis();
+                total[run] = sample.readyMillis() + sample.firstMillis();
+            }
+            System.out.printf("%-20s %10d %10d %10d%n", mode.name(), median(ready), median(first), median(total));
+        }
+    }
+
+    private static Sample measure(String java, Path dir, String jar, Mode mode, List<String> appArgs, Path log)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        int managementPort = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-jar", jar,
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                "--tikkit.startup.warmup.enabled=" + mode.warmup()));
+        command.addAll(appArgs);
+
+        Files.deleteIfExists(log);
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            URI readiness = URI.create("http://localhost:" + managementPort + "/actuator/health/readiness");
+            while (status(readiness) != 200) {
+                if (!process.isAlive() || System.nanoTime() - started > STARTUP_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(mode.name() + " did not become ready, see " + log);
+                }
+                Thread.sleep(5);
+            }
+            long ready = System.nanoTime();
+            int firstStatus = status(URI.create("http://localhost:" + port + FIRST_REQUEST_PATH));
+            long answered = System.nanoTime();
+            if (firstStatus != 200) {
+                throw new IllegalStateException(mode.name() + " first request returned " + firstStatus + ", see " + log);
+            }
+            return new Sample(TimeUnit.NANOSECONDS.toMillis(ready - started), TimeUnit.NANOSECONDS.toMillis(answered - ready));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // 아직 열리지 않은 포트는 0
+    private static int status(URI uri) throws InterruptedException {
+        try {
+            return HTTP.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Mode(String name, List<String> jvmArgs, boolean warmup) {
+    }
+
+    private record Sample(long readyMillis, long firstMillis) {
+    }
+}
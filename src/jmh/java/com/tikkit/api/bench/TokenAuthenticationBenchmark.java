@@ -0,0 +1,75 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.auth.token.TokenClaims;
+import com.tikkit.api.auth.token.TokenProperties;
+import com.tikkit.api.auth.token.TokenProvider;
+import com.tikkit.api.auth.token.TokenType;
+import com.tikkit.api.user.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 하나에 드는 비용: 토큰 검증(캐시된 키) vs 요청마다 키를 초기화하는 HMAC vs 요청마다 BCrypt 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenAuthenticationBenchmark {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private TokenProvider tokenProvider;
+    private String accessToken;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        TokenProperties properties = new TokenProperties(Duration.ofMinutes(15), Duration.ofDays(14),
+                Map.of("k1", Base64.getEncoder().encodeToString(SECRET)), "k1");
+        tokenProvider = new TokenProvider(properties, Clock.systemUTC());
+        accessToken = tokenProvider.issueAccessToken(42L, Role.USER);
+        passwordEncoder = new BCryptPasswordEncoder(10);
+        passwordHash = passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public TokenClaims verifyToken() {
+        return tokenProvider.verify(accessToken, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public String issueToken() {
+        return tokenProvider.issueAccessToken(42L, Role.USER);
+    }
+
+    // 비교 대상: 검증마다 Mac 을 새로 만들고 키를 초기화
+    @Benchmark
+    public byte[] hmacWithoutCachedKey() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        return mac.doFinal(accessToken.substring(0, accessToken.lastIndexOf('.')).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // 비교 대상: 요청마다 비밀번호를 확인하는 방식(HTTP Basic 등)
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean bcryptPerRequest() {
+        return passwordEncoder.matches("password1234", passwordHash);
+    }
+}
@@ -0,0 +1,165 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.datasource.PrimaryStickiness;
+import com.tikkit.api.user.cache.CachedUser;
+import com.tikkit.api.user.cache.UserCache;
+import com.tikkit.api.user.cache.UserCacheProperties;
+import com.tikkit.api.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 조회: Zipf(s=0.99) 분포로 10만 명 중 한 명을 읽는다. 캐시 크기는 회원 수의 1%/10%.
+ * cached 는 UserCache(W-TinyLFU, miss 포함), uncached 는 매번 DB(H2 메모리), hit 는 캐시에 이미 있는 회원만 읽는다.
+ * 끝나면 같은 접근 순서로 캐시 적중률과 요청 1000건당 DB 조회 수를 LRU 와 비교해 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class UserCacheBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int TRACE_LENGTH = 1 << 20;
+    private static final double SKEW = 0.99;
+    private static final String INSERT_SQL = "insert into users "
+            + "(id, email, password, name, phone, role, status, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"1000", "10000"})
+    int cacheSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserCache userCache;
+    private long[] trace;
+    private long[] hot;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+        userCache = newCache();
+        trace = zipfTrace(new SplittableRandom(42));
+        hot = Arrays.copyOf(trace, 1024);
+        for (long id : hot) {
+            userCache.findById(id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        UserCache measured = newCache();
+        for (long id : trace) {
+            measured.findById(id);
+        }
+        double tinyLfu = measured.hitRate();
+        double lru = lruHitRate();
+        System.out.printf("%n  cacheSize=%d  W-TinyLFU hit %.1f%% (%.0f DB/1000 req)  LRU hit %.1f%% (%.0f DB/1000 req)%n",
+                cacheSize, tinyLfu * 100, (1 - tinyLfu) * 1000, lru * 100, (1 - lru) * 1000);
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<CachedUser> cached() {
+        return userCache.findById(trace[next++ & (TRACE_LENGTH - 1)]);
+    }
+
+    @Benchmark
+    public Optional<CachedUser> hit() {
+        return userCache.findById(hot[next++ & (hot.length - 1)]);
+    }
+
+    @Benchmark
+    public Optional<CachedUser> uncached() {
+        return userRepository.findById(trace[next++ & (TRACE_LENGTH - 1)]).map(CachedUser::from);
+    }
+
+    private UserCache newCache() {
+        return new UserCache(userRepository, new UserCacheProperties(true, cacheSize, Duration.ofHours(1)),
+                new PrimaryStickiness(Duration.ZERO));
+    }
+
+    private double lruHitRate() {
+        Map<Long, Boolean> lru = new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        long hits = 0;
+        for (long id : trace) {
+            if (lru.get(id) != null) {
+                hits++;
+            } else {
+                lru.put(id, Boolean.TRUE);
+            }
+        }
+        return (double) hits / trace.length;
+    }
+
+    // 순위 r 의 확률이 1/r^s 에 비례. 누적 분포에서 이분 탐색으로 뽑고, 순위와 id 는 섞어 둔다
+    private static long[] zipfTrace(SplittableRandom random) {
+        double[] cdf = new double[USERS];
+        double sum = 0;
+        for (int rank = 1; rank <= USERS; rank++) {
+            sum += 1 / Math.pow(rank, SKEW);
+            cdf[rank - 1] = sum;
+        }
+        long[] idByRank = new long[USERS];
+        for (int i = 0; i < USERS; i++) {
+            idByRank[i] = i + 1;
+        }
+        for (int i = USERS - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = idByRank[i];
+            idByRank[i] = idByRank[j];
+            idByRank[j] = tmp;
+        }
+        long[] trace = new long[TRACE_LENGTH];
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            trace[i] = idByRank[Math.min(USERS - 1, index < 0 ? -index - 1 : index)];
+        }
+        return trace;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 1; i <= USERS; i++) {
+            batch.add(new Object[]{(long) i, "cache" + i + "@tikkit.com", "{bcrypt}x", "회원" + i, "01012345678",
+                    "USER", "ACTIVE", now, now});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+    }
+}
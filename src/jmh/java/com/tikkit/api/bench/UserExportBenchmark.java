@@ -0,0 +1,158 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.user.dto.AdminUserResponse;
+import com.tikkit.api.user.dto.UserCursor;
+import com.tikkit.api.user.dto.UserExportFormat;
+import com.tikkit.api.user.dto.UserSearchCondition;
+import com.tikkit.api.user.repository.UserQueryRepository;
+import com.tikkit.api.user.service.AdminUserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 5백만 행에서 관리자 목록/내보내기.
+ * deepPageKeyset / deepPageOffset: 앞에서 90% 이상 뒤의 한 페이지(20행)를 키셋과 OFFSET 으로 각각 읽는다.
+ * H2 는 같은 쿼리·같은 파라미터의 결과를 재사용하므로 깊은 위치 여러 곳을 돌아가며 읽는다.
+ * exportCsv: 전체를 CSV 로 내보내며(버리는 스트림) old gen 최대 사용량을 출력한다. 남는 객체가 없으면 행 수와 무관하게 일정하다.
+ * 시딩이 오래 걸리므로 build/bench-db 의 H2 파일 DB 를 재사용한다(행 수가 다르면 다시 채운다).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserExportBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGES = 64;
+    private static final String INSERT_SQL = "insert into users "
+            + "(id, email, password, name, phone, role, status, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final UserSearchCondition ALL = new UserSearchCondition(null, null, null, null);
+
+    @Param({"5000000"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private UserQueryRepository userQueryRepository;
+    private AdminUserService adminUserService;
+    private final UserCursor[] deepCursors = new UserCursor[DEEP_PAGES];
+    private final int[] deepOffsets = new int[DEEP_PAGES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--spring.datasource.url=jdbc:h2:file:./build/bench-db/users-export-" + rows + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.jpa.hibernate.ddl-auto=update");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        userQueryRepository = context.getBean(UserQueryRepository.class);
+        adminUserService = context.getBean(AdminUserService.class);
+        seed();
+        Random random = new Random(42);
+        for (int i = 0; i < DEEP_PAGES; i++) {
+            deepOffsets[i] = rows - rows / 10 + random.nextInt(rows / 10 - PAGE_SIZE);
+            AdminUserResponse anchor = jdbcTemplate.queryForObject(
+                    "select id, created_at from users order by created_at desc, id desc limit 1 offset ?",
+                    (rs, rowNum) -> new AdminUserResponse(rs.getLong("id"), null, null, null, null,
+                            rs.getObject("created_at", LocalDateTime.class), null),
+                    deepOffsets[i] - 1);
+            deepCursors[i] = UserCursor.after(anchor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<AdminUserResponse> deepPageKeyset() {
+        return userQueryRepository.findPage(ALL, deepCursors[next++ & (DEEP_PAGES - 1)], PAGE_SIZE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Long> deepPageOffset() {
+        return jdbcTemplate.queryForList(
+                "select id from users order by created_at desc, id desc limit ? offset ?", Long.class, PAGE_SIZE, deepOffsets[next++ & (DEEP_PAGES - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long exportCsv() throws Exception {
+        MemoryPoolMXBean oldGen = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && (pool.getName().contains("Old") || pool.getName().contains("Tenured")))
+                .findFirst()
+                .orElseThrow();
+        System.gc();
+        long baseline = oldGen.getUsage().getUsed();
+        oldGen.resetPeakUsage();
+        CountingOutputStream out = new CountingOutputStream();
+        long exported = adminUserService.export(ALL, UserExportFormat.CSV, out);
+        System.out.printf("%n  exported %,d rows, %,d MB, old gen baseline %,d MB, peak %,d MB%n",
+                exported, out.bytes >> 20, baseline >> 20, oldGen.getPeakUsage().getUsed() >> 20);
+        return exported;
+    }
+
+    private void seed() {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from users", Long.class);
+        if (existing != null && existing == rows) {
+            return;
+        }
+        jdbcTemplate.update("delete from users");
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 1; i <= rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i / 3));   // 같은 시각이 여럿: id 가 동률을 가른다
+            batch.add(new Object[]{(long) i, "user" + i + "@tikkit.com", "{bcrypt}x", "회원" + i, "01012345678",
+                    i % 1000 == 0 ? "ADMIN" : "USER", i % 7 == 0 ? "INACTIVE" : "ACTIVE", createdAt, createdAt});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+    }
+
+    static final class CountingOutputStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
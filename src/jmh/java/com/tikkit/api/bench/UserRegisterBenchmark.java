@@ -0,0 +1,51 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2 위에서 UserServiceImpl.register 한 건의 지연 시간(검증 + 해싱 + 중복 확인 + insert).
+ * 해싱을 제외한 나머지 비용을 보려면 strength=4 결과를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRegisterBenchmark {
+
+    @Param({"4", "10"})
+    int strength;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--tikkit.security.password.bcrypt-strength=" + strength);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User register() {
+        return userService.register(
+                User.of("register" + (sequence++) + "@tikkit.com", "password1234", "벤치", "01012345678"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.service.UserValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserValidator.validate: 정상 입력과 봇 트래픽처럼 형식이 잘못된 입력(예외 경로).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserValidatorBenchmark {
+
+    private final User valid = User.of("member1234@tikkit.com", "password1234", "이재훈", "01012345678");
+    private final User invalidEmail = User.of("member1234@tikkit", "password1234", "이재훈", "01012345678");
+    private final User invalidPhone = User.of("member1234@tikkit.com", "password1234", "이재훈", "010-1234-5678");
+
+    @Benchmark
+    public User valid() {
+        UserValidator.validate(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public Object invalidEmail() {
+        return validate(invalidEmail);
+    }
+
+    @Benchmark
+    public Object invalidPhone() {
+        return validate(invalidPhone);
+    }
+
+    @Benchmark
+    public ErrorCode firstErrorInvalidPhone() {
+        return UserValidator.firstError(invalidPhone);
+    }
+
+    @Benchmark
+    public List<ErrorCode> validateAllInvalidPhone() {
+        return UserValidator.validateAll(invalidPhone);
+    }
+
+    private static Object validate(User user) {
+        try {
+            UserValidator.validate(user);
+            return user;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.tikkit.api.bench;
+
+import com.tikkit.api.event.service.SeatService;
+import com.tikkit.api.waitingroom.dto.WaitingRoomJoinResponse;
+import com.tikkit.api.waitingroom.service.WaitingRoomService;
+import com.tikkit.api.waitingroom.service.WaitingRoomServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 티켓 오픈 폭주: 31 스레드가 쉬지 않고 대기열에 들어오는 동안(초당 수십만 명, 입장 허용은 초당 1,000명)
+ * 입장 처리(tick)와 대기열 진입(join) 지연을 잰다. 대기열이 수백만 명으로 불어나도 두 지연이 평평해야 한다.
+ * 측정이 끝나면 누적 대기 인원과 힙 사용량을 출력한다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WaitingRoomLoadBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private WaitingRoomService waitingRoomService;
+    private WaitingRoomServiceImpl ticker;
+    private long eventId;
+    private final AtomicLong userIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--tikkit.waiting-room.tick-interval=1h");
+        eventId = context.getBean(SeatService.class).createEvent("open", 100).getId();
+        waitingRoomService = context.getBean(WaitingRoomService.class);
+        ticker = context.getBean(WaitingRoomServiceImpl.class);
+        waitingRoomService.open(eventId, 1_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.out.printf("%nwaiters joined: %,d, heap used: %,d MB%n",
+                userIds.get(), (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        context.close();
+    }
+
+    @Benchmark
+    @Group("ticketOpen")
+    @GroupThreads(31)
+    public WaitingRoomJoinResponse join() {
+        return waitingRoomService.join(eventId, userIds.incrementAndGet(), null);
+    }
+
+    @Benchmark
+    @Group("ticketOpen")
+    @GroupThreads(1)
+    public void admit() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(10);
+        ticker.tick();
+    }
+}
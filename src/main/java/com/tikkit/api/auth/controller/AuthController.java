@@ -0,0 +1,41 @@
+package com.tikkit.api.auth.controller;
+
+import com.tikkit.api.auth.dto.LoginRequest;
+import com.tikkit.api.auth.dto.TokenRefreshRequest;
+import com.tikkit.api.auth.dto.TokenResponse;
+import com.tikkit.api.auth.security.AuthUser;
+import com.tikkit.api.auth.service.AuthService;
+import com.tikkit.api.global.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/login")
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@RequestBody @Valid LoginRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(authService.login(request.email(), request.password())));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refresh(@RequestBody @Valid TokenRefreshRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(authService.refresh(request.refreshToken())));
+    }
+
+    // 토큰에 담긴 정보만 돌려준다(DB 조회 없음)
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<AuthUser>> me(@AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(ApiResponse.success(authUser));
+    }
+}
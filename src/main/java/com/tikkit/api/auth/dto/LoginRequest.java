@@ -0,0 +1,9 @@
+package com.tikkit.api.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequest(
+        @NotBlank String email,
+        @NotBlank String password
+) {
+}
@@ -0,0 +1,8 @@
+package com.tikkit.api.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenRefreshRequest(
+        @NotBlank String refreshToken
+) {
+}
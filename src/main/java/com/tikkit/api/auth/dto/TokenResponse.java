@@ -0,0 +1,12 @@
+package com.tikkit.api.auth.dto;
+
+public record TokenResponse(
+        String tokenType,
+        String accessToken,
+        long expiresIn,         // 액세스 토큰 유효 시간(초)
+        String refreshToken
+) {
+    public static TokenResponse bearer(String accessToken, long expiresIn, String refreshToken) {
+        return new TokenResponse("Bearer", accessToken, expiresIn, refreshToken);
+    }
+}
@@ -0,0 +1,12 @@
+package com.tikkit.api.auth.security;
+
+import com.tikkit.api.user.entity.Role;
+
+/**
+ * 토큰에서 꺼낸 인증 주체. 컨트롤러에서 @AuthenticationPrincipal 로 받는다.
+ */
+public record AuthUser(
+        long id,
+        Role role
+) {
+}
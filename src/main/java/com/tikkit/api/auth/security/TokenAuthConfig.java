@@ -0,0 +1,40 @@
+package com.tikkit.api.auth.security;
+
+import com.tikkit.api.auth.token.HmacSigner;
+import com.tikkit.api.auth.token.TokenProperties;
+import com.tikkit.api.auth.token.TokenProvider;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class TokenAuthConfig {
+
+    @Bean
+    public HmacSigner hmacSigner(TokenProperties properties) {
+        return new HmacSigner(properties);
+    }
+
+    @Bean
+    public TokenProvider tokenProvider(HmacSigner hmacSigner, TokenProperties properties) {
+        return new TokenProvider(hmacSigner, properties, Clock.systemUTC());
+    }
+
+    @Bean
+    public TokenAuthenticationFilter tokenAuthenticationFilter(TokenProvider tokenProvider,
+                                                               PreSerializedResponses preSerializedResponses) {
+        return new TokenAuthenticationFilter(tokenProvider, preSerializedResponses);
+    }
+
+    // 시큐리티 필터 체인 안에서만 실행되도록 서블릿 필터 자동 등록은 끈다
+    @Bean
+    public FilterRegistrationBean<TokenAuthenticationFilter> tokenAuthenticationFilterRegistration(
+            TokenAuthenticationFilter tokenAuthenticationFilter) {
+        FilterRegistrationBean<TokenAuthenticationFilter> registration = new FilterRegistrationBean<>(tokenAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
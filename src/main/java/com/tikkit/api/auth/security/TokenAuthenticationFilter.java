@@ -0,0 +1,74 @@
+package com.tikkit.api.auth.security;
+
+import com.tikkit.api.auth.token.TokenClaims;
+import com.tikkit.api.auth.token.TokenProvider;
+import com.tikkit.api.auth.token.TokenType;
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.entity.Role;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authorization: Bearer 액세스 토큰을 검증해 SecurityContext 를 채운다.
+ * 서명과 만료만 확인하고 DB 는 조회하지 않는다(역할/상태는 발급·재발급 시점 기준).
+ * 토큰이 없으면 익명으로 넘기고, 있는데 잘못됐으면 바로 401 을 내려준다.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+    private final PreSerializedResponses preSerializedResponses;
+    // 요청마다 권한 객체를 만들지 않도록 역할별로 한 번만 만든다
+    private final Map<Role, List<GrantedAuthority>> authorities = new EnumMap<>(Role.class);
+
+    public TokenAuthenticationFilter(TokenProvider tokenProvider, PreSerializedResponses preSerializedResponses) {
+        this.tokenProvider = tokenProvider;
+        this.preSerializedResponses = preSerializedResponses;
+        for (Role role : Role.values()) {
+            authorities.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenClaims claims;
+        try {
+            claims = tokenProvider.verify(header.substring(BEARER_PREFIX.length()).trim(), TokenType.ACCESS);
+        } catch (AuthException e) {
+            preSerializedResponses.write(response, HttpStatus.UNAUTHORIZED.value(), e.getErrorCode());
+            return;
+        }
+
+        AuthUser principal = new AuthUser(claims.userId(), claims.role());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, authorities.get(claims.role())));
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
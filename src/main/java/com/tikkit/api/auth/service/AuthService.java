@@ -0,0 +1,9 @@
+package com.tikkit.api.auth.service;
+
+import com.tikkit.api.auth.dto.TokenResponse;
+
+public interface AuthService {
+    TokenResponse login(String email, String password);
+
+    TokenResponse refresh(String refreshToken);
+}
@@ -0,0 +1,118 @@
+package com.tikkit.api.auth.service;
+
+import com.tikkit.api.auth.dto.TokenResponse;
+import com.tikkit.api.auth.token.TokenClaims;
+import com.tikkit.api.auth.token.TokenProvider;
+import com.tikkit.api.auth.token.TokenType;
+import com.tikkit.api.global.concurrent.BoundedExecutor;
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.OverloadedException;
+import com.tikkit.api.user.cache.UserCache;
+import com.tikkit.api.user.entity.Status;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 비밀번호는 로그인 때 한 번만 확인하고, 역할/상태는 발급·재발급 때만 DB 에서 읽는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AuthServiceImpl implements AuthService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final BoundedExecutor passwordHashingExecutor;
+    private final TokenProvider tokenProvider;
+    private final UserCache userCache;
+    private final Counter rehashed;
+    private final Counter reactivated;
+    // 없는 이메일도 같은 시간만큼 BCrypt 를 돌려 응답 시간으로 가입 여부를 알 수 없게 한다
+    private final String dummyPasswordHash;
+
+    public AuthServiceImpl(UserRepository userRepository,
+                           PasswordEncoder passwordEncoder,
+                           BoundedExecutor passwordHashingExecutor,
+                           TokenProvider tokenProvider,
+                           UserCache userCache,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.tokenProvider = tokenProvider;
+        this.userCache = userCache;
+        this.rehashed = meterRegistry.counter("tikkit.auth.password.rehashed");
+        this.reactivated = meterRegistry.counter("tikkit.auth.dormant.reactivated");
+        this.dummyPasswordHash = passwordEncoder.encode("tikkit-dummy-password");
+    }
+
+    // BCrypt 비교(~100ms CPU) 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenResponse login(String email, String password) {
+        Optional<User> found = userRepository.findByEmail(email);
+        String hash = found.map(User::getPassword).orElse(dummyPasswordHash);
+        boolean matches = passwordHashingExecutor.call(() -> passwordEncoder.matches(password, hash));
+        if (found.isEmpty() || !matches) {
+            throw new AuthException(ErrorCode.INVALID_CREDENTIALS, ErrorCode.INVALID_CREDENTIALS.getMessage());
+        }
+        User user = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        Status status = user.getStatus();
+        // 휴면은 비밀번호 확인으로 풀린다. 그 사이 정지/탈퇴됐으면 갱신되지 않고 아래에서 거절된다
+        if (status == Status.DORMANT && userRepository.reactivate(user.getId(), now) > 0) {
+            userCache.invalidate(user.getId(), user.getEmail());
+            reactivated.increment();
+            status = Status.ACTIVE;
+        }
+        TokenResponse issued = issue(user, status);
+        // 휴면 전환(UserLifecycleJobs)의 기준. 하루 단위면 충분하다
+        userRepository.touchLastLogin(user.getId(), now, now.minusDays(1));
+        if (passwordEncoder.upgradeEncoding(hash)) {
+            rehash(user.getId(), hash, password);
+        }
+        return issued;
+    }
+
+    @Override
+    public TokenResponse refresh(String refreshToken) {
+        TokenClaims claims = tokenProvider.verify(refreshToken, TokenType.REFRESH);
+        // 역할 변경/정지가 여기서 반영된다
+        User user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new AuthException(ErrorCode.INVALID_TOKEN, ErrorCode.INVALID_TOKEN.getMessage()));
+        return issue(user, user.getStatus());
+    }
+
+    // 평문을 아는 건 로그인 순간뿐이다: 현재 정책(알고리즘·강도)보다 약한 해시를 여기서 바꾼다.
+    // 해싱 풀이 가득 차 있으면 로그인은 그대로 성공시키고 다음 로그인으로 미룬다.
+    private void rehash(Long userId, String current, String password) {
+        try {
+            String upgraded = passwordHashingExecutor.call(() -> passwordEncoder.encode(password));
+            if (userRepository.upgradePassword(userId, current, upgraded) > 0) {
+                rehashed.increment();
+            }
+        } catch (OverloadedException e) {
+            // 다음 로그인에서 다시 시도한다
+        }
+    }
+
+    private TokenResponse issue(User user, Status status) {
+        if (status != Status.ACTIVE) {
+            throw new AuthException(ErrorCode.INACTIVE_USER, ErrorCode.INACTIVE_USER.getMessage());
+        }
+        return TokenResponse.bearer(
+                tokenProvider.issueAccessToken(user.getId(), user.getRole()),
+                tokenProvider.getAccessTokenTtlSeconds(),
+                tokenProvider.issueRefreshToken(user.getId(), user.getRole())
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package com.tikkit.api.auth.token;
+
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HMAC-SHA256 서명/검증. 형식: {keyId}.{base64url(payload)}.{base64url(서명)}
+ * 키별로 초기화한 Mac 을 기동 시 만들어 두고 매번 clone 해 쓰므로 키 파생/조회 비용이 없다.
+ * 액세스/리프레시 토큰과 대기열 토큰이 같은 키를 쓰며, payload 첫 글자로 종류를 구분한다.
+ */
+@Slf4j
+public class HmacSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, Mac> macs = new HashMap<>();
+    private final String activeKeyId;
+
+    public HmacSigner(TokenProperties properties) {
+        if (properties.keys().isEmpty()) {
+            // 개발용: 재기동하면 기존 토큰이 모두 무효가 되고 인스턴스 간에 공유되지 않는다
+            log.warn("tikkit.auth.token.keys is empty; using a random signing key");
+            byte[] secret = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(secret);
+            this.activeKeyId = "local";
+            macs.put(activeKeyId, newMac(secret));
+            return;
+        }
+        properties.keys().forEach((keyId, secret) -> {
+            if (keyId.indexOf('.') >= 0) {
+                throw new IllegalStateException("token key id must not contain '.': " + keyId);
+            }
+            byte[] decoded = Base64.getDecoder().decode(secret);
+            if (decoded.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("token key " + keyId + " must be at least " + MIN_KEY_BYTES + " bytes");
+            }
+            macs.put(keyId, newMac(decoded));
+        });
+        if (!macs.containsKey(properties.activeKeyId())) {
+            throw new IllegalStateException("unknown tikkit.auth.token.active-key-id: " + properties.activeKeyId());
+        }
+        this.activeKeyId = properties.activeKeyId();
+    }
+
+    public String sign(String payload) {
+        String unsigned = activeKeyId + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.US_ASCII));
+        byte[] signature = copy(macs.get(activeKeyId)).doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+        return unsigned + "." + ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * @return 서명이 맞으면 payload, 아니면 INVALID_TOKEN
+     */
+    public String verify(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot <= firstDot + 1 || lastDot == token.length() - 1) {
+            throw invalid();
+        }
+        Mac prototype = macs.get(token.substring(0, firstDot));
+        if (prototype == null) {
+            throw invalid();
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(firstDot + 1, lastDot));
+            signature = DECODER.decode(token.substring(lastDot + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        byte[] expected = copy(prototype).doFinal(token.substring(0, lastDot).getBytes(StandardCharsets.US_ASCII));
+        if (!MessageDigest.isEqual(expected, signature)) {
+            throw invalid();
+        }
+        return new String(payload, StandardCharsets.US_ASCII);
+    }
+
+    public static AuthException invalid() {
+        return new AuthException(ErrorCode.INVALID_TOKEN, ErrorCode.INVALID_TOKEN.getMessage());
+    }
+
+    private static Mac newMac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Mac 은 스레드 안전하지 않으므로 초기화된 원본을 복제해 쓴다(키 스케줄 재계산 없음)
+    private static Mac copy(Mac prototype) {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.tikkit.api.auth.token;
+
+import com.tikkit.api.user.entity.Role;
+
+public record TokenClaims(
+        TokenType type,
+        long userId,
+        Role role,
+        long expiresAt      // epoch seconds
+) {
+}
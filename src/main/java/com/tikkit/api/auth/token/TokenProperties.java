@@ -0,0 +1,19 @@
+package com.tikkit.api.auth.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "tikkit.auth.token")
+public record TokenProperties(
+        @DefaultValue("15m") Duration accessTokenTtl,
+        @DefaultValue("14d") Duration refreshTokenTtl,
+        Map<String, String> keys,                   // key id -> Base64 HMAC 비밀키(32바이트 이상). 교체 시 이전 키를 남겨 두면 기존 토큰도 검증된다
+        String activeKeyId                          // 새 토큰 서명에 쓸 key id
+) {
+    public TokenProperties {
+        keys = keys == null ? Map.of() : Map.copyOf(keys);
+    }
+}
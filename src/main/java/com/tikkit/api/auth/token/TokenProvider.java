@@ -0,0 +1,75 @@
+package com.tikkit.api.auth.token;
+
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.user.entity.Role;
+
+import java.time.Clock;
+
+/**
+ * HMAC-SHA256 으로 서명한 무상태 액세스/리프레시 토큰.
+ * payload 는 "{A|R}:{userId}:{role}:{만료 epoch 초}" 로, JSON 파싱 없이 검증한다.
+ */
+public class TokenProvider {
+
+    private final HmacSigner signer;
+    private final long accessTokenTtlSeconds;
+    private final long refreshTokenTtlSeconds;
+    private final Clock clock;
+
+    public TokenProvider(TokenProperties properties, Clock clock) {
+        this(new HmacSigner(properties), properties, clock);
+    }
+
+    public TokenProvider(HmacSigner signer, TokenProperties properties, Clock clock) {
+        this.signer = signer;
+        this.clock = clock;
+        this.accessTokenTtlSeconds = properties.accessTokenTtl().toSeconds();
+        this.refreshTokenTtlSeconds = properties.refreshTokenTtl().toSeconds();
+    }
+
+    public String issueAccessToken(long userId, Role role) {
+        return issue(TokenType.ACCESS, userId, role, accessTokenTtlSeconds);
+    }
+
+    public String issueRefreshToken(long userId, Role role) {
+        return issue(TokenType.REFRESH, userId, role, refreshTokenTtlSeconds);
+    }
+
+    public long getAccessTokenTtlSeconds() {
+        return accessTokenTtlSeconds;
+    }
+
+    /**
+     * 서명, 형식, 만료, 종류를 확인한다. DB 는 조회하지 않는다.
+     */
+    public TokenClaims verify(String token, TokenType expectedType) {
+        TokenClaims claims = parse(signer.verify(token));
+        if (claims.type() != expectedType) {
+            throw HmacSigner.invalid();
+        }
+        if (claims.expiresAt() <= clock.instant().getEpochSecond()) {
+            throw new AuthException(ErrorCode.EXPIRED_TOKEN, ErrorCode.EXPIRED_TOKEN.getMessage());
+        }
+        return claims;
+    }
+
+    private String issue(TokenType type, long userId, Role role, long ttlSeconds) {
+        long expiresAt = clock.instant().getEpochSecond() + ttlSeconds;
+        return signer.sign(type.symbol() + ":" + userId + ":" + role.name() + ":" + expiresAt);
+    }
+
+    private static TokenClaims parse(String payload) {
+        // 서명이 맞으면 우리가 만든 payload 이므로 형식 오류는 키 유출/버그 외에는 없다
+        String[] parts = payload.split(":", -1);
+        if (parts.length != 4 || parts[0].length() != 1) {
+            throw HmacSigner.invalid();
+        }
+        TokenType type = TokenType.of(parts[0].charAt(0));
+        try {
+            return new TokenClaims(type, Long.parseLong(parts[1]), Role.valueOf(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw HmacSigner.invalid();
+        }
+    }
+}
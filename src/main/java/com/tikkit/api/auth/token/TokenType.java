@@ -0,0 +1,24 @@
+package com.tikkit.api.auth.token;
+
+public enum TokenType {
+    ACCESS('A'),
+    REFRESH('R');
+
+    private final char symbol;
+
+    TokenType(char symbol) {
+        this.symbol = symbol;
+    }
+
+    char symbol() {
+        return symbol;
+    }
+
+    static TokenType of(char symbol) {
+        return switch (symbol) {
+            case 'A' -> ACCESS;
+            case 'R' -> REFRESH;
+            default -> null;
+        };
+    }
+}
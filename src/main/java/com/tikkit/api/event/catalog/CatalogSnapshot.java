@@ -0,0 +1,145 @@
+package com.tikkit.api.event.catalog;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * gzip 으로 미리 압축해 파일에 써 두고 메모리 매핑한 ApiResponse JSON 한 벌.
+ * 파일은 내용(해시)마다 새로 만들고 덮어쓰지 않으므로, 전송 중에 바뀌지 않는다.
+ * ETag 는 압축 전 JSON 의 해시다. 같은 내용이라도 gzip 표현은 바이트가 다르므로 "-gzip" 을 붙여 구분한다.
+ */
+public record CatalogSnapshot(
+        String key,
+        Path file,
+        ByteBuffer gzipped,     // 읽기 전용 MappedByteBuffer. 쓸 때는 duplicate() 로 위치를 따로 둔다
+        String hash,
+        int jsonLength
+) {
+    // org.apache.coyote.Constants 의 sendfile 속성들(서블릿 API 로 톰캣 커넥터에 파일 전송을 맡긴다)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL = "no-cache";
+
+    public String etag() {
+        return "\"" + hash + "\"";
+    }
+
+    public String gzipEtag() {
+        return "\"" + hash + "-gzip\"";
+    }
+
+    public int gzippedLength() {
+        return gzipped.capacity();
+    }
+
+    /**
+     * If-None-Match 가 맞으면 304, 아니면 gzip 을 받는 클라이언트에는 압축본을 그대로(sendfile 또는 매핑된 버퍼),
+     * 받지 않는 클라이언트에는 풀어서 보낸다.
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, boolean sendfile) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setHeader(HttpHeaders.ETAG, gzip ? gzipEtag() : etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (!gzip) {
+            response.setContentLength(jsonLength);
+            try (InputStream in = new GZIPInputStream(new ByteBufferInputStream(gzipped.duplicate()))) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(gzippedLength());
+        if (sendfile && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, (long) gzippedLength());
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        ByteBuffer body = gzipped.duplicate();
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+        out.flush();
+    }
+
+    // If-None-Match 는 약한 비교: 표현(gzip 여부)과 상관없이 내용이 같으면 304
+    boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag()) || candidate.equals(gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.equals("q=0") || parameter.matches("q=0\\.0*")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
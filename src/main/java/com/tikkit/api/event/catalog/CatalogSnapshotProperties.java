@@ -0,0 +1,15 @@
+package com.tikkit.api.event.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.catalog.snapshot")
+public record CatalogSnapshotProperties(
+        @DefaultValue("") String directory,             // 비우면 인스턴스마다 임시 디렉터리를 만들고 종료 시 지운다
+        @DefaultValue("5s") Duration refreshInterval,   // 다른 인스턴스/직접 수정으로 바뀐 행(updated_at)을 확인하는 주기
+        @DefaultValue("1m") Duration refreshOverlap,    // 마지막으로 본 updated_at 보다 이만큼 앞부터 다시 읽는다(늦게 커밋된 이전 시각의 행, 노드 간 시계 차이)
+        @DefaultValue("true") boolean sendfile          // 톰캣이 지원하면 파일을 sendfile 로 보낸다(복사 없이 커널이 전송)
+) {
+}
@@ -0,0 +1,220 @@
+package com.tikkit.api.event.catalog;
+
+import com.tikkit.api.event.dto.EventResponse;
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공연 목록(events)과 공연 상세(events/{id})의 ApiResponse JSON 을 미리 gzip 으로 만들어 두는 보관소.
+ * 요청 경로에서는 JPA 도 Jackson 도 거치지 않는다.
+ * 바뀐 공연 행(updated_at 기준)만 다시 읽어 그 상세와 목록을 다시 만든다. 목록은 메모리에 둔 행들로 만들어 전체를 다시 읽지 않는다.
+ * 내용이 같으면(해시) 파일을 새로 쓰지 않는다. 교체된 파일은 한 세대 뒤에 지운다(전송 중인 sendfile 보호).
+ * 파일 이름에 세대 번호를 붙인다: A→B→A 로 돌아와도 지울 차례인 A 파일과 새 A 파일이 같은 경로가 되지 않는다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshots {
+
+    public static final String EVENTS = "events";
+
+    private final EventRepository eventRepository;
+    private final PreSerializedResponses preSerializedResponses;
+    private final Path directory;
+    private final boolean temporaryDirectory;
+    private final boolean sendfile;
+    private final Duration refreshOverlap;
+    private final ConcurrentMap<String, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Path> retired = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, EventResponse> events = new ConcurrentSkipListMap<>();
+    private final Counter renders;
+    private LocalDateTime watermark;
+    private boolean loaded;
+    private long generation;
+
+    public CatalogSnapshots(EventRepository eventRepository,
+                            PreSerializedResponses preSerializedResponses,
+                            CatalogSnapshotProperties properties,
+                            MeterRegistry meterRegistry) throws IOException {
+        this.eventRepository = eventRepository;
+        this.preSerializedResponses = preSerializedResponses;
+        this.temporaryDirectory = properties.directory().isBlank();
+        this.sendfile = properties.sendfile();
+        this.refreshOverlap = properties.refreshOverlap();
+        this.directory = temporaryDirectory
+                ? Files.createTempDirectory("tikkit-catalog")
+                : Files.createDirectories(Path.of(properties.directory()));
+        this.renders = Counter.builder("tikkit.catalog.snapshot.renders")
+                .description("내용이 바뀌어 새로 만든 스냅샷 파일 수")
+                .register(meterRegistry);
+    }
+
+    public static String eventKey(long eventId) {
+        return EVENTS + "/" + eventId;
+    }
+
+    public Optional<CatalogSnapshot> find(String key) {
+        if (!isLoaded()) {
+            refresh();
+        }
+        return Optional.ofNullable(snapshots.get(key));
+    }
+
+    public void write(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CatalogSnapshot snapshot = find(key)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.EVENT_NOT_FOUND, ErrorCode.EVENT_NOT_FOUND.getMessage()));
+        snapshot.write(request, response, sendfile);
+    }
+
+    // 이 인스턴스에서 공연을 만들거나 바꾼 직후(커밋 뒤) 바로 반영한다
+    public void changed(Event event) {
+        apply(List.of(event));
+    }
+
+    /**
+     * 마지막으로 본 updated_at 보다 refreshOverlap 앞부터 바뀐 공연만 다시 읽는다. 처음에는 전부 읽는다.
+     * 겹쳐 읽은 행은 내용이 같으면(해시) 파일을 다시 쓰지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${tikkit.catalog.snapshot.refresh-interval:5s}")
+    public synchronized void refresh() {
+        List<Event> changed = loaded && watermark != null
+                ? eventRepository.findByUpdatedAtGreaterThanEqual(watermark.minus(refreshOverlap))
+                : eventRepository.findAll();
+        apply(changed);
+        loaded = true;
+    }
+
+    private synchronized void apply(Collection<Event> changed) {
+        boolean listingChanged = !snapshots.containsKey(EVENTS);
+        for (Event event : changed) {
+            EventResponse response = EventResponse.from(event);
+            if (!response.equals(events.put(event.getId(), response))) {
+                listingChanged = true;
+            }
+            publish(eventKey(event.getId()), ApiResponse.success(response));
+            if (watermark == null || event.getUpdatedAt().isAfter(watermark)) {
+                watermark = event.getUpdatedAt();
+            }
+        }
+        if (listingChanged) {
+            publish(EVENTS, ApiResponse.success(new ArrayList<>(events.values())));
+        }
+    }
+
+    private void publish(String key, ApiResponse<?> response) {
+        byte[] json = preSerializedResponses.serialize(response);
+        String hash = hash(json);
+        CatalogSnapshot current = snapshots.get(key);
+        if (current != null && current.hash().equals(hash)) {
+            return;
+        }
+        CatalogSnapshot snapshot = write(key, hash, json);
+        snapshots.put(key, snapshot);
+        renders.increment();
+        if (current != null) {
+            deleteQuietly(retired.put(key, current.file()));
+        }
+    }
+
+    private CatalogSnapshot write(String key, String hash, byte[] json) {
+        Path file = directory.resolve(key.replace('/', '-') + "-" + hash + "-" + ++generation + ".json.gz");
+        try {
+            Path temp = Files.createTempFile(directory, "snapshot", ".tmp");
+            Files.write(temp, gzip(json));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // 톰캣은 정규 경로가 아니면 sendfile 을 거절한다(/tmp 가 심볼릭 링크인 경우 등)
+            file = file.toRealPath();
+            // 매핑은 채널을 닫아도 유지된다
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return new CatalogSnapshot(key, file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+                        hash, json.length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write catalog snapshot " + key, e);
+        }
+    }
+
+    private synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!temporaryDirectory) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(CatalogSnapshots::deleteQuietly);
+        } catch (IOException e) {
+            log.debug("failed to clean catalog snapshot directory {}", directory, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("failed to delete catalog snapshot {}", file, e);
+        }
+    }
+}
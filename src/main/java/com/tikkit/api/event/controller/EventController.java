@@ -0,0 +1,81 @@
+package com.tikkit.api.event.controller;
+
+import com.tikkit.api.auth.security.AuthUser;
+import com.tikkit.api.event.catalog.CatalogSnapshots;
+import com.tikkit.api.event.dto.EventCreateRequest;
+import com.tikkit.api.event.dto.EventResponse;
+import com.tikkit.api.event.dto.SeatHoldResponse;
+import com.tikkit.api.event.dto.SeatMapResponse;
+import com.tikkit.api.event.service.SeatService;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.waitingroom.service.WaitingRoomService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
+    private final SeatService seatService;
+    private final WaitingRoomService waitingRoomService;
+    private final CatalogSnapshots catalogSnapshots;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<EventResponse>> create(@RequestBody @Valid EventCreateRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                EventResponse.from(seatService.createEvent(request.name(), request.seatCount()))));
+    }
+
+    // 미리 만들어 둔 gzip 스냅샷을 그대로 보낸다(ETag/304 지원)
+    @GetMapping
+    public void list(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        catalogSnapshots.write(CatalogSnapshots.EVENTS, request, response);
+    }
+
+    @GetMapping("/{eventId}")
+    public void detail(@PathVariable long eventId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        catalogSnapshots.write(CatalogSnapshots.eventKey(eventId), request, response);
+    }
+
+    @GetMapping("/{eventId}/seats")
+    public ResponseEntity<ApiResponse<SeatMapResponse>> seatMap(@PathVariable long eventId) {
+        return ResponseEntity.ok(ApiResponse.success(seatService.getSeatMap(eventId)));
+    }
+
+    @PostMapping("/{eventId}/seats/{seatNo}/hold")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> hold(
+            @PathVariable long eventId,
+            @PathVariable int seatNo,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+            @AuthenticationPrincipal AuthUser authUser) {
+        waitingRoomService.checkAdmission(eventId, authUser.id(), admissionToken);
+        LocalDateTime expiresAt = seatService.hold(eventId, seatNo, authUser.id());
+        return ResponseEntity.ok(ApiResponse.success(new SeatHoldResponse(eventId, seatNo, expiresAt)));
+    }
+
+    @DeleteMapping("/{eventId}/seats/{seatNo}/hold")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> release(@PathVariable long eventId,
+                                                                 @PathVariable int seatNo,
+                                                                 @AuthenticationPrincipal AuthUser authUser) {
+        seatService.release(eventId, seatNo, authUser.id());
+        return ResponseEntity.ok(ApiResponse.success(new SeatHoldResponse(eventId, seatNo, null)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.tikkit.api.event.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record EventCreateRequest(
+        @NotBlank @Size(max = 100) String name,
+        @NotNull @Min(1) @Max(200_000) Integer seatCount
+) {
+}
@@ -0,0 +1,13 @@
+package com.tikkit.api.event.dto;
+
+import com.tikkit.api.event.entity.Event;
+
+public record EventResponse(
+        Long id,
+        String name,
+        int seatCount
+) {
+    public static EventResponse from(Event event) {
+        return new EventResponse(event.getId(), event.getName(), event.getSeatCount());
+    }
+}
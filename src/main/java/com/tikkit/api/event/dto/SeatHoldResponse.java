@@ -0,0 +1,10 @@
+package com.tikkit.api.event.dto;
+
+import java.time.LocalDateTime;
+
+public record SeatHoldResponse(
+        Long eventId,
+        int seatNo,
+        LocalDateTime expiresAt     // 이 시각까지 결제하지 않으면 선점이 풀린다(해제 응답에서는 null)
+) {
+}
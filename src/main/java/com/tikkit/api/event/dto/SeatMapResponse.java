@@ -0,0 +1,34 @@
+package com.tikkit.api.event.dto;
+
+import com.tikkit.api.event.inventory.SeatInventory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+/**
+ * heldBitmap: 좌석 번호 n 이 선점됐으면 n 번째 비트가 1 (little-endian 바이트열의 Base64).
+ * 10만 석이면 약 17KB 로, 좌석 목록을 JSON 배열로 내려주는 것보다 훨씬 작다.
+ */
+public record SeatMapResponse(
+        Long eventId,
+        int seatCount,
+        int availableCount,
+        String heldBitmap
+) {
+    public static SeatMapResponse from(SeatInventory inventory) {
+        long[] words = inventory.takenSnapshot();
+        ByteBuffer buffer = ByteBuffer.allocate((inventory.getSeatCount() + 7) / 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (long word : words) {
+            for (int i = 0; i < Long.BYTES && buffer.hasRemaining(); i++) {
+                buffer.put((byte) (word >>> (i * 8)));
+            }
+        }
+        return new SeatMapResponse(
+                inventory.getEventId(),
+                inventory.getSeatCount(),
+                inventory.getAvailableCount(),
+                Base64.getEncoder().encodeToString(buffer.array())
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.tikkit.api.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "events")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Event {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+    @Column(nullable = false)
+    private int seatCount;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    // 대기열이 열려 있으면 전체 노드 합계 초당 입장 인원, 닫혀 있으면 null. 모든 노드가 이 값으로 대기열을 맞춘다(WaitingRoomServiceImpl)
+    private Integer waitingRoomAdmissionPerSecond;
+    // 노드들이 나눠 쓰는 입장 허용량의 다음 입장 예정 시각(epoch 마이크로초, AdmissionGrant)
+    private Long waitingRoomNextAdmissionAt;
+
+    public Event(String name, int seatCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.name = name;
+        this.seatCount = seatCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static Event of(String name, int seatCount) {
+        return new Event(name, seatCount, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,64 @@
+package com.tikkit.api.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 한 칸. 공연 id + 좌석 번호(0부터)가 키라서 별도 시퀀스가 없다.
+ * 평소 좌석 상태의 원본은 메모리(SeatInventory)이고, 이 테이블은 write-behind 로 뒤따라 기록된다.
+ */
+@Getter
+@Entity
+@Table(name = "seats")
+@IdClass(SeatId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Seat {
+
+    @Id
+    private Long eventId;
+    @Id
+    private int seatNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SeatStatus status;
+    private Long heldBy;
+    private LocalDateTime heldAt;
+    private LocalDateTime expiresAt;
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    // 행을 바꿀 때마다 1 씩 올린다. 노드들의 write-behind 는 마지막으로 본 값일 때만 쓴다(JDBC 로 갱신하므로 @Version 이 아니다)
+    @Column(nullable = false)
+    private long version;
+
+    public Seat(Long eventId, int seatNo, SeatStatus status, Long heldBy, LocalDateTime heldAt, LocalDateTime updatedAt) {
+        this.eventId = eventId;
+        this.seatNo = seatNo;
+        this.status = status;
+        this.heldBy = heldBy;
+        this.heldAt = heldAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public void hold(long userId, LocalDateTime now, LocalDateTime expiresAt) {
+        this.status = SeatStatus.HELD;
+        this.heldBy = userId;
+        this.heldAt = now;
+        this.expiresAt = expiresAt;
+        this.updatedAt = now;
+        this.version++;
+    }
+
+    public void release(LocalDateTime now) {
+        this.status = SeatStatus.AVAILABLE;
+        this.heldBy = null;
+        this.heldAt = null;
+        this.expiresAt = null;
+        this.updatedAt = now;
+        this.version++;
+    }
+}
@@ -0,0 +1,7 @@
+package com.tikkit.api.event.entity;
+
+public enum SeatStatus {
+    AVAILABLE,
+    HELD,
+    SOLD
+}
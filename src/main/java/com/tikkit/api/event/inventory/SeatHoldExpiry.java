@@ -0,0 +1,121 @@
+package com.tikkit.api.event.inventory;
+
+import com.tikkit.api.global.concurrent.HierarchicalTimingWheel;
+import com.tikkit.api.global.concurrent.HierarchicalTimingWheel.Timeout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 좌석 선점 만료. 선점마다 타이밍 휠에 만료 시각을 걸고, 해제되면 떼어낸다(둘 다 O(1)).
+ * 틱마다 만료된 선점을 한꺼번에 메모리 좌석표에서 풀고, DB 반영은 SeatWriteBehind 가 dirty 좌석을 모아 배치로 한다.
+ * 선점별 ScheduledFuture 나 DB 폴링과 달리 보류 중인 선점 수가 늘어도 틱 비용은 그 틱에 만료되는 수에만 비례한다.
+ * 스케줄러 스레드는 하나뿐이라 다른 작업(flush, 재구성)에 틱이 밀리지 않도록 전용 스레드에서 돌린다.
+ */
+@Slf4j
+@Component
+public class SeatHoldExpiry {
+
+    private final SeatHoldProperties properties;
+    private final HierarchicalTimingWheel<HoldExpiration> wheel;
+    private final LongSupplier clock;
+    private final Counter expired;
+    // 테스트에서 직접 만든 인스턴스(가짜 시계)는 틱 스레드 없이 expire 를 직접 부른다
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public SeatHoldExpiry(SeatHoldProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+        long interval = properties.tickInterval().toMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("seat-hold-expiry").daemon().factory());
+        ticker.scheduleAtFixedRate(this::expireQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    SeatHoldExpiry(SeatHoldProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(properties.tickInterval().toMillis(), properties.wheelBits(), clock.getAsLong());
+        this.expired = meterRegistry.counter("tikkit.seat.hold.expired");
+        Gauge.builder("tikkit.seat.hold.pending", wheel, HierarchicalTimingWheel::size)
+                .description("만료를 기다리는 선점 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 선점이 만료되는 시각(epoch millis)
+     */
+    public long schedule(SeatInventory inventory, int seatNo, long userId, long heldAtMillis) {
+        long expiresAtMillis = heldAtMillis + properties.ttl().toMillis();
+        schedule(inventory, seatNo, userId, heldAtMillis, expiresAtMillis);
+        return expiresAtMillis;
+    }
+
+    // 재기동 후 복구: DB 에 남은 만료 시각을 그대로 쓴다(이미 지났으면 다음 틱에 풀린다)
+    public void schedule(SeatInventory inventory, int seatNo, long userId, long heldAtMillis, long expiresAtMillis) {
+        Timeout<HoldExpiration> timeout =
+                wheel.schedule(new HoldExpiration(inventory, seatNo, userId, heldAtMillis), expiresAtMillis);
+        inventory.setExpiryHandle(seatNo, timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void cancel(SeatInventory inventory, int seatNo) {
+        Object handle = inventory.takeExpiryHandle(seatNo);
+        if (handle != null) {
+            wheel.cancel((Timeout<HoldExpiration>) handle);
+        }
+    }
+
+    /**
+     * @return 이번 틱에 풀린 선점 수
+     */
+    public int expire() {
+        List<HoldExpiration> due = wheel.advance(clock.getAsLong());
+        int released = 0;
+        // 핸들은 그대로 둔다: 그 사이 같은 좌석이 다시 잡혔다면 새 선점의 핸들이다. 끝난 핸들은 cancel 해도 무해하다.
+        for (HoldExpiration hold : due) {
+            if (hold.inventory().expire(hold.seatNo(), hold.userId(), hold.heldAtMillis())) {
+                released++;
+            }
+        }
+        expired.increment(released);
+        return released;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // 예외가 나도 다음 틱이 취소되지 않도록
+    private void expireQuietly() {
+        try {
+            expire();
+        } catch (RuntimeException e) {
+            log.warn("seat hold expiry tick failed", e);
+        }
+    }
+
+    public int pending() {
+        return wheel.size();
+    }
+
+    public long getTtlMillis() {
+        return properties.ttl().toMillis();
+    }
+
+    private record HoldExpiration(SeatInventory inventory, int seatNo, long userId, long heldAtMillis) {
+    }
+}
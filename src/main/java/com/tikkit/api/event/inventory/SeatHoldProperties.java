@@ -0,0 +1,14 @@
+package com.tikkit.api.event.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.seat.hold")
+public record SeatHoldProperties(
+        @DefaultValue("5m") Duration ttl,               // 결제 없이 선점을 유지하는 시간
+        @DefaultValue("100ms") Duration tickInterval,   // 타이밍 휠 한 칸(만료 정밀도)
+        @DefaultValue("6") int wheelBits                // 단계당 2^bits 칸
+) {
+}
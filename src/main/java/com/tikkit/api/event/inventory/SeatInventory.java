@@ -0,0 +1,256 @@
+package com.tikkit.api.event.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+/**
+ * 공연 하나의 좌석 점유 상태. 좌석당 1비트(taken)를 CAS 로 세우고 지워 락 없이 선점/해제한다.
+ * 선점자 id 와 선점 시각은 좌석별 배열에 따로 두고, 바뀐 좌석은 dirty 비트로 표시해 두었다가
+ * SeatWriteBehind 가 모아서 DB 에 반영한다(좌석 10만 석 기준 비트맵 12.5KB, 전체 약 3MB).
+ * 선점 시간이 지나 풀린 좌석은 선점자 칸에 -userId 를 남겨, 본인이 뒤늦게 해제/확정하려 할 때 "만료"를 구분한다.
+ * 구매로 확정된 좌석은 선점자 칸에 SOLD 비트를 더해, 해제/만료의 CAS(userId → ...)가 더는 맞지 않게 한다.
+ */
+public class SeatInventory {
+
+    private static final long NOT_HELD = 0L;
+    private static final long SOLD = 1L << 62;
+
+    private final long eventId;
+    private final int seatCount;
+    private final AtomicLongArray taken;
+    private final AtomicLongArray dirty;
+    private final AtomicLongArray holders;
+    private final AtomicLongArray heldAtMillis;
+    // seats 행의 version 중 이 노드가 마지막으로 쓰거나 읽은 값(SeatWriteBehind 의 조건부 update)
+    private final AtomicLongArray versions;
+    private final AtomicInteger available;
+    // 좌석별 만료 예약 핸들(SeatHoldExpiry 가 취소할 때 쓴다)
+    private final AtomicReferenceArray<Object> expiryHandles;
+
+    public SeatInventory(long eventId, int seatCount) {
+        this.eventId = eventId;
+        this.seatCount = seatCount;
+        int words = (seatCount + 63) >>> 6;
+        this.taken = new AtomicLongArray(words);
+        this.dirty = new AtomicLongArray(words);
+        this.holders = new AtomicLongArray(seatCount);
+        this.heldAtMillis = new AtomicLongArray(seatCount);
+        this.versions = new AtomicLongArray(seatCount);
+        this.available = new AtomicInteger(seatCount);
+        this.expiryHandles = new AtomicReferenceArray<>(seatCount);
+    }
+
+    /**
+     * @return 선점에 성공하면 true, 이미 누군가 잡고 있으면 false
+     */
+    public boolean tryHold(int seatNo, long userId, long nowMillis) {
+        if (!setBit(taken, seatNo)) {
+            return false;
+        }
+        heldAtMillis.set(seatNo, nowMillis);
+        holders.set(seatNo, userId);
+        available.decrementAndGet();
+        setBit(dirty, seatNo);
+        return true;
+    }
+
+    /**
+     * @return 해당 사용자가 잡고 있던 좌석을 풀었으면 true
+     */
+    public boolean release(int seatNo, long userId) {
+        if (userId <= NOT_HELD || !holders.compareAndSet(seatNo, userId, NOT_HELD)) {
+            return false;
+        }
+        clearTaken(seatNo);
+        return true;
+    }
+
+    /**
+     * heldAtMillis 시각에 시작된 선점이 아직 그대로면 만료시켜 푼다. 그 사이 해제 후 다시 잡힌 좌석은 건드리지 않는다.
+     */
+    public boolean expire(int seatNo, long userId, long heldAtMillis) {
+        if (userId <= NOT_HELD || this.heldAtMillis.get(seatNo) != heldAtMillis
+                || !holders.compareAndSet(seatNo, userId, -userId)) {
+            return false;
+        }
+        clearTaken(seatNo);
+        return true;
+    }
+
+    /**
+     * 이 사용자가 잡고 있는 선점을 판매로 확정한다. 이후에는 해제도 만료도 되지 않는다.
+     * dirty 표시는 하지 않는다: 판매된 좌석 행은 구매 저널에서 PurchaseProjector 가 기록한다.
+     */
+    public boolean confirm(int seatNo, long userId) {
+        return userId > NOT_HELD && holders.compareAndSet(seatNo, userId, userId | SOLD);
+    }
+
+    // 확정을 되돌려 다시 선점 상태로 만든다(구매 기록에 실패했을 때)
+    public boolean unconfirm(int seatNo, long userId) {
+        return userId > NOT_HELD && holders.compareAndSet(seatNo, userId | SOLD, userId);
+    }
+
+    public boolean isSold(int seatNo) {
+        return isSoldHolder(holders.get(seatNo));
+    }
+
+    // 이 사용자의 선점이 만료되어 풀린 뒤 아무도 다시 잡지 않았으면 true
+    public boolean isExpiredFor(int seatNo, long userId) {
+        return userId > NOT_HELD && holders.get(seatNo) == -userId;
+    }
+
+    public void setExpiryHandle(int seatNo, Object handle) {
+        expiryHandles.set(seatNo, handle);
+    }
+
+    public Object takeExpiryHandle(int seatNo) {
+        return expiryHandles.getAndSet(seatNo, null);
+    }
+
+    // DB 에서 읽은 선점 상태를 되살린다(기동 후 첫 조회 시 한 번)
+    void restore(int seatNo, long userId, long heldAtMillis) {
+        if (setBit(taken, seatNo)) {
+            this.heldAtMillis.set(seatNo, heldAtMillis);
+            holders.set(seatNo, userId);
+            available.decrementAndGet();
+        }
+    }
+
+    void restoreSold(int seatNo, long userId, long heldAtMillis) {
+        if (setBit(taken, seatNo)) {
+            available.decrementAndGet();
+        }
+        this.heldAtMillis.set(seatNo, heldAtMillis);
+        holders.set(seatNo, userId | SOLD);
+    }
+
+    /**
+     * 다른 노드가 먼저 기록한 선점/판매(userId)로 이 좌석을 맞춘다. 이 노드의 선점(expectedHolder)은 버린다.
+     * 그 사이 이 노드에서 좌석이 바뀌었으면(holders 가 expectedHolder 가 아니면) false: 다음 flush 에서 다시 판단한다.
+     */
+    boolean adopt(int seatNo, long expectedHolder, long userId, long heldAtMillis, boolean sold) {
+        long holder = sold ? userId | SOLD : userId;
+        if (expectedHolder > NOT_HELD) {
+            if (!holders.compareAndSet(seatNo, expectedHolder, holder)) {
+                return false;
+            }
+            this.heldAtMillis.set(seatNo, heldAtMillis);
+            return true;
+        }
+        if (holders.get(seatNo) != expectedHolder || !setBit(taken, seatNo)) {
+            return false;
+        }
+        this.heldAtMillis.set(seatNo, heldAtMillis);
+        holders.set(seatNo, holder);
+        available.decrementAndGet();
+        return true;
+    }
+
+    // SOLD 비트까지 그대로 읽는다(adopt 의 expectedHolder)
+    long rawHolder(int seatNo) {
+        return holders.get(seatNo);
+    }
+
+    static boolean isSoldHolder(long rawHolder) {
+        return rawHolder > NOT_HELD && (rawHolder & SOLD) != 0;
+    }
+
+    long versionOf(int seatNo) {
+        return versions.get(seatNo);
+    }
+
+    // DB 의 version 은 줄지 않는다: 구매 시 claim 과 flush 가 엇갈려 끝나도 더 최근 값을 남긴다
+    void setVersion(int seatNo, long version) {
+        versions.accumulateAndGet(seatNo, version, Math::max);
+    }
+
+    /**
+     * 마지막 호출 이후 바뀐 좌석 번호를 넘겨준다. 넘긴 뒤 바뀌면 다시 dirty 가 되므로 다음 호출에서 또 나온다.
+     */
+    public void drainDirty(IntConsumer consumer) {
+        for (int word = 0; word < dirty.length(); word++) {
+            if (dirty.get(word) == 0) {
+                continue;
+            }
+            long bits = dirty.getAndSet(word, 0);
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                consumer.accept((word << 6) + bit);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    // 반영에 실패한 좌석을 다음 flush 에서 다시 시도하도록 되돌린다
+    public void markDirty(int seatNo) {
+        setBit(dirty, seatNo);
+    }
+
+    public boolean isHeld(int seatNo) {
+        return (taken.get(seatNo >>> 6) & (1L << seatNo)) != 0;
+    }
+
+    // 선점 중인(또는 구매한) 사용자 id. 잡혀 있지 않으면 0 이하
+    public long holderOf(int seatNo) {
+        long holder = holders.get(seatNo);
+        return holder > NOT_HELD ? holder & ~SOLD : holder;
+    }
+
+    public long heldAtMillis(int seatNo) {
+        return heldAtMillis.get(seatNo);
+    }
+
+    public boolean contains(int seatNo) {
+        return seatNo >= 0 && seatNo < seatCount;
+    }
+
+    public long[] takenSnapshot() {
+        long[] snapshot = new long[taken.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = taken.get(i);
+        }
+        return snapshot;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public int getAvailableCount() {
+        return available.get();
+    }
+
+    private void clearTaken(int seatNo) {
+        int word = seatNo >>> 6;
+        long mask = 1L << seatNo;
+        while (true) {
+            long current = taken.get(word);
+            if (taken.compareAndSet(word, current, current & ~mask)) {
+                break;
+            }
+        }
+        available.incrementAndGet();
+        setBit(dirty, seatNo);
+    }
+
+    // 비트를 새로 세웠으면 true, 이미 서 있었으면 false
+    private static boolean setBit(AtomicLongArray bitmap, int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        while (true) {
+            long current = bitmap.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (bitmap.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+}
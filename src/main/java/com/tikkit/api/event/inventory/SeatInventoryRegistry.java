@@ -0,0 +1,111 @@
+package com.tikkit.api.event.inventory;
+
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.entity.Seat;
+import com.tikkit.api.event.entity.SeatStatus;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.event.repository.SeatRepository;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 공연별 SeatInventory 보관소. 공연을 처음 조회할 때 DB 의 좌석 상태로 좌석표를 만든다(재기동 후 복구).
+ * 복구한 선점은 DB 의 expires_at 으로 만료를 다시 예약한다. 좌석 행의 version 도 함께 읽어 write-behind 의 조건부 update 에 쓴다.
+ * 기동 시에는 HELD 좌석이 남은 공연을 미리 읽어, 재기동 후 아무도 조회하지 않은 공연의 선점도 제때 풀리게 한다.
+ */
+@Slf4j
+@Component
+public class SeatInventoryRegistry {
+
+    private final EventRepository eventRepository;
+    private final SeatRepository seatRepository;
+    private final SeatHoldExpiry seatHoldExpiry;
+    private final ConcurrentMap<Long, SeatInventory> inventories = new ConcurrentHashMap<>();
+
+    public SeatInventoryRegistry(EventRepository eventRepository, SeatRepository seatRepository, SeatHoldExpiry seatHoldExpiry) {
+        this.eventRepository = eventRepository;
+        this.seatRepository = seatRepository;
+        this.seatHoldExpiry = seatHoldExpiry;
+    }
+
+    public SeatInventory get(long eventId) {
+        SeatInventory inventory = inventories.get(eventId);
+        if (inventory != null) {
+            return inventory;
+        }
+        return inventories.computeIfAbsent(eventId, this::load);
+    }
+
+    // 새로 만든 공연은 DB 를 다시 읽을 필요가 없다
+    public SeatInventory register(Event event) {
+        SeatInventory inventory = new SeatInventory(event.getId(), event.getSeatCount());
+        inventories.put(event.getId(), inventory);
+        return inventory;
+    }
+
+    /**
+     * 러너(PurchaseProjector 의 밀린 구매 반영)가 끝난 뒤에 돈다: 판매된 좌석을 선점으로 복구하지 않도록.
+     *
+     * @return 좌석표를 읽은 공연 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int restoreHolds() {
+        List<Long> eventIds = seatRepository.findEventIdsByStatus(SeatStatus.HELD);
+        int loaded = 0;
+        for (long eventId : eventIds) {
+            try {
+                get(eventId);
+                loaded++;
+            } catch (RuntimeException e) {
+                log.warn("failed to restore seat holds for event {}", eventId, e);
+            }
+        }
+        log.info("seat holds restored at startup: {} events", loaded);
+        return loaded;
+    }
+
+    public Collection<SeatInventory> loaded() {
+        return inventories.values();
+    }
+
+    private SeatInventory load(long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.EVENT_NOT_FOUND, ErrorCode.EVENT_NOT_FOUND.getMessage()));
+        SeatInventory inventory = new SeatInventory(eventId, event.getSeatCount());
+        int restored = 0;
+        int sold = 0;
+        for (Seat seat : seatRepository.findByEventIdAndVersionGreaterThan(eventId, 0L)) {
+            inventory.setVersion(seat.getSeatNo(), seat.getVersion());
+            if (seat.getStatus() == SeatStatus.SOLD && seat.getHeldBy() != null) {
+                long heldAt = seat.getHeldAt() == null ? System.currentTimeMillis() : toEpochMilli(seat.getHeldAt());
+                inventory.restoreSold(seat.getSeatNo(), seat.getHeldBy(), heldAt);
+                sold++;
+            } else if (seat.getStatus() == SeatStatus.HELD && seat.getHeldBy() != null) {
+                long heldAt = seat.getHeldAt() == null ? System.currentTimeMillis() : toEpochMilli(seat.getHeldAt());
+                long expiresAt = seat.getExpiresAt() == null
+                        ? heldAt + seatHoldExpiry.getTtlMillis()
+                        : toEpochMilli(seat.getExpiresAt());
+                inventory.restore(seat.getSeatNo(), seat.getHeldBy(), heldAt);
+                seatHoldExpiry.schedule(inventory, seat.getSeatNo(), seat.getHeldBy(), heldAt, expiresAt);
+                restored++;
+            }
+        }
+        log.info("seat inventory loaded: event {}, {} seats, {} held, {} sold", eventId, event.getSeatCount(), restored, sold);
+        return inventory;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,265 @@
+package com.tikkit.api.event.inventory;
+
+import com.tikkit.api.event.entity.SeatStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 좌석표의 변경을 주기적으로 seats 테이블에 반영한다.
+ * 변경 이벤트를 쌓지 않고 dirty 좌석의 "현재" 상태를 읽어 쓰므로, 큐가 커지지 않고 순서가 뒤바뀌어도 최종 상태가 맞다.
+ * 반영 전에 프로세스가 죽으면 마지막 flush 이후의 선점은 사라진다(선점은 짧게 유지되는 상태라 허용).
+ * 노드마다 좌석표가 따로이므로 행의 version 이 이 노드가 마지막으로 본 값일 때만 쓴다. 그 사이 다른 노드가 먼저 잡거나 판 좌석은
+ * DB 쪽을 따르고(먼저 기록한 쪽이 이긴다) 이 노드의 선점은 버린다. 판매는 응답 전에 claimSold 로 행을 먼저 SOLD 로 잡으므로
+ * flush 에서는 건너뛴다(다른 노드가 먼저 잡은 좌석은 그 자리에서 구매가 실패한다).
+ */
+@Slf4j
+@Component
+public class SeatWriteBehind {
+
+    private static final String UPDATE_SQL = "update seats set status = ?, held_by = ?, held_at = ?, expires_at = ?, updated_at = ?, "
+            + "version = version + 1 where event_id = ? and seat_no = ? and version = ?";
+    private static final String CLAIM_SQL = "update seats set status = ?, held_by = ?, expires_at = null, updated_at = ?, "
+            + "version = version + 1 where event_id = ? and seat_no = ? and version = ? and status <> ? "
+            + "and (held_by is null or held_by = ?)";
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+    private static final String SELECT_SQL =
+            "select status, held_by, held_at, expires_at, version from seats where event_id = ? and seat_no = ?";
+
+    private final SeatInventoryRegistry registry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final SeatWriteBehindProperties properties;
+    private final SeatHoldProperties holdProperties;
+    private final SeatHoldExpiry seatHoldExpiry;
+    private final Counter flushedSeats;
+    private final Counter failedFlushes;
+    private final Counter conflicts;
+    // 스케줄러와 종료 시 flush 가 겹치지 않도록
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SeatWriteBehind(SeatInventoryRegistry registry,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionOperations transactionOperations,
+                           SeatWriteBehindProperties properties,
+                           SeatHoldProperties holdProperties,
+                           SeatHoldExpiry seatHoldExpiry,
+                           MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.holdProperties = holdProperties;
+        this.seatHoldExpiry = seatHoldExpiry;
+        this.flushedSeats = meterRegistry.counter("tikkit.seat.write-behind.flushed");
+        this.failedFlushes = meterRegistry.counter("tikkit.seat.write-behind.failures");
+        this.conflicts = meterRegistry.counter("tikkit.seat.write-behind.conflicts");
+    }
+
+    @Scheduled(fixedDelayString = "${tikkit.seat.write-behind.flush-interval:200ms}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int flush() {
+        flushLock.lock();
+        try {
+            int flushed = 0;
+            for (SeatInventory inventory : registry.loaded()) {
+                flushed += flush(inventory);
+            }
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flush(SeatInventory inventory) {
+        List<Row> batch = new ArrayList<>(properties.batchSize());
+        int[] flushed = {0};
+        inventory.drainDirty(seatNo -> {
+            Row row = row(inventory, seatNo);
+            if (row == null) {
+                return;
+            }
+            batch.add(row);
+            if (batch.size() == properties.batchSize()) {
+                flushed[0] += write(inventory, batch);
+            }
+        });
+        if (!batch.isEmpty()) {
+            flushed[0] += write(inventory, batch);
+        }
+        return flushed[0];
+    }
+
+    private int write(SeatInventory inventory, List<Row> batch) {
+        List<Row> conflicted = new ArrayList<>();
+        int written = 0;
+        try {
+            List<Object[]> args = batch.stream().map(Row::args).toList();
+            int[] counts = transactionOperations.execute(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+            for (int i = 0; i < batch.size(); i++) {
+                Row row = batch.get(i);
+                // 0 이면 version 이 달라졌다(다른 노드가 먼저 썼다). 드라이버가 건수를 모르면(SUCCESS_NO_INFO) 쓴 것으로 본다
+                if (counts[i] == 0) {
+                    conflicted.add(row);
+                } else {
+                    inventory.setVersion(row.seatNo(), row.version() + 1);
+                    written++;
+                }
+            }
+            flushedSeats.increment(written);
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            log.warn("seat write-behind failed for event {} ({} seats), will retry", inventory.getEventId(), batch.size(), e);
+            batch.forEach(row -> inventory.markDirty(row.seatNo()));
+        }
+        batch.clear();
+        conflicted.forEach(row -> resolve(inventory, row));
+        return written;
+    }
+
+    /**
+     * 구매를 응답하기 전에 seats 행을 SOLD 로 잡는다. 행의 version 이 이 노드가 마지막으로 본 값이고 다른 사용자가 잡고 있지 않을 때만
+     * 쓰며, 한 좌석이라도 못 잡으면 전부 되돌리고 false 를 돌려준다(한 트랜잭션).
+     * 이 노드의 flush 가 그 사이 version 을 올린 경우(이 사용자의 선점이거나 빈 좌석)만 새 version 으로 다시 시도한다.
+     */
+    public boolean claimSold(SeatInventory inventory, int[] seatNos, long userId) {
+        long[] versions = new long[seatNos.length];
+        Boolean claimed = transactionOperations.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < seatNos.length; i++) {
+                versions[i] = claim(inventory, seatNos[i], userId, now);
+                if (versions[i] < 0) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+            }
+            return true;
+        });
+        if (!Boolean.TRUE.equals(claimed)) {
+            conflicts.increment();
+            return false;
+        }
+        for (int i = 0; i < seatNos.length; i++) {
+            inventory.setVersion(seatNos[i], versions[i]);
+        }
+        return true;
+    }
+
+    // 쓴 뒤의 version. 다른 노드가 잡았거나 판 좌석이면 -1
+    private long claim(SeatInventory inventory, int seatNo, long userId, LocalDateTime now) {
+        long version = inventory.versionOf(seatNo);
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            if (jdbcTemplate.update(CLAIM_SQL, SeatStatus.SOLD.name(), userId, now, inventory.getEventId(), seatNo, version,
+                    SeatStatus.SOLD.name(), userId) > 0) {
+                return version + 1;
+            }
+            Stored stored = select(inventory.getEventId(), seatNo);
+            boolean ours = stored != null && (stored.status() == SeatStatus.AVAILABLE
+                    || stored.status() == SeatStatus.HELD && stored.heldBy() == userId);
+            if (!ours) {
+                return -1;
+            }
+            version = stored.version();
+        }
+        return -1;
+    }
+
+    // 선점자 id 가 아직 기록되지 않은(선점/해제 진행 중) 좌석은 빈 좌석으로 쓴다. 진행이 끝나면 다시 dirty 가 된다.
+    // expires_at 을 함께 남겨 재기동 후에도 원래 만료 시각으로 다시 예약한다(SeatInventoryRegistry).
+    private Row row(SeatInventory inventory, int seatNo) {
+        long holder = inventory.rawHolder(seatNo);
+        if (SeatInventory.isSoldHolder(holder)) {
+            return null;
+        }
+        long version = inventory.versionOf(seatNo);
+        LocalDateTime now = LocalDateTime.now();
+        if (inventory.isHeld(seatNo) && holder > 0) {
+            long heldAtMillis = inventory.heldAtMillis(seatNo);
+            return new Row(seatNo, holder, version, new Object[]{SeatStatus.HELD.name(), holder, toLocalDateTime(heldAtMillis),
+                    toLocalDateTime(heldAtMillis + holdProperties.ttl().toMillis()), now,
+                    inventory.getEventId(), seatNo, version});
+        }
+        return new Row(seatNo, holder, version,
+                new Object[]{SeatStatus.AVAILABLE.name(), null, null, null, now, inventory.getEventId(), seatNo, version});
+    }
+
+    private void resolve(SeatInventory inventory, Row row) {
+        conflicts.increment();
+        int seatNo = row.seatNo();
+        Stored stored = select(inventory.getEventId(), seatNo);
+        if (stored == null) {
+            return;
+        }
+        boolean same = stored.status() == SeatStatus.HELD && row.holder() > 0 && stored.heldBy() == row.holder();
+        if (stored.status() == SeatStatus.AVAILABLE || same) {
+            // 다른 노드가 풀어 둔 좌석이거나 이미 같은 상태다: 새 version 으로 이 노드의 현재 상태를 다시 쓴다
+            inventory.setVersion(seatNo, stored.version());
+            if (!same) {
+                inventory.markDirty(seatNo);
+            }
+            return;
+        }
+        long heldAtMillis = stored.heldAt() == null ? System.currentTimeMillis() : toEpochMilli(stored.heldAt());
+        boolean sold = stored.status() == SeatStatus.SOLD;
+        if (!inventory.adopt(seatNo, row.holder(), stored.heldBy(), heldAtMillis, sold)) {
+            // 그 사이 이 노드에서 좌석이 바뀌었다: version 은 그대로 두어 다음 flush 에서 다시 충돌하고 다시 판단한다
+            inventory.markDirty(seatNo);
+            return;
+        }
+        inventory.setVersion(seatNo, stored.version());
+        seatHoldExpiry.cancel(inventory, seatNo);
+        if (!sold) {
+            long expiresAtMillis = stored.expiresAt() == null
+                    ? heldAtMillis + seatHoldExpiry.getTtlMillis()
+                    : toEpochMilli(stored.expiresAt());
+            seatHoldExpiry.schedule(inventory, seatNo, stored.heldBy(), heldAtMillis, expiresAtMillis);
+        }
+        log.warn("seat {}/{} was {} by user {} on another node first, dropping local state (holder {})",
+                inventory.getEventId(), seatNo, sold ? "sold" : "held", stored.heldBy(), row.holder());
+    }
+
+    private Stored select(long eventId, int seatNo) {
+        List<Stored> found = jdbcTemplate.query(SELECT_SQL, (rs, i) -> new Stored(
+                SeatStatus.valueOf(rs.getString("status")),
+                rs.getLong("held_by"),
+                rs.getObject("held_at", LocalDateTime.class),
+                rs.getObject("expires_at", LocalDateTime.class),
+                rs.getLong("version")), eventId, seatNo);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // holder: 행을 만들 때 읽은 선점자 칸 값(충돌 시 adopt 의 기대값)
+    private record Row(int seatNo, long holder, long version, Object[] args) {
+    }
+
+    private record Stored(SeatStatus status, long heldBy, LocalDateTime heldAt, LocalDateTime expiresAt, long version) {
+    }
+}
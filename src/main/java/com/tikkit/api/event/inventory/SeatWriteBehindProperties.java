@@ -0,0 +1,13 @@
+package com.tikkit.api.event.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.seat.write-behind")
+public record SeatWriteBehindProperties(
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("500") int batchSize          // UPDATE 배치 하나에 담을 좌석 수
+) {
+}
@@ -0,0 +1,36 @@
+package com.tikkit.api.event.repository;
+
+import com.tikkit.api.event.entity.Event;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // 카탈로그 스냅샷 갱신용: 마지막으로 본 시각보다 겹쳐서 읽는다(더 이른 시각으로 나중에 커밋된 행을 놓치지 않도록)
+    List<Event> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    List<Event> findByWaitingRoomAdmissionPerSecondIsNotNull();
+
+    // 카탈로그 내용이 아니므로 updated_at 은 건드리지 않는다. null 이면 닫는다
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.waitingRoomAdmissionPerSecond = :admissionPerSecond where e.id = :id")
+    int updateWaitingRoom(@Param("id") Long id, @Param("admissionPerSecond") Integer admissionPerSecond);
+
+    @Query("select coalesce(e.waitingRoomNextAdmissionAt, 0) from Event e where e.id = :id")
+    Optional<Long> findWaitingRoomNextAdmissionAt(@Param("id") Long id);
+
+    // 입장 허용량 CAS: 그 사이 다른 노드가 가져갔으면 0행
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.waitingRoomNextAdmissionAt = :next"
+            + " where e.id = :id and coalesce(e.waitingRoomNextAdmissionAt, 0) = :current")
+    int claimAdmissions(@Param("id") Long id, @Param("current") long current, @Param("next") long next);
+}
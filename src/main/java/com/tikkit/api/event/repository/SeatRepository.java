@@ -0,0 +1,28 @@
+package com.tikkit.api.event.repository;
+
+import com.tikkit.api.event.entity.Seat;
+import com.tikkit.api.event.entity.SeatId;
+import com.tikkit.api.event.entity.SeatStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SeatRepository extends JpaRepository<Seat, SeatId> {
+
+    // 재기동 시 메모리 좌석표 복구용: 한 번이라도 기록된 좌석만 읽는다(나머지는 version 0 의 빈 좌석)
+    List<Seat> findByEventIdAndVersionGreaterThan(Long eventId, long version);
+
+    // 기동 시 선점 만료를 다시 걸 공연 목록
+    @Query("select distinct s.eventId from Seat s where s.status = :status")
+    List<Long> findEventIdsByStatus(@Param("status") SeatStatus status);
+
+    // SELECT ... FOR UPDATE. 메모리 좌석표를 거치지 않는 경로(비교 벤치마크 등)에서 사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Seat s where s.eventId = :eventId and s.seatNo = :seatNo")
+    Optional<Seat> findForUpdate(@Param("eventId") Long eventId, @Param("seatNo") int seatNo);
+}
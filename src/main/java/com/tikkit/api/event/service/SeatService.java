@@ -0,0 +1,19 @@
+package com.tikkit.api.event.service;
+
+import com.tikkit.api.event.dto.SeatMapResponse;
+import com.tikkit.api.event.entity.Event;
+
+import java.time.LocalDateTime;
+
+public interface SeatService {
+    Event createEvent(String name, int seatCount);
+
+    SeatMapResponse getSeatMap(long eventId);
+
+    /**
+     * @return 선점 만료 시각
+     */
+    LocalDateTime hold(long eventId, int seatNo, long userId);
+
+    void release(long eventId, int seatNo, long userId);
+}
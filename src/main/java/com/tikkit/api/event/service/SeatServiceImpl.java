@@ -0,0 +1,102 @@
+package com.tikkit.api.event.service;
+
+import com.tikkit.api.event.catalog.CatalogSnapshots;
+import com.tikkit.api.event.dto.SeatMapResponse;
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.entity.SeatStatus;
+import com.tikkit.api.event.inventory.SeatHoldExpiry;
+import com.tikkit.api.event.inventory.SeatInventory;
+import com.tikkit.api.event.inventory.SeatInventoryRegistry;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.global.exception.ConflictException;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 선점/해제는 메모리 좌석표(SeatInventory)에서 CAS 로 끝내고, DB 반영은 SeatWriteBehind 가 뒤따라 한다.
+ * 요청 스레드는 커넥션을 잡지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatServiceImpl implements SeatService {
+    private static final int SEAT_INSERT_CHUNK_SIZE = 1000;
+    private static final String INSERT_SEAT_SQL =
+            "insert into seats (event_id, seat_no, status, updated_at, version) values (?, ?, ?, ?, 0)";
+
+    private final EventRepository eventRepository;
+    private final SeatInventoryRegistry seatInventoryRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final SeatHoldExpiry seatHoldExpiry;
+    private final CatalogSnapshots catalogSnapshots;
+
+    @Override
+    public Event createEvent(String name, int seatCount) {
+        Event event = transactionOperations.execute(status -> {
+            Event saved = eventRepository.saveAndFlush(Event.of(name, seatCount));
+            insertSeats(saved.getId(), seatCount);
+            return saved;
+        });
+        seatInventoryRegistry.register(event);
+        catalogSnapshots.changed(event);
+        return event;
+    }
+
+    @Override
+    public SeatMapResponse getSeatMap(long eventId) {
+        return SeatMapResponse.from(seatInventoryRegistry.get(eventId));
+    }
+
+    @Override
+    public LocalDateTime hold(long eventId, int seatNo, long userId) {
+        SeatInventory inventory = inventory(eventId, seatNo);
+        long now = System.currentTimeMillis();
+        if (!inventory.tryHold(seatNo, userId, now)) {
+            throw new ConflictException(ErrorCode.SEAT_ALREADY_HELD, ErrorCode.SEAT_ALREADY_HELD.getMessage());
+        }
+        long expiresAt = seatHoldExpiry.schedule(inventory, seatNo, userId, now);
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault());
+    }
+
+    @Override
+    public void release(long eventId, int seatNo, long userId) {
+        SeatInventory inventory = inventory(eventId, seatNo);
+        if (!inventory.release(seatNo, userId)) {
+            if (inventory.isExpiredFor(seatNo, userId)) {
+                throw new ConflictException(ErrorCode.HOLD_EXPIRED, ErrorCode.HOLD_EXPIRED.getMessage());
+            }
+            throw new ConflictException(ErrorCode.SEAT_NOT_HELD, ErrorCode.SEAT_NOT_HELD.getMessage());
+        }
+        seatHoldExpiry.cancel(inventory, seatNo);
+    }
+
+    private SeatInventory inventory(long eventId, int seatNo) {
+        SeatInventory inventory = seatInventoryRegistry.get(eventId);
+        if (!inventory.contains(seatNo)) {
+            throw new NotFoundException(ErrorCode.SEAT_NOT_FOUND, ErrorCode.SEAT_NOT_FOUND.getMessage());
+        }
+        return inventory;
+    }
+
+    private void insertSeats(long eventId, int seatCount) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(SEAT_INSERT_CHUNK_SIZE);
+        for (int seatNo = 0; seatNo < seatCount; seatNo++) {
+            rows.add(new Object[]{eventId, seatNo, SeatStatus.AVAILABLE.name(), now});
+            if (rows.size() == SEAT_INSERT_CHUNK_SIZE || seatNo == seatCount - 1) {
+                jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.tikkit.api.global.concurrent;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.OverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 고정 크기 스레드 풀 + 대기열 상한.
+ * 실행 중이거나 대기 중인 작업이 (threads + queueCapacity) 개를 넘으면 제출자는 acquireTimeout 만큼 기다리고,
+ * 그래도 자리가 없으면 OverloadedException 으로 거절한다.
+ */
+public class BoundedExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public BoundedExecutor(String name, int threads, int queueCapacity, Duration acquireTimeout) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory(name));
+        this.permits = new Semaphore(threads + queueCapacity);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        acquire();
+        try {
+            return CompletableFuture.supplyAsync(task, executor)
+                    .whenComplete((result, ex) -> permits.release());
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new OverloadedException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+        }
+    }
+
+    public <T> T call(Supplier<T> task) {
+        try {
+            return submit(task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new OverloadedException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OverloadedException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
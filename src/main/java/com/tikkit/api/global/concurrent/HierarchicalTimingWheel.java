@@ -0,0 +1,211 @@
+package com.tikkit.api.global.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계층형 타이밍 휠(Varghese & Lauck). 등록/취소는 버킷 연결 리스트에 붙이고 떼는 것뿐이라 O(1)이고,
+ * advance 가 지난 틱의 버킷을 통째로 비워 만료된 항목을 한 번에 돌려준다.
+ * 한 단계는 2^bits 칸이고, 다음 단계의 한 칸은 아래 단계 한 바퀴다. 위 단계 칸은 아래 단계가 한 바퀴 돌 때 아래로 내려온다(cascade).
+ * 틱 단위로 반올림하므로 만료는 최대 한 틱 늦을 수 있다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int MAX_LEVELS = 10;
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    // 요청 스레드의 등록/취소와 스케줄러의 advance 가 겹친다. 임계 구역이 포인터 몇 개라 락 하나로 충분하다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int bits, long startMillis) {
+        if (tickMillis <= 0 || bits < 1 || bits > 16) {
+            throw new IllegalArgumentException("tickMillis > 0, 1 <= bits <= 16");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.currentTick = startMillis / tickMillis;
+        levels.add(newLevel());
+    }
+
+    /**
+     * deadlineMillis 이후 첫 advance 에서 만료된다. 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, ceilDiv(deadlineMillis, tickMillis));
+        lock.lock();
+        try {
+            if (timeout.deadlineTick <= currentTick) {
+                timeout.deadlineTick = currentTick + 1;
+            }
+            place(timeout);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * @return 아직 만료되지 않은 항목을 떼어냈으면 true
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        lock.lock();
+        try {
+            if (timeout.bucket == null) {
+                return false;
+            }
+            timeout.bucket.remove(timeout);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * nowMillis 까지 틱을 진행하고 만료된 항목을 만료 시각 순(같은 틱 안에서는 등록 순)으로 돌려준다.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                Bucket<T> bucket = levels.get(0)[(int) (currentTick & mask)];
+                for (Timeout<T> timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+                    expired.add(timeout.payload);
+                    size--;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    // 아래 단계가 한 바퀴를 돌 때마다 위 단계의 현재 칸을 풀어 다시 배치한다
+    private void cascade() {
+        for (int level = 1; level < levels.size(); level++) {
+            int shift = bits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Bucket<T> bucket = levels.get(level)[(int) ((currentTick >>> shift) & mask)];
+            for (Timeout<T> timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+                place(timeout);
+            }
+        }
+    }
+
+    // 남은 틱 수로 단계를 고르고, 칸은 만료 틱의 해당 비트로 정한다
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < MAX_LEVELS - 1 && delta >= (1L << (bits * (level + 1)))) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            levels.add(newLevel());
+        }
+        int index = (int) ((timeout.deadlineTick >>> (bits * level)) & mask);
+        levels.get(level)[index].add(timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bucket<T>[] newLevel() {
+        Bucket<T>[] buckets = new Bucket[1 << bits];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        return buckets;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    /**
+     * 등록된 항목. cancel 에 넘기는 핸들이기도 하다.
+     */
+    public static final class Timeout<T> {
+        private final T payload;
+        private long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T payload() {
+            return payload;
+        }
+    }
+
+    // 양방향 연결 리스트. 떼어낼 때 이웃만 고치면 된다.
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.tikkit.api.global.config;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * BCrypt 강도 보정. 강도가 1 오를 때마다 비용이 두 배이므로 낮은 강도부터 재며 올라가다 예산을 넘으면 멈춘다.
+ * 고른 강도는 해시 문자열($2a$NN$)에 남으므로, 장비마다 강도가 달라도 검증에는 문제가 없다.
+ * 강도가 낮아진 인스턴스는 더 높은 강도의 해시를 내리지 않는다(upgradeEncoding 은 낮은 쪽만 다시 만든다).
+ */
+public record BCryptCalibration(int strength, Duration measured, boolean calibrated) {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "tikkit-calibration";
+
+    public static BCryptCalibration fixed(int strength) {
+        return new BCryptCalibration(strength, Duration.ZERO, false);
+    }
+
+    public static BCryptCalibration calibrate(Duration budget, int minStrength, int maxStrength) {
+        // JIT 가 BCrypt 를 컴파일하기 전의 첫 측정은 몇 배 느리다
+        for (int i = 0; i < 20; i++) {
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(4));
+        }
+        return calibrate(budget, minStrength, maxStrength, BCryptCalibration::measure);
+    }
+
+    static BCryptCalibration calibrate(Duration budget, int minStrength, int maxStrength, IntFunction<Duration> timer) {
+        int strength = minStrength;
+        Duration measured = timer.apply(strength);
+        while (strength < maxStrength) {
+            Duration next = timer.apply(strength + 1);
+            if (next.compareTo(budget) > 0) {
+                break;
+            }
+            strength++;
+            measured = next;
+        }
+        return new BCryptCalibration(strength, measured, true);
+    }
+
+    // 중앙값: 기동 중에는 다른 스레드(JIT, 풀 초기화)와 CPU 를 나눠 쓴다
+    private static Duration measure(int strength) {
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(strength));
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return Duration.ofNanos(nanos[SAMPLES / 2]);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tikkit.api.global.config;
+
+import com.tikkit.api.global.concurrent.BoundedExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    // BCrypt 는 순수 CPU 작업이므로 코어 수만큼만 돌리고 나머지는 대기열에서 기다리게 한다.
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor passwordHashingExecutor(PasswordHashingProperties properties) {
+        return new BoundedExecutor(
+                "password-hashing",
+                properties.resolvedThreads(),
+                properties.queueCapacity(),
+                properties.acquireTimeout()
+        );
+    }
+
+    @Bean
+    public MeterBinder passwordHashingExecutorMetrics(BoundedExecutor passwordHashingExecutor) {
+        return registry -> {
+            Gauge.builder("tikkit.password-hashing.active", passwordHashingExecutor, BoundedExecutor::getActiveCount)
+                    .register(registry);
+            Gauge.builder("tikkit.password-hashing.queued", passwordHashingExecutor, BoundedExecutor::getQueueSize)
+                    .register(registry);
+        };
+    }
+}
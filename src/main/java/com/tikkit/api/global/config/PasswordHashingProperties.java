@@ -0,0 +1,17 @@
+package com.tikkit.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.security.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,          // 0 이면 CPU 코어 수
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("2s") Duration acquireTimeout
+) {
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,16 @@
+package com.tikkit.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.security.password")
+public record PasswordPolicyProperties(
+        @DefaultValue("10") int bcryptStrength,     // calibrate=false 일 때 쓰는 강도
+        @DefaultValue("false") boolean calibrate,   // 기동 시 이 장비에서 hash-budget 안에 드는 가장 높은 강도를 고른다
+        @DefaultValue("100ms") Duration hashBudget, // 해시 한 번(한 코어)의 목표 시간
+        @DefaultValue("10") int minStrength,        // 예산을 넘더라도 이 아래로는 내리지 않는다
+        @DefaultValue("14") int maxStrength
+) {
+}
@@ -1,31 +1,96 @@
 package com.tikkit.api.global.config;
 
+import com.tikkit.api.auth.security.TokenAuthenticationFilter;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
+@Slf4j
 @Configuration
 public class SecurityConfig {
+    private static final String BCRYPT = "bcrypt";
+
+    @Bean
+    public BCryptCalibration bcryptCalibration(PasswordPolicyProperties properties) {
+        if (!properties.calibrate()) {
+            return BCryptCalibration.fixed(properties.bcryptStrength());
+        }
+        BCryptCalibration calibration = BCryptCalibration.calibrate(
+                properties.hashBudget(), properties.minStrength(), properties.maxStrength());
+        log.info("bcrypt strength calibrated: {} ({} ms per hash, budget {} ms)",
+                calibration.strength(), calibration.measured().toMillis(), properties.hashBudget().toMillis());
+        return calibration;
+    }
+
+    // 해시마다 {bcrypt} 접두사(알고리즘)와 $2a$NN$(강도)가 남는다. 접두사 없는 기존 해시도 bcrypt 로 검증하고,
+    // 로그인 때 upgradeEncoding 이 참이면(접두사 없음, 현재 강도보다 낮음) 다시 만든다.
+    @Bean
+    public PasswordEncoder passwordEncoder(BCryptCalibration bcryptCalibration) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCalibration.strength());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public MeterBinder passwordPolicyMetrics(BCryptCalibration bcryptCalibration) {
+        return registry -> Gauge.builder("tikkit.security.password.bcrypt.strength", bcryptCalibration, BCryptCalibration::strength)
+                .register(registry);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           TokenAuthenticationFilter tokenAuthenticationFilter,
+                                           PreSerializedResponses preSerializedResponses) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .formLogin(formLogin -> formLogin.disable())
+                .logout(logout -> logout.disable())
+                // 토큰 인증만 쓰므로 세션을 만들지 않는다
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(tokenAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint((request, response, e) ->
+                                preSerializedResponses.write(response, HttpStatus.UNAUTHORIZED.value(), ErrorCode.UNAUTHORIZED))
+                        .accessDeniedHandler((request, response, e) ->
+                                preSerializedResponses.write(response, HttpStatus.FORBIDDEN.value(), ErrorCode.FORBIDDEN))
+                )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/api/users/register",
                                 "/api/users/check-email",
+                                "/api/auth/login",
+                                "/api/auth/refresh",
                                 "/error"
                         ).permitAll()
+                        .requestMatchers("/api/users/bulk-register").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/events").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/events", "/api/events/*", "/api/events/*/seats").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/waiting-room/*").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/waiting-room/*").hasRole("ADMIN")
+                        // 순번 토큰으로 인증한다(EventSource 는 헤더를 못 보냄)
+                        .requestMatchers(HttpMethod.GET, "/api/waiting-room/*/events").permitAll()
+                        // 관리 포트(management.server.port)로만 열리므로 서비스 포트에는 노출되지 않는다
+                        .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 );
         return http.build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.tikkit.api.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 주 DB 에서 읽게 한다(쓰기 직후 같은 데이터를 읽을 때).
+ * 커넥션은 트랜잭션의 첫 쿼리 때 정해지므로(LazyConnectionDataSourceProxy) 그보다 먼저 감싸야 한다.
+ */
+public final class PrimaryRouting {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
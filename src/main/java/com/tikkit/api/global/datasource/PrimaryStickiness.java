@@ -0,0 +1,45 @@
+package com.tikkit.api.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * read-your-writes: 방금 쓴 키는 stickiness 동안 주 DB 에서 읽는다. 그 뒤에는 복제본이 이미 따라잡았다(ReplicaProperties).
+ * 인스턴스 안에서만 기억하므로, 다른 인스턴스로 간 요청은 복제 지연만큼 옛 값을 볼 수 있다.
+ */
+@Component
+public class PrimaryStickiness {
+
+    private static final int MAX_KEYS = 100_000;
+
+    private final Cache<String, Boolean> recentWrites;
+
+    @Autowired
+    public PrimaryStickiness(ReplicaProperties properties) {
+        this(properties.stickiness());
+    }
+
+    public PrimaryStickiness(Duration stickiness) {
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(MAX_KEYS)
+                .expireAfterWrite(stickiness)
+                .build();
+    }
+
+    public void markWritten(String key) {
+        recentWrites.put(key, Boolean.TRUE);
+    }
+
+    public boolean isSticky(String key) {
+        return recentWrites.getIfPresent(key) != null;
+    }
+
+    public <T> T read(String key, Supplier<T> read) {
+        return isSticky(key) ? PrimaryRouting.onPrimary(read) : read.get();
+    }
+}
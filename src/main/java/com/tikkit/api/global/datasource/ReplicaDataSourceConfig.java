@@ -0,0 +1,61 @@
+package com.tikkit.api.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 복제본이 설정되면 DataSource 를 직접 만든다(Boot 의 기본 DataSource 는 물러난다).
+ * LazyConnectionDataSourceProxy 가 트랜잭션의 첫 쿼리까지 커넥션을 미루고, 그때 읽기 전용(@Transactional(readOnly = true))이면
+ * 복제본 쪽에서, 아니면 주 DB 에서 받는다. 트랜잭션 시작 시점에는 아직 readOnly 가 정해지지 않았기 때문에 미뤄야 한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tikkit.datasource", name = "replicas[0].url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReplicaProperties.Replica replica = properties.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : primaryDataSource.getUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : primaryDataSource.getPassword());
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+            dataSource.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            // 기동 시 복제본이 죽어 있어도 앱은 뜬다(검사가 살아날 때까지 주 DB 로 읽는다)
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
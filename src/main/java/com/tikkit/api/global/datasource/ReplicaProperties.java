@@ -0,0 +1,31 @@
+package com.tikkit.api.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본. replicas 가 비어 있으면 라우팅 없이 spring.datasource 하나만 쓴다.
+ * stickiness 는 maxLag + healthCheckInterval 보다 길어야 한다: 그래야 쓰기 직후 창이 끝났을 때 읽게 될 복제본이 이미 따라잡았다.
+ */
+@ConfigurationProperties(prefix = "tikkit.datasource")
+public record ReplicaProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("1s") Duration maxLag,                  // 이보다 뒤처진 복제본은 읽기에서 뺀다
+        @DefaultValue("1s") Duration healthCheckInterval,
+        @DefaultValue("3s") Duration stickiness,              // 쓰기 직후 같은 키를 주 DB 에서 읽는 기간
+        // 복제 지연(초). 받은 WAL 을 다 재생했으면 0(쓰기가 없을 때 마지막 재생 시각이 오래돼 보이는 것을 피한다)
+        @DefaultValue("select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+                + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end") String lagQuery,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("1s") Duration connectionTimeout        // 죽은 복제본에서 오래 기다리지 않고 주 DB 로 넘어간다
+) {
+    public record Replica(
+            String url,
+            String username,
+            String password
+    ) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.tikkit.api.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 복제본에 나눠 준다(LazyConnectionDataSourceProxy 의 readOnlyDataSource).
+ * 건강 검사에서 응답하고 지연이 maxLag 이하인 복제본만 돌아가며 쓰고, 하나도 없거나 커넥션을 못 얻으면 주 DB 로 간다.
+ * 검사는 전용 스레드에서 돈다: 죽은 복제본의 타임아웃이 @Scheduled 스레드(하나뿐)를 붙잡지 않게.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Node> nodes;
+    private final ReplicaProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+    private final ScheduledExecutorService healthChecker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-health").daemon().factory());
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    ReplicaProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.nodes = new ArrayList<>(replicas.size());
+        for (HikariDataSource replica : replicas) {
+            Node node = new Node(replica);
+            nodes.add(node);
+            Gauge.builder("tikkit.datasource.replica.lag", node, n -> n.lagSeconds)
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("tikkit.datasource.replica.healthy", node, n -> n.healthy ? 1 : 0)
+                    .tag("replica", replica.getPoolName())
+                    .register(meterRegistry);
+        }
+        this.replicaReads = reads(meterRegistry, "replica", "routed");
+        this.stickyReads = reads(meterRegistry, "primary", "sticky");
+        this.fallbackReads = reads(meterRegistry, "primary", "no_healthy_replica");
+    }
+
+    // 첫 검사를 마치기 전까지는 모든 읽기가 주 DB 로 간다
+    public void start() {
+        checkHealth();
+        long interval = properties.healthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryRouting.isForced()) {
+            stickyReads.increment();
+            return primary.getConnection();
+        }
+        int size = nodes.size();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Node node = nodes.get(Math.floorMod(start + i, size));
+            if (!node.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = node.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                // 다음 검사까지 빼 둔다
+                node.healthy = false;
+                log.warn("replica {} unavailable, falling back: {}", node.dataSource.getPoolName(), e.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("replica credentials are configured per replica");
+    }
+
+    public void checkHealth() {
+        for (Node node : nodes) {
+            boolean wasHealthy = node.healthy;
+            try (Connection connection = node.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(properties.lagQuery())) {
+                rs.next();
+                node.lagSeconds = rs.getDouble(1);
+                node.healthy = node.lagSeconds * 1000 <= properties.maxLag().toMillis();
+            } catch (SQLException | RuntimeException e) {
+                node.healthy = false;
+            }
+            if (wasHealthy != node.healthy) {
+                log.info("replica {} is now {} (lag {}s)", node.dataSource.getPoolName(),
+                        node.healthy ? "in rotation" : "out of rotation", node.lagSeconds);
+            }
+        }
+    }
+
+    public long healthyReplicas() {
+        return nodes.stream().filter(node -> node.healthy).count();
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        nodes.forEach(node -> node.dataSource.close());
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("tikkit.datasource.reads")
+                .description("읽기 전용 커넥션을 어디서 받았는지")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Node {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        private Node(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
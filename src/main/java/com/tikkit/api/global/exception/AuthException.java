@@ -0,0 +1,15 @@
+package com.tikkit.api.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class AuthException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    // 잘못된 토큰/로그인 시도는 흔하고 호출 위치가 뻔하므로 스택 트레이스를 만들지 않는다.
+    public AuthException(ErrorCode errorCode, String message) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+}
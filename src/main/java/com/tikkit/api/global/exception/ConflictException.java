@@ -0,0 +1,15 @@
+package com.tikkit.api.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    // 좌석 경합 패배처럼 오픈 순간에 대량으로 발생하므로 스택 트레이스를 만들지 않는다.
+    public ConflictException(ErrorCode errorCode, String message) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+}
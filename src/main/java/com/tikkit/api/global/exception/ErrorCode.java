@@ -15,7 +15,40 @@ public enum ErrorCode {
     NAME_TOO_LONG("USER_006", "이름은 20자 이하여야 합니다."),
     PHONE_REQUIRED("USER_007", "전화번호는 필수 입력값입니다."),
     INVALID_PHONE_FORMAT("USER_008", "전화번호는 10~11자리 숫자만 입력해야 합니다."),
-    DUPLICATE_EMAIL("USER_009", "이미 사용 중인 이메일입니다.");
+    DUPLICATE_EMAIL("USER_009", "이미 사용 중인 이메일입니다."),
+    BULK_REGISTER_TOO_LARGE("USER_010", "한 번에 등록할 수 있는 회원 수를 초과했습니다."),
+    INVALID_CURSOR("USER_011", "페이지 커서가 올바르지 않습니다."),
+    INVALID_EXPORT_FORMAT("USER_012", "지원하지 않는 내보내기 형식입니다."),
+    USER_NOT_FOUND("USER_013", "회원을 찾을 수 없습니다."),
+
+    // Auth
+    INVALID_CREDENTIALS("AUTH_001", "이메일 또는 비밀번호가 올바르지 않습니다."),
+    INVALID_TOKEN("AUTH_002", "유효하지 않은 토큰입니다."),
+    EXPIRED_TOKEN("AUTH_003", "만료된 토큰입니다."),
+    INACTIVE_USER("AUTH_004", "사용할 수 없는 계정입니다."),
+    UNAUTHORIZED("AUTH_005", "인증이 필요합니다."),
+    FORBIDDEN("AUTH_006", "접근 권한이 없습니다."),
+
+    // Event
+    EVENT_NOT_FOUND("EVENT_001", "공연을 찾을 수 없습니다."),
+    SEAT_NOT_FOUND("SEAT_001", "좌석을 찾을 수 없습니다."),
+    SEAT_ALREADY_HELD("SEAT_002", "이미 선점된 좌석입니다."),
+    SEAT_NOT_HELD("SEAT_003", "선점하지 않은 좌석입니다."),
+    HOLD_EXPIRED("SEAT_004", "좌석 선점 시간이 만료되었습니다. 다시 선점해주세요."),
+
+    // Waiting room
+    WAITING_ROOM_NOT_FOUND("QUEUE_001", "대기열이 열려 있지 않습니다."),
+    ADMISSION_REQUIRED("QUEUE_002", "대기열을 거쳐 입장한 후 이용할 수 있습니다."),
+
+    // Idempotency
+    IDEMPOTENCY_KEY_INVALID("IDEM_001", "Idempotency-Key 헤더가 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED("IDEM_002", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_IN_PROGRESS("IDEM_003", "같은 Idempotency-Key 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+
+    // System
+    INTERNAL_SERVER_ERROR("SYS_001", "서버 내부 오류가 발생했습니다."),
+    SERVER_BUSY("SYS_002", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS("SYS_003", "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
 
     private final String code;
     private final String message;
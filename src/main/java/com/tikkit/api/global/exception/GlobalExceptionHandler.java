@@ -1,6 +1,10 @@
 package com.tikkit.api.global.exception;
 
+import com.tikkit.api.global.metrics.ErrorMetrics;
 import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -8,21 +12,50 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.validation.FieldError;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final PreSerializedResponses preSerializedResponses;
+    private final ErrorMetrics errorMetrics;
+
     @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<ApiResponse<Void>> handleValidationException(ValidationException ex) {
-        return ResponseEntity.badRequest()
-                .body(ApiResponse.fail(ex.getErrorCode().getCode(), ex.getErrorCode().getMessage()));
+    public ResponseEntity<byte[]> handleValidationException(ValidationException ex) {
+        errorMetrics.increment("validation", ex.getErrorCode());
+        return preSerializedResponses.fail(HttpStatus.BAD_REQUEST, ex.getErrorCode());
+    }
+
+    @ExceptionHandler(AuthException.class)
+    public ResponseEntity<byte[]> handleAuthException(AuthException ex) {
+        errorMetrics.increment("auth", ex.getErrorCode());
+        return preSerializedResponses.fail(HttpStatus.UNAUTHORIZED, ex.getErrorCode());
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<byte[]> handleNotFoundException(NotFoundException ex) {
+        errorMetrics.increment("not_found", ex.getErrorCode());
+        return preSerializedResponses.fail(HttpStatus.NOT_FOUND, ex.getErrorCode());
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<byte[]> handleConflictException(ConflictException ex) {
+        errorMetrics.increment("conflict", ex.getErrorCode());
+        return preSerializedResponses.fail(HttpStatus.CONFLICT, ex.getErrorCode());
+    }
+
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<byte[]> handleOverloadedException(OverloadedException ex) {
+        errorMetrics.increment("overloaded", ex.getErrorCode());
+        return preSerializedResponses.fail(HttpStatus.SERVICE_UNAVAILABLE, ex.getErrorCode());
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleGeneralException(Exception ex) {
+    public ResponseEntity<byte[]> handleGeneralException(Exception ex) {
         // 예상 못한 예외
-        return ResponseEntity.internalServerError()
-                .body(ApiResponse.fail("SYS_001", "서버 내부 오류가 발생했습니다."));
+        errorMetrics.increment("general", ErrorCode.INTERNAL_SERVER_ERROR);
+        return preSerializedResponses.fail(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
+    // 메시지가 필드마다 달라 미리 직렬화할 수 없다
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         FieldError fieldError = ex.getBindingResult().getFieldError();
@@ -31,6 +64,7 @@ public class GlobalExceptionHandler {
         if (fieldError != null) {
             message = fieldError.getDefaultMessage();
         }
+        errorMetrics.increment("invalid_input", code);
         return ResponseEntity.badRequest().body(ApiResponse.fail(code, message));
     }
 }
@@ -0,0 +1,14 @@
+package com.tikkit.api.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class NotFoundException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public NotFoundException(ErrorCode errorCode, String message) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,14 @@
+package com.tikkit.api.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class OverloadedException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public OverloadedException(ErrorCode errorCode, String message) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
@@ -7,8 +7,9 @@ public class ValidationException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
+    // 입력값 오류는 흔하고 호출 위치가 뻔하므로 스택 트레이스를 만들지 않는다.
     public ValidationException(ErrorCode errorCode, String message) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
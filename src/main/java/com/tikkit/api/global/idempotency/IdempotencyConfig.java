@@ -0,0 +1,41 @@
+package com.tikkit.api.global.idempotency;
+
+import com.tikkit.api.global.response.PreSerializedResponses;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "tikkit.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties,
+                                             IdempotencyRecordRepository repository,
+                                             MeterRegistry meterRegistry) {
+        IdempotencyStore store = new IdempotencyStore(properties, repository);
+        Gauge.builder("tikkit.idempotency.keys", store, IdempotencyStore::size).register(meterRegistry);
+        Gauge.builder("tikkit.idempotency.memory-bytes", store, IdempotencyStore::memoryBytes).register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyStore idempotencyStore,
+                                               IdempotencyProperties properties,
+                                               PreSerializedResponses preSerializedResponses,
+                                               MeterRegistry meterRegistry) {
+        return new IdempotencyFilter(idempotencyStore, properties, preSerializedResponses, meterRegistry);
+    }
+
+    // 시큐리티 필터 체인 뒤: 인가를 통과한 요청만 저장/재생하고, 인증 사용자로 키 범위를 나눈다
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
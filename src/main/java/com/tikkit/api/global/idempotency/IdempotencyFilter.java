@@ -0,0 +1,255 @@
+package com.tikkit.api.global.idempotency;
+
+import com.tikkit.api.auth.security.AuthUser;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 붙은 POST 요청을 한 번만 실행한다.
+ * 처음 요청의 응답(상태 + ApiResponse 바이트)을 저장해 두고, 같은 키의 재시도에는 컨트롤러/서비스를 거치지 않고 그대로 돌려준다.
+ * 같은 키로 동시에 들어온 요청은 먼저 온 요청의 실행을 기다려 같은 응답을 받는다.
+ * 시큐리티 필터 체인 뒤에서 실행해, 인증이 필요한 경로는 인가를 통과한 요청만 저장/재생하고 키 범위를 사용자별(익명은 IP 별)로 나눈다.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final PreSerializedResponses preSerializedResponses;
+    private final Set<String> paths;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             IdempotencyProperties properties,
+                             PreSerializedResponses preSerializedResponses,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.preSerializedResponses = preSerializedResponses;
+        this.paths = Set.copyOf(properties.paths());
+        this.executed = meterRegistry.counter("tikkit.idempotency.requests", "result", "executed");
+        this.replayed = meterRegistry.counter("tikkit.idempotency.requests", "result", "replayed");
+        this.rejected = meterRegistry.counter("tikkit.idempotency.requests", "result", "rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !paths.contains(request.getRequestURI())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.maxKeyLength()) {
+            reject(response, HttpStatus.BAD_REQUEST, ErrorCode.IDEMPOTENCY_KEY_INVALID);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(properties.maxBodyBytes() + 1);
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+        // 저장 상한보다 큰 요청은 멱등 처리 없이 그대로 실행한다
+        if (body.length > properties.maxBodyBytes()) {
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+        String requestHash = sha256(body);
+        String key = scope(request) + ':' + request.getRequestURI() + ':' + idempotencyKey;
+
+        while (true) {
+            IdempotencyStore.Slot slot = store.acquire(key);
+            if (slot.isOwner()) {
+                execute(cachedRequest, response, filterChain, slot, requestHash);
+                return;
+            }
+            IdempotentResponse previous = await(slot);
+            if (previous == null) {
+                if (slot.response().isDone()) {
+                    continue;   // 먼저 온 요청이 저장 없이 끝났다: 다시 선점을 시도한다
+                }
+                reject(response, HttpStatus.CONFLICT, ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+                return;
+            }
+            if (!previous.requestHash().equals(requestHash)) {
+                reject(response, HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                return;
+            }
+            replay(response, previous);
+            return;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tikkit.idempotency.cleanup-interval:10m}")
+    public void evictExpired() {
+        store.evictExpired();
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         IdempotencyStore.Slot slot,
+                         String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            executed.increment();
+            if (isStorable(wrapper)) {
+                store.complete(slot, new IdempotentResponse(
+                        requestHash, wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.abandon(slot);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // 서버 사정으로 실패한 응답(5xx, 429)은 재시도하면 결과가 달라질 수 있으므로 저장하지 않는다
+    private boolean isStorable(ContentCachingResponseWrapper wrapper) {
+        int status = wrapper.getStatus();
+        return status < 500
+                && status != HttpStatus.TOO_MANY_REQUESTS.value()
+                && wrapper.getContentSize() <= properties.maxBodyBytes();
+    }
+
+    private IdempotentResponse await(IdempotencyStore.Slot slot) throws ServletException {
+        try {
+            return slot.response().get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(e);
+        } catch (ExecutionException e) {
+            throw new ServletException(e.getCause());
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse previous) throws IOException {
+        replayed.increment();
+        response.setStatus(previous.status());
+        if (previous.contentType() != null) {
+            response.setContentType(previous.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(previous.body().length);
+        response.getOutputStream().write(previous.body());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, ErrorCode errorCode) throws IOException {
+        rejected.increment();
+        preSerializedResponses.write(response, status.value(), errorCode);
+    }
+
+    // 인증된 요청은 사용자별로, 익명 요청(가입 등)은 클라이언트 IP 별로 범위를 나눈다:
+    // 익명끼리 한 범위를 쓰면 남의 키를 맞혀 그 응답을 받아 가거나 키를 선점해 막을 수 있다.
+    // IP 는 getRemoteAddr 를 쓰므로 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 한다(RateLimitFilter 와 같다)
+    private static String scope(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return Long.toString(authUser.id());
+        }
+        return "anon@" + request.getRemoteAddr();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 본문을 해시하려고 미리 읽었으므로 뒤쪽(컨트롤러)에는 읽어 둔 바이트를 먼저 주고, 남은 본문이 있으면 이어서 준다
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final InputStream in;
+        private boolean finished;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] prefix) throws IOException {
+            super(request);
+            this.in = new SequenceInputStream(new ByteArrayInputStream(prefix), request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return track(in.read());
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return track(in.read(b, off, len));
+                }
+            };
+        }
+
+        private int track(int read) {
+            if (read < 0) {
+                finished = true;
+            }
+            return read;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
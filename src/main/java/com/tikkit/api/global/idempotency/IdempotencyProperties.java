@@ -0,0 +1,23 @@
+package com.tikkit.api.global.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "tikkit.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/api/users/register", "/api/users/bulk-register"}) List<String> paths,   // POST 만 대상
+        @DefaultValue("24h") Duration ttl,              // 같은 키로 재시도하면 저장된 응답을 돌려주는 기간
+        @DefaultValue("100000") int maxEntries,         // 메모리에 보관하는 키 수 상한
+        @DefaultValue("64MB") DataSize maxMemorySize,   // 메모리에 보관하는 응답 본문 합계 상한(키 수 상한과 함께, 먼저 닿는 쪽)
+        @DefaultValue("255") int maxKeyLength,
+        @DefaultValue("1048576") int maxBodyBytes,      // 이보다 큰 요청/응답은 저장하지 않고 그냥 실행한다
+        @DefaultValue("10s") Duration waitTimeout,      // 같은 키 요청이 처리 중일 때 기다리는 시간
+        @DefaultValue("false") boolean persistent,      // 완료된 응답을 DB(idempotency_keys)에도 남겨 재기동/다른 인스턴스에서도 재사용
+        @DefaultValue("10m") Duration cleanupInterval
+) {
+}
@@ -0,0 +1,48 @@
+package com.tikkit.api.global.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키로 저장한 응답(선택적인 DB 계층). 키는 "사용자:경로:Idempotency-Key" 로 범위를 나눈 값이다.
+ */
+@Getter
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 512)
+    private String id;
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+    @Column(nullable = false)
+    private int status;
+    private String contentType;
+    @Column(nullable = false, length = 1048576)
+    private byte[] body;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord(String id, IdempotentResponse response, LocalDateTime expiresAt) {
+        this.id = id;
+        this.requestHash = response.requestHash();
+        this.status = response.status();
+        this.contentType = response.contentType();
+        this.body = response.body();
+        this.expiresAt = expiresAt;
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(requestHash, status, contentType, body);
+    }
+}
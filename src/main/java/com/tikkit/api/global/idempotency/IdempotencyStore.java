@@ -0,0 +1,185 @@
+package com.tikkit.api.global.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 멱등 키별 응답 보관소. 키마다 CompletableFuture 하나를 두어, 먼저 온 요청(owner)만 실행하고
+ * 같은 키로 동시에 온 요청은 그 future 를 기다렸다가 같은 응답을 받는다.
+ * TTL 이 모두 같으므로 등록 순서가 곧 만료 순서다: 큐 앞에서부터 지우면 만료 정리와 상한 유지가 모두 O(1)이다.
+ * 상한은 키 수와 응답 본문 바이트 합계 두 가지다: 키 수만으로는 큰 응답이 모이면 메모리가 키 수 × 본문 상한까지 커진다.
+ * repository 가 있으면 완료된 응답을 DB 에도 남기고, 메모리에 없는 키는 DB 에서 찾아본다.
+ */
+@Slf4j
+public class IdempotencyStore {
+
+    private final ConcurrentMap<String, Slot> slots = new ConcurrentHashMap<>();
+    private final Queue<Slot> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long maxMemoryBytes;
+    // 큐에 남아 있는 완료 응답의 본문 바이트 합계
+    private final AtomicLong memoryBytes = new AtomicLong();
+    private final IdempotencyRecordRepository repository;
+    private final LongSupplier clock;
+
+    public IdempotencyStore(IdempotencyProperties properties, IdempotencyRecordRepository repository) {
+        this(properties, repository, System::currentTimeMillis);
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, IdempotencyRecordRepository repository, LongSupplier clock) {
+        this.ttlMillis = properties.ttl().toMillis();
+        this.maxEntries = properties.maxEntries();
+        this.maxMemoryBytes = properties.maxMemorySize().toBytes();
+        this.repository = properties.persistent() ? repository : null;
+        this.clock = clock;
+    }
+
+    /**
+     * 키를 선점한다. 반환된 Slot 의 isOwner() 가 true 면 호출자가 실행하고 complete 또는 abandon 해야 한다.
+     * false 면 다른 요청이 실행 중이거나 이미 끝났으므로 response() 를 기다린다.
+     */
+    public Slot acquire(String key) {
+        long now = clock.getAsLong();
+        while (true) {
+            Slot slot = new Slot(key, now + ttlMillis);
+            Slot existing = slots.putIfAbsent(key, slot);
+            if (existing == null) {
+                insertionOrder.add(slot);
+                evict(now);
+                if (!loadPersisted(slot)) {
+                    return slot;
+                }
+                return slot.follower();
+            }
+            if (!existing.isExpired(now)) {
+                return existing.follower();
+            }
+            slots.remove(key, existing);
+        }
+    }
+
+    public void complete(Slot slot, IdempotentResponse response) {
+        slot.bytes = response.body().length;
+        memoryBytes.addAndGet(slot.bytes);
+        slot.response.complete(response);
+        evict(clock.getAsLong());
+        if (repository == null) {
+            return;
+        }
+        try {
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(slot.expiresAtMillis), ZoneId.systemDefault());
+            repository.save(new IdempotencyRecord(slot.key, response, expiresAt));
+        } catch (DataAccessException e) {
+            // 메모리에는 남아 있으므로 이 인스턴스에서는 여전히 재사용된다
+            log.warn("failed to persist idempotent response for {}", slot.key, e);
+        }
+    }
+
+    // 저장하지 않을 결과(5xx 등): 키를 풀어 기다리던 요청과 이후 재시도가 다시 실행하게 한다
+    public void abandon(Slot slot) {
+        slots.remove(slot.key, slot);
+        slot.response.complete(null);
+    }
+
+    public void evictExpired() {
+        evict(clock.getAsLong());
+        if (repository != null) {
+            repository.deleteExpired(LocalDateTime.now());
+        }
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public long memoryBytes() {
+        return memoryBytes.get();
+    }
+
+    // 실행 중인 키는 지우지 않는다: 지우면 같은 키 요청이 두 번 실행된다. 그만큼은 상한을 잠시 넘을 수 있다.
+    private void evict(long now) {
+        Slot head;
+        while ((head = insertionOrder.peek()) != null) {
+            if (!head.response.isDone()
+                    || (!head.isExpired(now) && slots.size() <= maxEntries && memoryBytes.get() <= maxMemoryBytes)) {
+                return;
+            }
+            if (insertionOrder.remove(head)) {
+                slots.remove(head.key, head);
+                memoryBytes.addAndGet(-head.bytes);
+            }
+        }
+    }
+
+    private boolean loadPersisted(Slot slot) {
+        if (repository == null) {
+            return false;
+        }
+        Optional<IdempotencyRecord> record;
+        try {
+            record = repository.findByIdAndExpiresAtAfter(slot.key, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("failed to read idempotent response for {}", slot.key, e);
+            return false;
+        }
+        record.ifPresent(found -> {
+            IdempotentResponse response = found.toResponse();
+            slot.bytes = response.body().length;
+            memoryBytes.addAndGet(slot.bytes);
+            slot.response.complete(response);
+        });
+        return record.isPresent();
+    }
+
+    public static final class Slot {
+        private final String key;
+        private final long expiresAtMillis;
+        private final CompletableFuture<IdempotentResponse> response;
+        private final boolean owner;
+        // complete 한 owner 슬롯만 채운다(큐에서 빠질 때 합계에서 뺀다)
+        private volatile long bytes;
+
+        private Slot(String key, long expiresAtMillis) {
+            this(key, expiresAtMillis, new CompletableFuture<>(), true);
+        }
+
+        private Slot(String key, long expiresAtMillis, CompletableFuture<IdempotentResponse> response, boolean owner) {
+            this.key = key;
+            this.expiresAtMillis = expiresAtMillis;
+            this.response = response;
+            this.owner = owner;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+
+        /**
+         * 실행한 요청의 응답. 실행이 저장 없이 끝났으면(abandon) null 로 완료된다.
+         */
+        public CompletableFuture<IdempotentResponse> response() {
+            return response;
+        }
+
+        private Slot follower() {
+            return new Slot(key, expiresAtMillis, response, false);
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.tikkit.api.global.idempotency;
+
+/**
+ * 처음 실행했을 때의 응답. requestHash 로 같은 키에 다른 본문이 온 경우를 가려낸다.
+ */
+public record IdempotentResponse(
+        String requestHash,
+        int status,
+        String contentType,
+        byte[] body
+) {
+}
@@ -0,0 +1,47 @@
+package com.tikkit.api.global.metrics;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 예외 처리기(handler)와 ErrorCode 별 오류 응답 횟수.
+ */
+@Component
+public class ErrorMetrics {
+
+    public static final String ERRORS = "tikkit.api.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Map<ErrorCode, Counter>> countersByHandler = new ConcurrentHashMap<>();
+
+    public ErrorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void increment(String handler, ErrorCode errorCode) {
+        countersByHandler.computeIfAbsent(handler, this::countersFor).get(errorCode).increment();
+    }
+
+    // ErrorCode 로 표현되지 않는 코드(INVALID_INPUT 등)
+    public void increment(String handler, String code) {
+        meterRegistry.counter(ERRORS, "handler", handler, "code", code).increment();
+    }
+
+    private Map<ErrorCode, Counter> countersFor(String handler) {
+        Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode, Counter.builder(ERRORS)
+                    .tag("handler", handler)
+                    .tag("code", errorCode.getCode())
+                    .register(meterRegistry));
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tikkit.api.global.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 같은 프로세스의 @EventListener(OutboxMessage) 로 전달하는 싱크. 외부 브로커 없이 개발/테스트할 때 쓴다.
+ */
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(publisher::publishEvent);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tikkit.api.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메시지를 한 줄에 하나씩 JSON(NDJSON)으로 파일 끝에 붙인다. 배치마다 한 번 쓰고 fsync 한 뒤 반환한다.
+ */
+public class FileOutboxSink implements OutboxSink, AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxSink(ObjectMapper objectMapper, Path path) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 256);
+        for (OutboxMessage message : messages) {
+            objectMapper.writeValue(lines, message);
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        lock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,54 @@
+package com.tikkit.api.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 쓰기. 원본 변경과 원자적으로 기록되어야 하므로 호출자의 트랜잭션 안에서만 쓸 수 있다.
+ */
+@Component
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxPayload payload) {
+        outboxEventRepository.save(toEvent(payload, LocalDateTime.now()));
+    }
+
+    // 시퀀스를 50개씩 미리 받아 두므로 insert 배치로 나간다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<? extends OutboxPayload> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(payloads.size());
+        for (OutboxPayload payload : payloads) {
+            events.add(toEvent(payload, now));
+        }
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent toEvent(OutboxPayload payload, LocalDateTime now) {
+        try {
+            return new OutboxEvent(payload.aggregateType(), payload.aggregateId(), payload.eventType(),
+                    objectMapper.writeValueAsString(payload), now);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize outbox payload " + payload.eventType(), e);
+        }
+    }
+}
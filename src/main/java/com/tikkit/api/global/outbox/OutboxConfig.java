@@ -0,0 +1,31 @@
+package com.tikkit.api.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 기본 싱크. 브로커 연동 등은 OutboxSink 빈을 직접 등록하면 된다.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(prefix = "tikkit.outbox", name = "sink", havingValue = "file")
+    public FileOutboxSink fileOutboxSink(ObjectMapper objectMapper, OutboxProperties properties) throws IOException {
+        return new FileOutboxSink(objectMapper, Path.of(properties.filePath()));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public ApplicationEventOutboxSink applicationEventOutboxSink(ApplicationEventPublisher publisher) {
+        return new ApplicationEventOutboxSink(publisher);
+    }
+}
@@ -0,0 +1,42 @@
+package com.tikkit.api.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 바깥으로 내보내지 않은 도메인 이벤트. 원본 변경과 같은 트랜잭션에서 쓰이고, OutboxRelay 가 내보낸 뒤 지운다.
+ */
+@Getter
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+    @Column(nullable = false, length = 100)
+    private String aggregateId;
+    @Column(nullable = false, length = 100)
+    private String eventType;
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
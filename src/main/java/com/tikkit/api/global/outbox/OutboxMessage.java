@@ -0,0 +1,16 @@
+package com.tikkit.api.global.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 넘기는 아웃박스 한 건. id 는 단조 증가하므로 소비자가 중복 제거 키로 쓸 수 있다(최소 한 번 전달).
+ */
+public record OutboxMessage(
+        long id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
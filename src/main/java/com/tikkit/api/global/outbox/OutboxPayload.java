@@ -0,0 +1,13 @@
+package com.tikkit.api.global.outbox;
+
+/**
+ * 아웃박스에 싣는 이벤트. 나머지 필드는 JSON 으로 직렬화되어 payload 가 된다.
+ */
+public interface OutboxPayload {
+
+    String aggregateType();
+
+    String aggregateId();
+
+    String eventType();
+}
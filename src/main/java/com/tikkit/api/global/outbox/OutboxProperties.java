@@ -0,0 +1,17 @@
+package com.tikkit.api.global.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,     // false 면 쓰기만 하고 이 인스턴스에서는 내보내지 않는다
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("500") int batchSize,             // 한 트랜잭션에서 잠그고 내보내는 행 수
+        @DefaultValue("20") int maxBatchesPerPoll,      // 밀려 있을 때 한 번의 폴링에서 연달아 처리할 배치 수
+        @DefaultValue("application-event") String sink, // application-event | file (OutboxSink 빈을 직접 등록하면 그것을 쓴다)
+        @DefaultValue("outbox/outbox.ndjson") String filePath
+) {
+}
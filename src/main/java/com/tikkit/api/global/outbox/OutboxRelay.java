@@ -0,0 +1,140 @@
+package com.tikkit.api.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스를 큰 배치로 비운다. 한 트랜잭션에서 오래된 순으로 batchSize 행을 FOR UPDATE SKIP LOCKED 로 잠그고,
+ * 싱크로 내보낸 뒤 지우고 커밋한다. 다른 인스턴스의 릴레이는 잠긴 행을 건너뛰고 다음 행을 가져가므로 서로 기다리지 않는다.
+ * 싱크가 실패하면 롤백되어 행이 그대로 남고 다음 폴링에서 다시 시도한다(최소 한 번 전달).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tikkit.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL =
+            "select id, aggregate_type, aggregate_id, event_type, payload, created_at from outbox_events "
+                    + "order by id limit ? for update skip locked";
+    private static final String DELETE_SQL = "delete from outbox_events where id = ?";
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final Timer publishTime;
+    private final DistributionSummary batchSize;
+    // 스케줄러와 수동 drain 이 겹치지 않도록(인스턴스 간 조율은 SKIP LOCKED 가 맡는다)
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       TransactionOperations transactionOperations,
+                       OutboxSink sink,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.sink = sink;
+        this.properties = properties;
+        this.published = meterRegistry.counter("tikkit.outbox.published");
+        this.failures = meterRegistry.counter("tikkit.outbox.failures");
+        this.lag = Timer.builder("tikkit.outbox.lag")
+                .description("아웃박스에 기록된 뒤 싱크로 내보내기까지 걸린 시간")
+                .register(meterRegistry);
+        this.publishTime = meterRegistry.timer("tikkit.outbox.publish");
+        this.batchSize = meterRegistry.summary("tikkit.outbox.batch.size");
+    }
+
+    @Scheduled(fixedDelayString = "${tikkit.outbox.poll-interval:500ms}")
+    public void scheduledDrain() {
+        drain();
+    }
+
+    /**
+     * 밀린 행이 없거나 maxBatchesPerPoll 에 닿을 때까지 배치를 연달아 처리한다.
+     * @return 내보낸 메시지 수
+     */
+    public int drain() {
+        drainLock.lock();
+        try {
+            int total = 0;
+            for (int i = 0; i < properties.maxBatchesPerPoll(); i++) {
+                int count = relayBatch();
+                total += count;
+                if (count < properties.batchSize()) {
+                    break;
+                }
+            }
+            return total;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private int relayBatch() {
+        try {
+            Integer count = transactionOperations.execute(status -> {
+                List<OutboxMessage> messages = jdbcTemplate.query(CLAIM_SQL, MESSAGE_MAPPER, properties.batchSize());
+                if (messages.isEmpty()) {
+                    return 0;
+                }
+                publish(messages);
+                List<Object[]> ids = new ArrayList<>(messages.size());
+                for (OutboxMessage message : messages) {
+                    ids.add(new Object[]{message.id()});
+                }
+                jdbcTemplate.batchUpdate(DELETE_SQL, ids);
+                return messages.size();
+            });
+            return count == null ? 0 : count;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("outbox relay failed, will retry", e);
+            return 0;
+        }
+    }
+
+    private void publish(List<OutboxMessage> messages) {
+        long started = System.nanoTime();
+        try {
+            sink.publish(messages);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("outbox sink failed", e);
+        }
+        publishTime.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxMessage message : messages) {
+            lag.record(Duration.between(message.createdAt(), now));
+        }
+        published.increment(messages.size());
+        batchSize.record(messages.size());
+    }
+}
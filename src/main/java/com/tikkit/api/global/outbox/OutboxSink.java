@@ -0,0 +1,12 @@
+package com.tikkit.api.global.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 메시지를 내보낼 곳(메시지 브로커, 파일 등). 배치 전체를 내보내고 나서야 반환해야 한다.
+ * 예외를 던지면 배치 전체가 아웃박스에 남아 다음 폴링에서 다시 넘어온다.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
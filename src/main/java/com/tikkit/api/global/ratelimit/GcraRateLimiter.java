@@ -0,0 +1,103 @@
+package com.tikkit.api.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 기반 키별 요청 제한.
+ * 키마다 "이론상 다음 도착 시각(TAT)" 하나만 AtomicLong 으로 두고 CAS 로 갱신하므로 락이 없다.
+ * 키 수가 maxKeys 를 넘으면 새 키는 해시로 고른 공용 슬롯(overflow)에 묶어 메모리를 제한한다.
+ */
+public class GcraRateLimiter {
+
+    private static final int OVERFLOW_SLOTS = 1024;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, AtomicLong> states = new ConcurrentHashMap<>();
+    private final AtomicLongArray overflow = new AtomicLongArray(OVERFLOW_SLOTS);
+
+    public GcraRateLimiter(int permits, Duration period, int burst, int maxKeys) {
+        this(permits, period, burst, maxKeys, System::nanoTime);
+    }
+
+    GcraRateLimiter(int permits, Duration period, int burst, int maxKeys, LongSupplier clock) {
+        if (permits <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permits and burst must be positive");
+        }
+        this.emissionIntervalNanos = period.toNanos() / permits;
+        // burst 개까지는 연달아 허용
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 허용이면 0, 거부면 다음 요청이 허용되기까지 남은 나노초
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong state = states.get(key);
+        if (state == null) {
+            if (states.size() >= maxKeys) {
+                return tryAcquireOverflow(key, now);
+            }
+            state = states.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long tat = state.get();
+            long wait = waitNanos(tat, now);
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(tat, nextTat(tat, now))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 한도가 모두 회복된(TAT 가 지난) 키를 지운다.
+     * 지우는 순간 같은 키로 CAS 중이던 요청은 잃어버린 상태를 갱신하게 되지만, 최대 한 번 더 허용될 뿐이다.
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = states.size();
+        states.values().removeIf(state -> state.get() - now <= 0);
+        return before - states.size();
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    private long tryAcquireOverflow(String key, long now) {
+        int slot = (key.hashCode() & 0x7fffffff) % OVERFLOW_SLOTS;
+        while (true) {
+            long tat = overflow.get(slot);
+            long wait = waitNanos(tat, now);
+            if (wait > 0) {
+                return wait;
+            }
+            if (overflow.compareAndSet(slot, tat, nextTat(tat, now))) {
+                return 0;
+            }
+        }
+    }
+
+    private long waitNanos(long tat, long now) {
+        long wait = tat - burstToleranceNanos - now;
+        return wait > 0 ? wait : 0;
+    }
+
+    private long nextTat(long tat, long now) {
+        return (tat - now > 0 ? tat : now) + emissionIntervalNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tikkit.api.global.ratelimit;
+
+import com.tikkit.api.global.response.PreSerializedResponses;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "tikkit.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties,
+                                           PreSerializedResponses preSerializedResponses,
+                                           MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, preSerializedResponses, meterRegistry);
+    }
+
+    // 시큐리티 필터 체인보다 먼저 실행해 거부할 요청에 인증/세션 처리를 하지 않는다
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
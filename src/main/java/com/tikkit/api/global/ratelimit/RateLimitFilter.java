@@ -0,0 +1,125 @@
+package com.tikkit.api.global.ratelimit;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 없이 열려 있는 check-email / register / login 요청을 시큐리티 필터 체인보다 앞에서 제한한다.
+ * 거부된 요청은 컨트롤러/서비스(DB)까지 가지 않고 미리 직렬화된 429 응답을 받는다.
+ * 클라이언트 IP 는 getRemoteAddr 를 쓰므로 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 한다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String CHECK_EMAIL_PATH = "/api/users/check-email";
+    private static final String REGISTER_PATH = "/api/users/register";
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    private final PreSerializedResponses preSerializedResponses;
+    private final GcraRateLimiter checkEmailPerIp;
+    private final boolean checkEmailPerDomainEnabled;
+    private final GcraRateLimiter checkEmailPerDomain;
+    private final GcraRateLimiter registerPerIp;
+    private final GcraRateLimiter loginPerIp;
+    private final Counter checkEmailPerIpRejected;
+    private final Counter checkEmailPerDomainRejected;
+    private final Counter registerPerIpRejected;
+    private final Counter loginPerIpRejected;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           PreSerializedResponses preSerializedResponses,
+                           MeterRegistry meterRegistry) {
+        this.preSerializedResponses = preSerializedResponses;
+        this.checkEmailPerIp = properties.limiter(properties.checkEmailPerIp(), properties.checkEmailPerIpBurst());
+        this.checkEmailPerDomainEnabled = properties.checkEmailPerDomainEnabled();
+        this.checkEmailPerDomain = properties.limiter(properties.checkEmailPerDomain(), properties.checkEmailPerDomainBurst());
+        this.registerPerIp = properties.limiter(properties.registerPerIp(), properties.registerPerIpBurst());
+        this.loginPerIp = properties.limiter(properties.loginPerIp(), properties.loginPerIpBurst());
+        this.checkEmailPerIpRejected = meterRegistry.counter("tikkit.rate-limit.rejected", "rule", "check_email_ip");
+        this.checkEmailPerDomainRejected = meterRegistry.counter("tikkit.rate-limit.rejected", "rule", "check_email_domain");
+        this.registerPerIpRejected = meterRegistry.counter("tikkit.rate-limit.rejected", "rule", "register_ip");
+        this.loginPerIpRejected = meterRegistry.counter("tikkit.rate-limit.rejected", "rule", "login_ip");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !CHECK_EMAIL_PATH.equals(uri) && !REGISTER_PATH.equals(uri) && !LOGIN_PATH.equals(uri);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        long wait;
+        if (CHECK_EMAIL_PATH.equals(uri)) {
+            wait = checkEmail(request);
+        } else if (REGISTER_PATH.equals(uri)) {
+            wait = acquire(registerPerIp, request.getRemoteAddr(), registerPerIpRejected);
+        } else {
+            wait = acquire(loginPerIp, request.getRemoteAddr(), loginPerIpRejected);
+        }
+        if (wait > 0) {
+            reject(response, wait);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private long checkEmail(HttpServletRequest request) {
+        long wait = acquire(checkEmailPerIp, request.getRemoteAddr(), checkEmailPerIpRejected);
+        if (wait > 0 || !checkEmailPerDomainEnabled) {
+            return wait;
+        }
+        String domain = emailDomain(request.getParameter("email"));
+        return domain == null ? 0 : acquire(checkEmailPerDomain, domain, checkEmailPerDomainRejected);
+    }
+
+    private static long acquire(GcraRateLimiter limiter, String key, Counter rejected) {
+        long wait = limiter.tryAcquire(key);
+        if (wait > 0) {
+            rejected.increment();
+        }
+        return wait;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        preSerializedResponses.write(response, HttpStatus.TOO_MANY_REQUESTS.value(), ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    // 유휴 키 정리: 한도가 다 회복된 키는 상태가 없는 것과 같다
+    @Scheduled(fixedDelayString = "${tikkit.rate-limit.idle-eviction-interval:1m}")
+    public void evictIdle() {
+        checkEmailPerIp.evictIdle();
+        checkEmailPerDomain.evictIdle();
+        registerPerIp.evictIdle();
+        loginPerIp.evictIdle();
+    }
+
+    static String emailDomain(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        if (at < 0 || at == email.length() - 1) {
+            return null;
+        }
+        return email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
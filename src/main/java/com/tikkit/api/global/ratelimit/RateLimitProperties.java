@@ -0,0 +1,28 @@
+package com.tikkit.api.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxKeys,            // 규칙별 추적하는 키(IP, 도메인) 수 상한
+        @DefaultValue("10") int checkEmailPerIp,         // 초당
+        @DefaultValue("20") int checkEmailPerIpBurst,
+        // 같은 도메인의 이메일을 여러 IP 로 훑는 열거 시도 차단. 노드 전체가 도메인 하나에 버킷 하나를 쓰므로
+        // gmail.com 같은 큰 도메인의 정상 가입도 같이 막힌다: 공격 중에 평소 트래픽보다 충분히 높게 잡고 켠다
+        @DefaultValue("false") boolean checkEmailPerDomainEnabled,
+        @DefaultValue("1000") int checkEmailPerDomain,   // 초당
+        @DefaultValue("2000") int checkEmailPerDomainBurst,
+        @DefaultValue("5") int registerPerIp,            // 초당
+        @DefaultValue("10") int registerPerIpBurst,
+        @DefaultValue("5") int loginPerIp,               // 초당, 비밀번호 대입 차단
+        @DefaultValue("10") int loginPerIpBurst,
+        @DefaultValue("1m") Duration idleEvictionInterval
+) {
+    public GcraRateLimiter limiter(int permitsPerSecond, int burst) {
+        return new GcraRateLimiter(permitsPerSecond, Duration.ofSeconds(1), burst, maxKeys);
+    }
+}
@@ -0,0 +1,63 @@
+package com.tikkit.api.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 내용이 고정된 ApiResponse 를 기동 시 한 번만 UTF-8 JSON 으로 직렬화해 두고 그대로 내려준다.
+ * MVC 와 같은 ObjectMapper 를 쓰므로 Jackson 경로로 내려갈 때와 바이트 단위로 같다.
+ */
+@Component
+public class PreSerializedResponses {
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorCode, byte[]> failures = new EnumMap<>(ErrorCode.class);
+
+    public PreSerializedResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            failures.put(errorCode, serialize(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage())));
+        }
+    }
+
+    public byte[] serialize(ApiResponse<?> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to pre-serialize " + response, e);
+        }
+    }
+
+    public byte[] failure(ErrorCode errorCode) {
+        return failures.get(errorCode);
+    }
+
+    public ResponseEntity<byte[]> fail(HttpStatusCode status, ErrorCode errorCode) {
+        return body(status, failure(errorCode));
+    }
+
+    public ResponseEntity<byte[]> body(HttpStatusCode status, byte[] body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // MVC 바깥(서블릿 필터 등)에서 바로 쓸 때
+    public void write(HttpServletResponse response, int status, ErrorCode errorCode) throws IOException {
+        byte[] body = failure(errorCode);
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,154 @@
+package com.tikkit.api.global.startup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트래픽을 받기 전의 예열. 러너는 ApplicationReadyEvent 보다 먼저 끝나야 하므로 그동안 readiness 는 REFUSING_TRAFFIC 이다.
+ * 커넥션 풀을 채우고, 엔티티마다 쿼리를 한 번씩 돌려 Hibernate 쿼리 변환·로딩 경로를 타게 하고,
+ * 자기 포트로 요청을 보내 Tomcat → 필터 → MVC → JPA → 예외 처리 경로를 JIT 가 컴파일하게 한다.
+ * 실패해도 기동은 계속한다: 예열은 첫 요청을 빠르게 할 뿐 정합성과는 무관하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+
+    private final StartupWarmupProperties properties;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.enabled()) {
+            warmUp();
+        }
+    }
+
+    public Result warmUp() {
+        long started = System.nanoTime();
+        int connections = fillPool();
+        int entities = touchEntities();
+        int requests = selfRequests();
+        Result result = new Result(connections, entities, requests, Duration.ofNanos(System.nanoTime() - started));
+        log.info("startup warm-up: {} connections, {} entities, {} requests, {} ms",
+                connections, entities, requests, result.elapsed().toMillis());
+        return result;
+    }
+
+    // 동시에 빌려야 풀이 새 커넥션을 만든다. 풀 자체의 채우기는 하우스키퍼 주기를 따라 느리다.
+    int fillPool() {
+        int target = properties.connections();
+        try {
+            if (target <= 0 && dataSource.isWrapperFor(HikariDataSource.class)) {
+                target = dataSource.unwrap(HikariDataSource.class).getMinimumIdle();
+            }
+        } catch (SQLException e) {
+            log.warn("startup warm-up: cannot inspect pool", e);
+        }
+        List<Connection> borrowed = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.max(target, 1); i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("startup warm-up: opened {} of {} connections", borrowed.size(), target, e);
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 풀이 처리한다
+                }
+            }
+        }
+        return borrowed.size();
+    }
+
+    int touchEntities() {
+        int touched = 0;
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+                try {
+                    entityManager.createQuery("select e from " + entity.getName() + " e", entity.getJavaType())
+                            .setMaxResults(1)
+                            .getResultList();
+                    touched++;
+                } catch (RuntimeException e) {
+                    log.warn("startup warm-up: query on {} failed", entity.getName(), e);
+                }
+            }
+        }
+        return touched;
+    }
+
+    // MOCK 웹 환경(테스트)이나 웹 서버가 없으면 건너뛴다
+    int selfRequests() {
+        String port = environment.getProperty("local.server.port");
+        if (port == null || properties.paths().isEmpty() || properties.requests() <= 0) {
+            return 0;
+        }
+        List<URI> uris = properties.paths().stream().map(path -> URI.create("http://localhost:" + port + path)).toList();
+        long deadline = System.nanoTime() + properties.timeout().toNanos();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+             ExecutorService workers = Executors.newFixedThreadPool(Math.max(properties.concurrency(), 1))) {
+            for (int w = 0; w < Math.max(properties.concurrency(), 1); w++) {
+                workers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < properties.requests(); i = next.getAndIncrement()) {
+                        if (System.nanoTime() > deadline) {
+                            return;
+                        }
+                        HttpRequest request = HttpRequest.newBuilder(uris.get(i % uris.size()))
+                                .timeout(Duration.ofSeconds(5))
+                                .build();
+                        try {
+                            client.send(request, HttpResponse.BodyHandlers.discarding());
+                            completed.incrementAndGet();
+                        } catch (Exception e) {
+                            if (e instanceof InterruptedException) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                        }
+                    }
+                });
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(properties.timeout().toMillis() + 5_000, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return completed.get();
+    }
+
+    public record Result(int connections, int entities, int requests, Duration elapsed) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.tikkit.api.global.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "tikkit.startup.warmup")
+public record StartupWarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int connections,                 // 미리 열어 둘 커넥션 수, 0 이면 hikari minimum-idle
+        @DefaultValue("/api/events/0/seats") List<String> paths, // 인증·레이트 리밋 없이 DB 까지 가는 경로(없는 공연이라 404)
+        @DefaultValue("2000") int requests,                 // 경로들에 나눠 보내는 자기 호출 수
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("10s") Duration timeout               // 넘으면 남은 호출을 버리고 readiness 를 연다
+) {
+}
@@ -0,0 +1,31 @@
+package com.tikkit.api.purchase.controller;
+
+import com.tikkit.api.auth.security.AuthUser;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.purchase.dto.PurchaseRequest;
+import com.tikkit.api.purchase.dto.PurchaseResponse;
+import com.tikkit.api.purchase.service.PurchaseService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/purchases")
+@RequiredArgsConstructor
+public class PurchaseController {
+
+    private final PurchaseService purchaseService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<PurchaseResponse>> purchase(@PathVariable long eventId,
+                                                                  @RequestBody @Valid PurchaseRequest request,
+                                                                  @AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(ApiResponse.success(purchaseService.purchase(eventId, request.seatNos(), authUser.id())));
+    }
+}
@@ -0,0 +1,12 @@
+package com.tikkit.api.purchase.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PurchaseRequest(
+        @NotEmpty @Size(max = 10) List<@NotNull Integer> seatNos    // 이 사용자가 선점해 둔 좌석들
+) {
+}
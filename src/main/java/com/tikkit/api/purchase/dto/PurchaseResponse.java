@@ -0,0 +1,12 @@
+package com.tikkit.api.purchase.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PurchaseResponse(
+        Long orderId,
+        Long eventId,
+        List<Integer> seatNos,
+        LocalDateTime purchasedAt
+) {
+}
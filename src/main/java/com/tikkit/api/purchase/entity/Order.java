@@ -0,0 +1,49 @@
+package com.tikkit.api.purchase.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매 한 건. 구매 저널(PurchaseJournal)이 원본이고, PurchaseProjector 가 뒤따라 배치로 기록한다.
+ * id 는 저널 순번에서 만든다(PurchaseJournal.orderId): 요청 경로에서 DB 시퀀스를 읽지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id", columnList = "userId, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Order {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private Long eventId;
+    @Column(nullable = false)
+    private int seatCount;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+    @Column(nullable = false)
+    private LocalDateTime purchasedAt;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public Order(Long id, Long userId, Long eventId, int seatCount, OrderStatus status,
+                 LocalDateTime purchasedAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.eventId = eventId;
+        this.seatCount = seatCount;
+        this.status = status;
+        this.purchasedAt = purchasedAt;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,5 @@
+package com.tikkit.api.purchase.entity;
+
+public enum OrderStatus {
+    CONFIRMED
+}
@@ -0,0 +1,52 @@
+package com.tikkit.api.purchase.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블에 반영할 수 없는 저널 기록(제약 위반: 이미 팔린 좌석, 겹치는 주문 id). 반영을 막지 않도록 여기로 옮기고 순번은 넘어간다.
+ * 고객에게는 구매 완료로 응답한 건이므로 운영자가 확인해 환불/재배정한다.
+ */
+@Getter
+@Entity
+@Table(name = "purchase_dead_letters")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PurchaseDeadLetter {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Integer nodeId;
+    @Column(nullable = false)
+    private long journalSequence;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private Long eventId;
+    @Column(nullable = false, length = 100)
+    private String seatNos;   // 쉼표로 구분
+    @Column(nullable = false)
+    private LocalDateTime purchasedAt;
+    @Column(nullable = false, length = 500)
+    private String error;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public PurchaseDeadLetter(Long orderId, Integer nodeId, long journalSequence, Long userId, Long eventId, String seatNos,
+                              LocalDateTime purchasedAt, String error, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.nodeId = nodeId;
+        this.journalSequence = journalSequence;
+        this.userId = userId;
+        this.eventId = eventId;
+        this.seatNos = seatNos;
+        this.purchasedAt = purchasedAt;
+        this.error = error;
+        this.createdAt = createdAt;
+    }
+}
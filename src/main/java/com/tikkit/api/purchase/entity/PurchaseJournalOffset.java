@@ -0,0 +1,27 @@
+package com.tikkit.api.purchase.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저널(노드)별로 테이블에 반영을 마친 마지막 순번. 반영한 행과 같은 트랜잭션에서 갱신하므로 재기동해도 두 번 반영하지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "purchase_journal_offsets")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PurchaseJournalOffset {
+
+    @Id
+    private Integer nodeId;
+
+    @Column(nullable = false)
+    private long appliedSequence;
+
+    public PurchaseJournalOffset(Integer nodeId, long appliedSequence) {
+        this.nodeId = nodeId;
+        this.appliedSequence = appliedSequence;
+    }
+}
@@ -0,0 +1,42 @@
+package com.tikkit.api.purchase.entity;
+
+import com.tikkit.api.event.entity.SeatId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매로 확정된 좌석 한 칸. 좌석과 같은 키(공연 id + 좌석 번호)라서 같은 좌석이 두 번 팔리면 insert 가 실패한다.
+ */
+@Getter
+@Entity
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_order_id", columnList = "orderId")
+})
+@IdClass(SeatId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Reservation {
+
+    @Id
+    private Long eventId;
+    @Id
+    private int seatNo;
+
+    @Column(nullable = false)
+    private Long orderId;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public Reservation(Long eventId, int seatNo, Long orderId, Long userId, LocalDateTime createdAt) {
+        this.eventId = eventId;
+        this.seatNo = seatNo;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.createdAt = createdAt;
+    }
+}
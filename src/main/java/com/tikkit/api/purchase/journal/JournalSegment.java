@@ -0,0 +1,170 @@
+package com.tikkit.api.purchase.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 세그먼트 파일 하나(미리 크기를 잡아 READ_WRITE 로 매핑).
+ * 기록 형식: [int 본문 길이][int CRC32C(순번+본문)][long 순번][본문]. 길이 0 은 데이터의 끝(미리 잡은 0 영역).
+ * 본문: [long userId][long eventId][long purchasedAt][int 좌석 수][int 좌석 번호...]
+ */
+final class JournalSegment {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int FIXED_BODY_BYTES = Long.BYTES * 3 + Integer.BYTES;
+    private static final String SUFFIX = ".journal";
+
+    private final long firstSequence;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    // 쓰기 스레드만 바꾼다
+    private int position;
+    private int forcedPosition;
+
+    private JournalSegment(long firstSequence, Path path, MappedByteBuffer buffer) {
+        this.firstSequence = firstSequence;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long firstSequence, int size) throws IOException {
+        Path path = directory.resolve(fileName(firstSequence));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new JournalSegment(firstSequence, path, map(channel, size));
+        }
+    }
+
+    static JournalSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new JournalSegment(firstSequenceOf(path), path, map(channel, (int) channel.size()));
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    static int recordBytes(int seatCount) {
+        return HEADER_BYTES + FIXED_BODY_BYTES + Integer.BYTES * seatCount;
+    }
+
+    boolean fits(int recordBytes) {
+        return position + recordBytes <= buffer.capacity();
+    }
+
+    void append(long sequence, long userId, long eventId, long purchasedAtMillis, int[] seatNos) {
+        int bodyBytes = FIXED_BODY_BYTES + Integer.BYTES * seatNos.length;
+        ByteBuffer record = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        record.position(position + Integer.BYTES * 2);
+        record.putLong(sequence).putLong(userId).putLong(eventId).putLong(purchasedAtMillis).putInt(seatNos.length);
+        for (int seatNo : seatNos) {
+            record.putInt(seatNo);
+        }
+        record.putInt(position + Integer.BYTES, crc(position, bodyBytes));
+        // 길이를 마지막에 쓴다: 쓰다 만 기록은 길이 0 이거나 CRC 가 맞지 않는다
+        record.putInt(position, bodyBytes);
+        position += HEADER_BYTES + bodyBytes;
+    }
+
+    /**
+     * 마지막 force 이후 쓴 구간만 디스크에 내린다.
+     */
+    void force() {
+        if (position > forcedPosition) {
+            buffer.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    /**
+     * position 의 기록을 읽는다. 데이터의 끝이거나, 순번이 expectedSequence 가 아니거나, CRC 가 맞지 않으면 null.
+     */
+    PurchaseEntry read(int position, long expectedSequence) {
+        if (position + HEADER_BYTES > buffer.capacity()) {
+            return null;
+        }
+        ByteBuffer record = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int bodyBytes = record.getInt(position);
+        if (bodyBytes < FIXED_BODY_BYTES || position + HEADER_BYTES + bodyBytes > buffer.capacity()
+                || record.getLong(position + Integer.BYTES * 2) != expectedSequence
+                || record.getInt(position + Integer.BYTES) != crc(position, bodyBytes)) {
+            return null;
+        }
+        record.position(position + HEADER_BYTES);
+        long userId = record.getLong();
+        long eventId = record.getLong();
+        long purchasedAtMillis = record.getLong();
+        int seatCount = record.getInt();
+        if (seatCount < 0 || FIXED_BODY_BYTES + Integer.BYTES * seatCount != bodyBytes) {
+            return null;
+        }
+        int[] seatNos = new int[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            seatNos[i] = record.getInt();
+        }
+        return new PurchaseEntry(expectedSequence, userId, eventId, purchasedAtMillis, seatNos);
+    }
+
+    // 데이터의 끝(0)이 아닌 자리에서 멈췄으면 찢어진 기록이다
+    boolean hasGarbageAt(int position) {
+        return position + Integer.BYTES <= buffer.capacity() && buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(position) != 0;
+    }
+
+    // 복구: position 뒤를 0 으로 지워, 그 자리에 새로 쓴 기록 뒤에 예전 기록이 이어 읽히지 않게 한다
+    void truncate(int position) {
+        ByteBuffer zeros = buffer.duplicate();
+        zeros.position(position);
+        byte[] page = new byte[4096];
+        while (zeros.hasRemaining()) {
+            zeros.put(page, 0, Math.min(page.length, zeros.remaining()));
+        }
+        buffer.force();
+        this.position = position;
+        this.forcedPosition = position;
+    }
+
+    void recovered(int position) {
+        this.position = position;
+        this.forcedPosition = position;
+    }
+
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int position() {
+        return position;
+    }
+
+    private int crc(int position, int bodyBytes) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer covered = buffer.duplicate();
+        covered.position(position + Integer.BYTES * 2).limit(position + HEADER_BYTES + bodyBytes);
+        crc.update(covered);
+        return (int) crc.getValue();
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private static String fileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, SUFFIX);
+    }
+
+    private static long firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
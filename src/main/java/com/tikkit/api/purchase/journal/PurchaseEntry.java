@@ -0,0 +1,13 @@
+package com.tikkit.api.purchase.journal;
+
+/**
+ * 저널 기록 하나: 한 사용자가 한 공연의 선점 좌석들을 구매로 확정했다.
+ */
+public record PurchaseEntry(
+        long sequence,
+        long userId,
+        long eventId,
+        long purchasedAtMillis,
+        int[] seatNos
+) {
+}
@@ -0,0 +1,386 @@
+package com.tikkit.api.purchase.journal;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.OverloadedException;
+import com.tikkit.api.purchase.entity.PurchaseJournalOffset;
+import com.tikkit.api.purchase.repository.PurchaseJournalOffsetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 구매 확정을 기록하는 추가 전용 저널. 구매 한 건마다 DB 트랜잭션(=fsync)을 하지 않고,
+ * 쓰기 스레드 하나가 commitWindow 동안(또는 maxBatchSize 까지) 모은 기록을 매핑된 세그먼트에 쓰고 fsync 한 번으로 함께 확정한다(group commit).
+ * append 가 돌려준 future 는 그 fsync 뒤에 완료되므로, 완료된 구매는 프로세스가 죽어도 남는다.
+ * 세그먼트가 차면 다음 파일로 넘어가고, 테이블 반영(PurchaseProjector)이 끝난 세그먼트는 지운다.
+ * 기동 시 세그먼트를 처음부터 읽어 CRC/순번이 맞는 데까지 복구하고, 마지막 세그먼트의 찢어진 꼬리는 지운다.
+ * 순번은 DB 에 반영된 순번(purchase_journal_offsets) 뒤에서 이어 간다: 저널 디렉터리가 비어 있으면(새 볼륨) 그 다음부터 쓰고,
+ * 저널이 DB 보다 뒤처져 있으면(다른 노드의 디렉터리, 되돌린 볼륨) 주문 id 가 겹치므로 기동하지 않는다.
+ * fsync 에 실패하면 디스크 상태를 알 수 없으므로 이후 기록을 모두 거절한다.
+ */
+@Slf4j
+@Component
+public class PurchaseJournal {
+
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final PurchaseJournalProperties properties;
+    private final Path directory;
+    private final boolean temporaryDirectory;
+    private final int segmentSize;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<PendingAppend> queue;
+    private final Thread writer;
+    private final Counter appends;
+    private final Counter fsyncs;
+    private final DistributionSummary batchSize;
+    private final Timer commitTimer;
+    // 쓰기 스레드만 바꾼다
+    private JournalSegment active;
+    private long nextSequence;
+    private volatile long committedSequence;
+    private volatile boolean running = true;
+    private volatile Throwable failure;
+
+    @Autowired
+    public PurchaseJournal(PurchaseJournalProperties properties,
+                           MeterRegistry meterRegistry,
+                           PurchaseJournalOffsetRepository offsetRepository) throws IOException {
+        this(properties, meterRegistry, offsetRepository.findById(properties.nodeId())
+                .map(PurchaseJournalOffset::getAppliedSequence)
+                .orElse(0L));
+    }
+
+    PurchaseJournal(PurchaseJournalProperties properties, MeterRegistry meterRegistry, long appliedSequence) throws IOException {
+        this.properties = properties;
+        this.temporaryDirectory = properties.directory().isBlank();
+        this.directory = temporaryDirectory
+                ? Files.createTempDirectory("tikkit-journal")
+                : Files.createDirectories(Path.of(properties.directory()));
+        this.segmentSize = Math.toIntExact(properties.segmentSize().toBytes());
+        // 같은 디렉터리를 두 프로세스가 쓰면 순번이 겹친다
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.lock = lockChannel.tryLock();
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("purchase journal " + directory + " is used by another process");
+        }
+        this.queue = new LinkedBlockingQueue<>(properties.queueCapacity());
+        this.appends = meterRegistry.counter("tikkit.purchase.journal.appends");
+        this.fsyncs = meterRegistry.counter("tikkit.purchase.journal.fsyncs");
+        this.batchSize = DistributionSummary.builder("tikkit.purchase.journal.batch.size")
+                .description("fsync 한 번에 확정한 기록 수")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("tikkit.purchase.journal.commit")
+                .description("모은 기록을 쓰고 fsync 하는 시간")
+                .register(meterRegistry);
+        Gauge.builder("tikkit.purchase.journal.segments", segments, List::size).register(meterRegistry);
+        try {
+            recover(appliedSequence);
+        } catch (IOException | RuntimeException e) {
+            lock.release();
+            lockChannel.close();
+            throw e;
+        }
+        this.writer = Thread.ofPlatform().name("purchase-journal-writer").daemon().start(this::run);
+    }
+
+    /**
+     * @return fsync 로 확정되면 그 기록의 순번으로 완료되는 future
+     */
+    public CompletableFuture<Long> append(long userId, long eventId, long purchasedAtMillis, int[] seatNos) {
+        if (failure != null || !running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("purchase journal is not writable", failure));
+        }
+        if (JournalSegment.recordBytes(seatNos.length) > segmentSize) {
+            throw new IllegalArgumentException("purchase record larger than a journal segment: " + seatNos.length + " seats");
+        }
+        PendingAppend pending = new PendingAppend(userId, eventId, purchasedAtMillis, seatNos.clone(),
+                System.nanoTime(), new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new OverloadedException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+        }
+        return pending.future();
+    }
+
+    // 인스턴스마다 저널이 따로이므로 nodeId 를 상위 비트에 둔다
+    public long orderId(long sequence) {
+        return ((long) properties.nodeId() << 48) | sequence;
+    }
+
+    public int nodeId() {
+        return properties.nodeId();
+    }
+
+    public long committedSequence() {
+        return committedSequence;
+    }
+
+    /**
+     * afterSequence 다음 기록부터 확정된 기록을 차례로 읽는 커서. 한 스레드에서만 쓴다.
+     */
+    public Reader reader(long afterSequence) {
+        return new Reader(afterSequence);
+    }
+
+    /**
+     * appliedSequence 까지 반영을 마쳤다: 그 안의 기록만 담은 세그먼트를 지운다(쓰는 중인 세그먼트는 남긴다).
+     */
+    public int deleteAppliedSegments(long appliedSequence) {
+        int deleted = 0;
+        while (segments.size() > 1 && segments.get(1).firstSequence() <= appliedSequence + 1) {
+            JournalSegment segment = segments.remove(0);
+            try {
+                Files.deleteIfExists(segment.path());
+                deleted++;
+            } catch (IOException e) {
+                log.warn("failed to delete purchase journal segment {}", segment.path(), e);
+            }
+        }
+        return deleted;
+    }
+
+    private void run() {
+        List<PendingAppend> batch = new ArrayList<>(properties.maxBatchSize());
+        long window = properties.commitWindow().toNanos();
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = first.enqueuedNanos() + window;
+                while (batch.size() < properties.maxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAppend next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        IllegalStateException closed = new IllegalStateException("purchase journal closed");
+        batch.forEach(pending -> pending.future().completeExceptionally(closed));
+        queue.forEach(pending -> pending.future().completeExceptionally(closed));
+    }
+
+    private void commit(List<PendingAppend> batch) {
+        if (failure != null) {
+            IllegalStateException rejected = new IllegalStateException("purchase journal is not writable", failure);
+            batch.forEach(pending -> pending.future().completeExceptionally(rejected));
+            return;
+        }
+        long first = nextSequence;
+        try {
+            commitTimer.record(() -> {
+                for (PendingAppend pending : batch) {
+                    int bytes = JournalSegment.recordBytes(pending.seatNos().length);
+                    if (!active.fits(bytes)) {
+                        roll();
+                    }
+                    active.append(nextSequence++, pending.userId(), pending.eventId(), pending.purchasedAtMillis(), pending.seatNos());
+                }
+                active.force();
+            });
+        } catch (RuntimeException e) {
+            failure = e;
+            log.error("purchase journal commit failed, rejecting further appends", e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+        committedSequence = nextSequence - 1;
+        fsyncs.increment();
+        appends.increment(batch.size());
+        batchSize.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(first + i);
+        }
+    }
+
+    // 이전 세그먼트를 다 내린 뒤 넘어간다: 뒤 세그먼트가 있으면 앞 세그먼트는 완결돼 있다
+    private void roll() {
+        active.force();
+        try {
+            active = JournalSegment.create(directory, nextSequence, segmentSize);
+            forceDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.add(active);
+    }
+
+    private void recover(long appliedSequence) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(JournalSegment::isSegment).sorted(Comparator.comparing(Path::getFileName)).toList();
+        }
+        if (files.isEmpty()) {
+            if (appliedSequence > 0) {
+                // 반영 전이던 기록은 잃었지만, 적어도 이미 반영된 주문과 id 가 겹치거나 새 기록을 건너뛰지는 않는다
+                log.warn("purchase journal {} is empty but node {} has applied up to sequence {}: continuing from {}",
+                        directory, properties.nodeId(), appliedSequence, appliedSequence + 1);
+            }
+            active = JournalSegment.create(directory, appliedSequence + 1, segmentSize);
+            forceDirectory();
+            segments.add(active);
+            nextSequence = appliedSequence + 1;
+            committedSequence = appliedSequence;
+            return;
+        }
+        long expected = -1;
+        for (int i = 0; i < files.size(); i++) {
+            JournalSegment segment = JournalSegment.open(files.get(i));
+            if (expected != -1 && segment.firstSequence() != expected) {
+                throw new IllegalStateException("purchase journal segment " + segment.path()
+                        + " starts at " + segment.firstSequence() + ", expected " + expected);
+            }
+            expected = segment.firstSequence();
+            int position = 0;
+            PurchaseEntry entry;
+            while ((entry = segment.read(position, expected)) != null) {
+                position += JournalSegment.recordBytes(entry.seatNos().length);
+                expected++;
+            }
+            boolean last = i == files.size() - 1;
+            if (segment.hasGarbageAt(position)) {
+                if (!last) {
+                    // 다음 세그먼트는 앞 세그먼트를 다 내린 뒤에만 생기므로, 중간 세그먼트의 손상은 디스크 문제다
+                    throw new IllegalStateException("purchase journal segment " + segment.path() + " is corrupted at " + position);
+                }
+                log.warn("purchase journal: discarding torn tail of {} at {} (sequence {})", segment.path(), position, expected);
+                segment.truncate(position);
+            } else {
+                segment.recovered(position);
+            }
+            segments.add(segment);
+        }
+        long first = segments.get(0).firstSequence();
+        if (expected - 1 < appliedSequence || first > appliedSequence + 1) {
+            // 반영을 마친 세그먼트만 지우므로 정상이라면 첫 세그먼트 ≤ 반영 순번 + 1 ≤ 마지막 순번 + 1 이다
+            throw new IllegalStateException("purchase journal " + directory + " holds sequences " + first + ".." + (expected - 1)
+                    + " but node " + properties.nodeId() + " has applied up to " + appliedSequence
+                    + ": wrong journal directory or node-id");
+        }
+        active = segments.get(segments.size() - 1);
+        nextSequence = expected;
+        committedSequence = expected - 1;
+        log.info("purchase journal recovered: {} segments, last sequence {}", segments.size(), committedSequence);
+    }
+
+    // 새 세그먼트 파일의 디렉터리 항목까지 내린다(지원하지 않는 OS 에서는 건너뛴다)
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("directory fsync not supported for {}", directory, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        lock.release();
+        lockChannel.close();
+        if (temporaryDirectory) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    public final class Reader {
+        private JournalSegment segment;
+        private int position;
+        private long nextSequence;
+
+        private Reader(long afterSequence) {
+            segment = segments.get(0);
+            for (JournalSegment candidate : segments) {
+                if (candidate.firstSequence() <= afterSequence + 1) {
+                    segment = candidate;
+                }
+            }
+            if (segment.firstSequence() > afterSequence + 1) {
+                log.warn("purchase journal: sequences {}..{} are no longer in the journal, reading from {}",
+                        afterSequence + 1, segment.firstSequence() - 1, segment.firstSequence());
+            }
+            nextSequence = segment.firstSequence();
+            while (nextSequence <= afterSequence && next() != null) {
+                // 이미 반영한 기록은 건너뛴다
+            }
+        }
+
+        /**
+         * @return 확정된 기록 중 다음 max 개(없으면 빈 목록)
+         */
+        public List<PurchaseEntry> next(int max) {
+            List<PurchaseEntry> entries = new ArrayList<>(Math.min(max, 1024));
+            PurchaseEntry entry;
+            while (entries.size() < max && (entry = next()) != null) {
+                entries.add(entry);
+            }
+            return entries;
+        }
+
+        private PurchaseEntry next() {
+            if (nextSequence > committedSequence) {
+                return null;
+            }
+            PurchaseEntry entry = segment.read(position, nextSequence);
+            if (entry == null) {
+                // 이 세그먼트의 끝: 다음 순번으로 시작하는 세그먼트로 넘어간다
+                JournalSegment following = segments.stream()
+                        .filter(candidate -> candidate.firstSequence() == nextSequence)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("purchase journal sequence " + nextSequence + " not found"));
+                segment = following;
+                position = 0;
+                entry = segment.read(position, nextSequence);
+                if (entry == null) {
+                    throw new IllegalStateException("purchase journal sequence " + nextSequence + " is unreadable");
+                }
+            }
+            position += JournalSegment.recordBytes(entry.seatNos().length);
+            nextSequence++;
+            return entry;
+        }
+    }
+
+    private record PendingAppend(long userId, long eventId, long purchasedAtMillis, int[] seatNos,
+                                 long enqueuedNanos, CompletableFuture<Long> future) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.tikkit.api.purchase.journal;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "tikkit.purchase.journal")
+public record PurchaseJournalProperties(
+        @DefaultValue("journal/purchases") String directory,   // 비우면 임시 디렉터리(테스트/벤치마크용, 종료 시 지운다)
+        @NotNull @Min(0) @Max(32767) Integer nodeId,    // 기본값 없음: 주문 id 상위 비트이자 반영 순번(purchase_journal_offsets)의 키. 인스턴스마다 달라야 한다
+        @DefaultValue("64MB") DataSize segmentSize,     // 다 차면 새 세그먼트 파일로 넘어간다
+        @DefaultValue("0ms") Duration commitWindow,     // 첫 기록 뒤로 이만큼 더 기다려 모은다. 0 이면 직전 fsync 동안 쌓인 것만 묶는다
+        @DefaultValue("1000") int maxBatchSize,         // fsync 한 번에 담는 기록 수
+        @DefaultValue("10000") int queueCapacity,       // 넘으면 SERVER_BUSY
+        @DefaultValue("true") boolean projectorEnabled, // false 면 저널에 쓰기만 하고 테이블에 반영하지 않는다(벤치마크용)
+        @DefaultValue("200ms") Duration projectInterval,
+        @DefaultValue("500") int projectBatchSize       // 한 트랜잭션으로 테이블에 반영하는 기록 수
+) {
+}
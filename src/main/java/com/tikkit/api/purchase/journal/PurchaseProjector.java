@@ -0,0 +1,206 @@
+package com.tikkit.api.purchase.journal;
+
+import com.tikkit.api.event.entity.SeatStatus;
+import com.tikkit.api.purchase.entity.OrderStatus;
+import com.tikkit.api.purchase.entity.PurchaseJournalOffset;
+import com.tikkit.api.purchase.repository.PurchaseJournalOffsetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 구매 저널의 확정된 기록을 orders / reservations 에 배치로 반영하고, seats 를 SOLD 로 맞춘다
+ * (구매 시 SeatWriteBehind.claimSold 로 이미 SOLD 로 잡아 두었으므로 대개 좌석 행은 건드리지 않는다).
+ * 반영한 마지막 순번(purchase_journal_offsets)을 같은 트랜잭션에서 갱신하므로 재기동해도 두 번 반영하지 않는다.
+ * 기동 시(ApplicationRunner) 밀린 기록을 먼저 다 반영한다: 좌석표를 DB 에서 복구할 때 판매된 좌석이 빠지지 않도록.
+ * 제약 위반(이미 팔린 좌석 등)은 다시 해도 실패하므로, 그 기록만 purchase_dead_letters 로 옮기고 다음 기록으로 넘어간다.
+ * 그 밖의 실패(DB 장애)는 같은 순번부터 다시 시도한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tikkit.purchase.journal", name = "projector-enabled", havingValue = "true", matchIfMissing = true)
+public class PurchaseProjector implements ApplicationRunner {
+
+    private static final String INSERT_ORDER_SQL = "insert into orders "
+            + "(id, user_id, event_id, seat_count, status, purchased_at, created_at) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESERVATION_SQL =
+            "insert into reservations (event_id, seat_no, order_id, user_id, created_at) values (?, ?, ?, ?, ?)";
+    private static final String SELL_SEAT_SQL = "update seats set status = ?, held_by = ?, expires_at = null, updated_at = ?, version = version + 1 "
+            + "where event_id = ? and seat_no = ? and (status <> ? or held_by <> ?)";
+    private static final String UPDATE_OFFSET_SQL = "update purchase_journal_offsets set applied_sequence = ? where node_id = ?";
+    private static final String INSERT_OFFSET_SQL = "insert into purchase_journal_offsets (node_id, applied_sequence) values (?, ?)";
+    private static final String INSERT_DEAD_LETTER_SQL = "insert into purchase_dead_letters "
+            + "(order_id, node_id, journal_sequence, user_id, event_id, seat_nos, purchased_at, error, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PurchaseJournal journal;
+    private final PurchaseJournalOffsetRepository offsetRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final PurchaseJournalProperties properties;
+    private final Counter applied;
+    private final Counter failures;
+    private final Counter deadLetters;
+    private final ReentrantLock lock = new ReentrantLock();
+    private PurchaseJournal.Reader reader;
+    private volatile long appliedSequence = -1;
+
+    public PurchaseProjector(PurchaseJournal journal,
+                             PurchaseJournalOffsetRepository offsetRepository,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionOperations transactionOperations,
+                             PurchaseJournalProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.offsetRepository = offsetRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.applied = meterRegistry.counter("tikkit.purchase.projector.applied");
+        this.failures = meterRegistry.counter("tikkit.purchase.projector.failures");
+        this.deadLetters = meterRegistry.counter("tikkit.purchase.projector.dead-letters");
+        Gauge.builder("tikkit.purchase.projector.lag", this,
+                        projector -> projector.appliedSequence < 0 ? 0 : journal.committedSequence() - projector.appliedSequence)
+                .description("저널에 확정됐지만 아직 테이블에 반영하지 않은 기록 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int projected = project();
+        if (projected > 0) {
+            log.info("purchase journal: applied {} pending entries on startup", projected);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tikkit.purchase.journal.project-interval:200ms}")
+    public void scheduledProject() {
+        project();
+    }
+
+    @PreDestroy
+    public void projectOnShutdown() {
+        project();
+    }
+
+    /**
+     * @return 반영한 기록 수
+     */
+    public int project() {
+        lock.lock();
+        try {
+            if (reader == null) {
+                appliedSequence = offsetRepository.findById(journal.nodeId())
+                        .map(PurchaseJournalOffset::getAppliedSequence)
+                        .orElse(0L);
+                reader = journal.reader(appliedSequence);
+            }
+            int projected = 0;
+            List<PurchaseEntry> entries;
+            while (!(entries = reader.next(properties.projectBatchSize())).isEmpty()) {
+                applyOrDeadLetter(entries);
+                projected += entries.size();
+            }
+            if (projected > 0) {
+                journal.deleteAppliedSegments(appliedSequence);
+            }
+            return projected;
+        } catch (RuntimeException e) {
+            failures.increment();
+            // 커서가 앞서 나갔을 수 있다: 다음 번에 DB 의 순번부터 다시 읽는다
+            reader = null;
+            log.warn("purchase journal projection failed, will retry", e);
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyOrDeadLetter(List<PurchaseEntry> entries) {
+        try {
+            apply(entries);
+        } catch (DataIntegrityViolationException e) {
+            // 배치의 어느 기록이 막았는지 모른다: 한 건씩 다시 반영하고, 그래도 안 되는 기록만 옮긴다
+            for (PurchaseEntry entry : entries) {
+                try {
+                    apply(List.of(entry));
+                } catch (DataIntegrityViolationException rejected) {
+                    deadLetter(entry, rejected);
+                }
+            }
+        }
+    }
+
+    private void apply(List<PurchaseEntry> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> orders = new ArrayList<>(entries.size());
+        List<Object[]> reservations = new ArrayList<>(entries.size());
+        List<Object[]> seats = new ArrayList<>(entries.size());
+        for (PurchaseEntry entry : entries) {
+            long orderId = journal.orderId(entry.sequence());
+            LocalDateTime purchasedAt = toLocalDateTime(entry.purchasedAtMillis());
+            orders.add(new Object[]{orderId, entry.userId(), entry.eventId(), entry.seatNos().length,
+                    OrderStatus.CONFIRMED.name(), purchasedAt, now});
+            for (int seatNo : entry.seatNos()) {
+                reservations.add(new Object[]{entry.eventId(), seatNo, orderId, entry.userId(), now});
+                seats.add(new Object[]{SeatStatus.SOLD.name(), entry.userId(), now, entry.eventId(), seatNo,
+                        SeatStatus.SOLD.name(), entry.userId()});
+            }
+        }
+        long last = entries.get(entries.size() - 1).sequence();
+        transactionOperations.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders);
+            jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, reservations);
+            jdbcTemplate.batchUpdate(SELL_SEAT_SQL, seats);
+            advance(last);
+        });
+        appliedSequence = last;
+        applied.increment(entries.size());
+    }
+
+    private void deadLetter(PurchaseEntry entry, DataIntegrityViolationException rejected) {
+        long orderId = journal.orderId(entry.sequence());
+        String error = String.valueOf(rejected.getMostSpecificCause().getMessage());
+        String seatNos = Arrays.stream(entry.seatNos()).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        transactionOperations.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_DEAD_LETTER_SQL, orderId, journal.nodeId(), entry.sequence(), entry.userId(),
+                    entry.eventId(), seatNos, toLocalDateTime(entry.purchasedAtMillis()),
+                    error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)), LocalDateTime.now());
+            advance(entry.sequence());
+        });
+        appliedSequence = entry.sequence();
+        deadLetters.increment();
+        log.error("purchase journal: order {} (user {}, event {}, seats {}) cannot be applied, moved to purchase_dead_letters: {}",
+                orderId, entry.userId(), entry.eventId(), seatNos, error);
+    }
+
+    private void advance(long sequence) {
+        if (jdbcTemplate.update(UPDATE_OFFSET_SQL, sequence, journal.nodeId()) == 0) {
+            jdbcTemplate.update(INSERT_OFFSET_SQL, journal.nodeId(), sequence);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
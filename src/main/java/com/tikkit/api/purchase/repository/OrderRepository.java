@@ -0,0 +1,11 @@
+package com.tikkit.api.purchase.repository;
+
+import com.tikkit.api.purchase.entity.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    List<Order> findByUserIdOrderByIdDesc(Long userId);
+}
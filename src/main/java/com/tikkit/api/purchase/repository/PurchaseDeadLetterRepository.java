@@ -0,0 +1,7 @@
+package com.tikkit.api.purchase.repository;
+
+import com.tikkit.api.purchase.entity.PurchaseDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PurchaseDeadLetterRepository extends JpaRepository<PurchaseDeadLetter, Long> {
+}
@@ -0,0 +1,12 @@
+package com.tikkit.api.purchase.repository;
+
+import com.tikkit.api.event.entity.SeatId;
+import com.tikkit.api.purchase.entity.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ReservationRepository extends JpaRepository<Reservation, SeatId> {
+
+    List<Reservation> findByOrderIdOrderBySeatNo(Long orderId);
+}
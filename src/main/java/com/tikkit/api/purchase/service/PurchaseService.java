@@ -0,0 +1,12 @@
+package com.tikkit.api.purchase.service;
+
+import com.tikkit.api.purchase.dto.PurchaseResponse;
+
+import java.util.List;
+
+public interface PurchaseService {
+    /**
+     * 선점한 좌석들을 한꺼번에 구매로 확정한다. 하나라도 선점하지 않았거나 만료됐으면 아무것도 확정하지 않는다.
+     */
+    PurchaseResponse purchase(long eventId, List<Integer> seatNos, long userId);
+}
@@ -0,0 +1,96 @@
+package com.tikkit.api.purchase.service;
+
+import com.tikkit.api.event.inventory.SeatHoldExpiry;
+import com.tikkit.api.event.inventory.SeatInventory;
+import com.tikkit.api.event.inventory.SeatInventoryRegistry;
+import com.tikkit.api.event.inventory.SeatWriteBehind;
+import com.tikkit.api.global.exception.ConflictException;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import com.tikkit.api.purchase.dto.PurchaseResponse;
+import com.tikkit.api.purchase.journal.PurchaseJournal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 메모리 좌석표에서 선점을 판매로 확정(CAS)하고, seats 행을 SOLD 로 잡은 뒤(조건부 update) 구매 저널에 기록해 그 fsync 를 기다려 응답한다.
+ * 좌석표는 노드마다 따로라 메모리 확정만으로는 다른 노드가 먼저 잡은 좌석을 알 수 없다: 행을 못 잡으면 구매를 실패시킨다.
+ * orders/reservations 반영은 PurchaseProjector 가 뒤따라 배치로 한다.
+ * 행을 못 잡거나 저널 기록에 실패하면 확정을 되돌리고 선점 만료를 다시 건다(되돌린 좌석은 다음 flush 가 HELD 로 다시 쓴다).
+ * 행을 잡은 뒤 저널에 쓰기 전에 프로세스가 죽으면 좌석은 주문 없이 SOLD 로 남는다(두 번 파는 것보다 안전한 쪽).
+ */
+@Service
+@RequiredArgsConstructor
+public class PurchaseServiceImpl implements PurchaseService {
+
+    private final SeatInventoryRegistry seatInventoryRegistry;
+    private final SeatHoldExpiry seatHoldExpiry;
+    private final PurchaseJournal purchaseJournal;
+    private final SeatWriteBehind seatWriteBehind;
+
+    @Override
+    public PurchaseResponse purchase(long eventId, List<Integer> seatNos, long userId) {
+        SeatInventory inventory = seatInventoryRegistry.get(eventId);
+        int[] seats = seatNos.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        for (int seatNo : seats) {
+            if (!inventory.contains(seatNo)) {
+                throw new NotFoundException(ErrorCode.SEAT_NOT_FOUND, ErrorCode.SEAT_NOT_FOUND.getMessage());
+            }
+        }
+        for (int i = 0; i < seats.length; i++) {
+            if (!inventory.confirm(seats[i], userId)) {
+                revert(inventory, seats, i, userId);
+                ErrorCode errorCode = inventory.isExpiredFor(seats[i], userId) ? ErrorCode.HOLD_EXPIRED : ErrorCode.SEAT_NOT_HELD;
+                throw new ConflictException(errorCode, errorCode.getMessage());
+            }
+        }
+
+        boolean claimed;
+        try {
+            claimed = seatWriteBehind.claimSold(inventory, seats, userId);
+        } catch (RuntimeException e) {
+            revert(inventory, seats, seats.length, userId);
+            throw e;
+        }
+        if (!claimed) {
+            // 다른 노드가 먼저 잡았거나 팔았다: 되돌린 좌석은 다음 flush 에서 충돌해 DB 쪽 상태를 따른다
+            revert(inventory, seats, seats.length, userId);
+            throw new ConflictException(ErrorCode.SEAT_NOT_HELD, ErrorCode.SEAT_NOT_HELD.getMessage());
+        }
+
+        long purchasedAt = System.currentTimeMillis();
+        long sequence;
+        try {
+            sequence = purchaseJournal.append(userId, eventId, purchasedAt, seats).join();
+        } catch (CompletionException e) {
+            revert(inventory, seats, seats.length, userId);
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } catch (RuntimeException e) {
+            revert(inventory, seats, seats.length, userId);
+            throw e;
+        }
+
+        for (int seatNo : seats) {
+            seatHoldExpiry.cancel(inventory, seatNo);
+        }
+        return new PurchaseResponse(purchaseJournal.orderId(sequence), eventId, Arrays.stream(seats).boxed().toList(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(purchasedAt), ZoneId.systemDefault()));
+    }
+
+    // 확정하는 동안 만료 틱이 지나갔을 수 있다(CAS 가 실패해 그대로 남았다): 원래 선점 시각 기준으로 만료를 다시 건다
+    private void revert(SeatInventory inventory, int[] seats, int confirmed, long userId) {
+        for (int i = 0; i < confirmed; i++) {
+            if (inventory.unconfirm(seats[i], userId)) {
+                seatHoldExpiry.schedule(inventory, seats[i], userId, inventory.heldAtMillis(seats[i]));
+                inventory.markDirty(seats[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.tikkit.api.user.cache;
+
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import com.tikkit.api.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 두는 회원 스냅샷. 엔티티(영속성 컨텍스트에 묶임)나 비밀번호 해시는 두지 않는다.
+ */
+public record CachedUser(
+        long id,
+        String email,
+        String name,
+        String phone,
+        Role role,
+        Status status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static CachedUser from(User user) {
+        return new CachedUser(user.getId(), user.getEmail(), user.getName(), user.getPhone(),
+                user.getRole(), user.getStatus(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+}
@@ -0,0 +1,116 @@
+package com.tikkit.api.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tikkit.api.global.datasource.PrimaryStickiness;
+import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * 회원 조회 read-through 캐시(id → 회원, 이메일 → id).
+ * Caffeine 의 W-TinyLFU 는 자주 읽히는 회원을 남기고 한 번 스친 회원(목록 훑기 등)이 그들을 밀어내지 못하게 한다.
+ * 같은 키의 동시 miss 는 한 번만 DB 로 간다. 없는 회원은 캐시하지 않는다.
+ * 회원 행이 바뀌면 커밋 뒤에 무효화한다(UserCacheInvalidator). 커밋 전에 비우면 다른 요청이 옛 값을 다시 채울 수 있다.
+ */
+@Component
+public class UserCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final UserCacheProperties properties;
+    private final PrimaryStickiness primaryStickiness;
+    private final Cache<Long, CachedUser> users;
+    // 이메일은 바뀌지 않으므로 id 만 기억한다: 회원 정보는 한 곳(users)에만 있다
+    private final Cache<String, Long> emailIds;
+
+    public UserCache(UserRepository userRepository, UserCacheProperties properties, PrimaryStickiness primaryStickiness) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.primaryStickiness = primaryStickiness;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.emailIds = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<CachedUser> findById(long id) {
+        if (!properties.enabled()) {
+            return userRepository.findById(id).map(CachedUser::from);
+        }
+        return Optional.ofNullable(users.get(id, key -> primaryStickiness.read(stickyKey(key),
+                () -> userRepository.findById(key).map(CachedUser::from).orElse(null))));
+    }
+
+    // 처음 보는 이메일은 id 조회 + 회원 조회 두 번이지만, 둘 다 키별로 원자적으로 채워져 무효화와 엇갈리지 않는다
+    public Optional<CachedUser> findByEmail(String email) {
+        if (!properties.enabled()) {
+            return userRepository.findByEmail(email).map(CachedUser::from);
+        }
+        Long id = emailIds.get(email, key -> primaryStickiness.read(stickyKey(key),
+                () -> userRepository.findIdByEmail(key).orElse(null)));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    // 복제본이 아직 옛 행을 갖고 있을 수 있으므로, 비운 직후 다시 채울 때는 주 DB 에서 읽게 한다
+    public void invalidate(long id, String email) {
+        primaryStickiness.markWritten(stickyKey(id));
+        users.invalidate(id);
+        if (email != null) {
+            primaryStickiness.markWritten(stickyKey(email));
+            emailIds.invalidate(email);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 비운다. 롤백되면 캐시는 그대로 맞다.
+     */
+    public void invalidateAfterCommit(long id, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(id, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(id, email);
+            }
+        });
+    }
+
+    // 쓰기 직후 읽기를 주 DB 로 보낼 때 쓰는 키(PrimaryStickiness)
+    public static String stickyKey(Long id) {
+        return "user:" + id;
+    }
+
+    public static String stickyKey(String email) {
+        return "email:" + email;
+    }
+
+    public void invalidateAll() {
+        users.invalidateAll();
+        emailIds.invalidateAll();
+    }
+
+    public double hitRate() {
+        return users.stats().hitRate();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size ...
+        CaffeineCacheMetrics.monitor(registry, users, "user.by-id");
+        CaffeineCacheMetrics.monitor(registry, emailIds, "user.by-email");
+    }
+}
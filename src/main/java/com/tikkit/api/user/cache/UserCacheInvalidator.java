@@ -0,0 +1,28 @@
+package com.tikkit.api.user.cache;
+
+import com.tikkit.api.user.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 리스너. JPA 로 회원 행을 고치거나 지우면 캐시를 무효화한다.
+ * JdbcTemplate/벌크 JPQL 로 바꾸는 쪽은 리스너를 거치지 않으므로 UserCache 를 직접 불러야 한다.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    // EntityManagerFactory 를 만들 때 리스너가 생성되므로 UserCache(→ UserRepository)는 나중에 꺼낸다
+    private final ObjectProvider<UserCache> userCache;
+
+    public UserCacheInvalidator(ObjectProvider<UserCache> userCache) {
+        this.userCache = userCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        userCache.getObject().invalidateAfterCommit(user.getId(), user.getEmail());
+    }
+}
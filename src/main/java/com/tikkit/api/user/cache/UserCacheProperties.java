@@ -0,0 +1,17 @@
+package com.tikkit.api.user.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * ttl 은 다른 인스턴스에서 바뀐 회원이 이 인스턴스에 보일 때까지의 최대 지연이기도 하다(무효화는 인스턴스 안에서만 전파된다).
+ */
+@ConfigurationProperties(prefix = "tikkit.user.cache")
+public record UserCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
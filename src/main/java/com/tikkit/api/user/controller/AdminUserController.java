@@ -0,0 +1,51 @@
+package com.tikkit.api.user.controller;
+
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.user.dto.AdminUserPageResponse;
+import com.tikkit.api.user.dto.AdminUserResponse;
+import com.tikkit.api.user.dto.UserExportFormat;
+import com.tikkit.api.user.dto.UserSearchCondition;
+import com.tikkit.api.user.service.AdminUserService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final AdminUserService adminUserService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<AdminUserPageResponse>> list(UserSearchCondition condition,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(adminUserService.findUsers(condition, cursor, size)));
+    }
+
+    @GetMapping("/lookup")
+    public ResponseEntity<ApiResponse<AdminUserResponse>> lookup(@RequestParam String email) {
+        return ResponseEntity.ok(ApiResponse.success(adminUserService.findUserByEmail(email)));
+    }
+
+    // 비동기(StreamingResponseBody)로 넘기지 않고 요청 스레드에서 바로 쓴다: 수백만 행이어도 비동기 타임아웃에 걸리지 않는다
+    @GetMapping("/export")
+    public void export(UserSearchCondition condition,
+                       @RequestParam(defaultValue = "csv") String format,
+                       HttpServletResponse response) throws IOException {
+        UserExportFormat exportFormat = UserExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("users." + exportFormat.getExtension()).build().toString());
+        adminUserService.export(condition, exportFormat, response.getOutputStream());
+    }
+}
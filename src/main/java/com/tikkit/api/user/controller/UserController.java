@@ -1,15 +1,21 @@
 package com.tikkit.api.user.controller;
 
+import com.tikkit.api.auth.security.AuthUser;
 import com.tikkit.api.global.exception.ErrorCode;
 import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.dto.UserBulkRegisterRequest;
+import com.tikkit.api.user.dto.UserBulkRegisterResponse;
+import com.tikkit.api.user.dto.UserBulkRegisterResult;
 import com.tikkit.api.user.dto.UserRegisterRequest;
 import com.tikkit.api.user.dto.UserResponse;
 import com.tikkit.api.user.dto.UserEmailCheckResponse;
 import com.tikkit.api.user.entity.User;
 import com.tikkit.api.user.service.UserService;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,12 +23,21 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
-@RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final PreSerializedResponses preSerializedResponses;
+    private final byte[] emailAvailable;
+
+    public UserController(UserService userService, PreSerializedResponses preSerializedResponses) {
+        this.userService = userService;
+        this.preSerializedResponses = preSerializedResponses;
+        this.emailAvailable = preSerializedResponses.serialize(ApiResponse.success(new UserEmailCheckResponse(true)));
+    }
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<UserResponse>> register(@RequestBody @Valid UserRegisterRequest request){
@@ -36,24 +51,34 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(UserResponse.from(savedUser)));
     }
 
+    @PostMapping("/bulk-register")
+    public ResponseEntity<ApiResponse<UserBulkRegisterResponse>> bulkRegister(@RequestBody @Valid UserBulkRegisterRequest request) {
+        List<User> users = request.users().stream()
+                .map(row -> row == null
+                        ? User.of(null, null, null, null)
+                        : User.of(row.email(), row.password(), row.name(), row.phone()))
+                .toList();
+        List<UserBulkRegisterResult> results = userService.registerAll(users);
+        return ResponseEntity.ok(ApiResponse.success(UserBulkRegisterResponse.from(results)));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<UserResponse>> me(@AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getUser(authUser.id())));
+    }
+
     @GetMapping("/check-email")
-    public ResponseEntity<ApiResponse<UserEmailCheckResponse>> checkEmailDuplicate(@RequestParam String email) {
+    public ResponseEntity<byte[]> checkEmailDuplicate(@RequestParam String email) {
         // ⚠️ 형식/필수값 검증은 UserValidator 또는 Service에서 수행(예외 발생 시 GlobalExceptionHandler가 처리)
         boolean exists = userService.isEmailDuplicated(email);
 
+        // 두 응답 모두 내용이 고정이므로 미리 직렬화한 바이트를 그대로 내려준다.
         if (exists) {
             // 중복: 200 OK + success=false + ErrorCode (data=null)
-            return ResponseEntity.ok(
-                    ApiResponse.<UserEmailCheckResponse>fail(
-                            ErrorCode.DUPLICATE_EMAIL.getCode(),
-                            ErrorCode.DUPLICATE_EMAIL.getMessage()
-                    )
-            );
+            return preSerializedResponses.fail(HttpStatus.OK, ErrorCode.DUPLICATE_EMAIL);
         }
 
         // 사용 가능: 200 OK + success=true + data(available=true)
-        return ResponseEntity.ok(
-                ApiResponse.success(new UserEmailCheckResponse(true))
-        );
+        return preSerializedResponses.body(HttpStatus.OK, emailAvailable);
     }
 }
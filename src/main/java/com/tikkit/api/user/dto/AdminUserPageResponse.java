@@ -0,0 +1,9 @@
+package com.tikkit.api.user.dto;
+
+import java.util.List;
+
+public record AdminUserPageResponse(
+        List<AdminUserResponse> users,
+        String nextCursor       // 다음 페이지 요청에 그대로 넘긴다. 마지막 페이지면 null
+) {
+}
@@ -0,0 +1,22 @@
+package com.tikkit.api.user.dto;
+
+import com.tikkit.api.user.cache.CachedUser;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+
+import java.time.LocalDateTime;
+
+public record AdminUserResponse(
+        Long id,
+        String email,
+        String name,
+        Role role,
+        Status status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static AdminUserResponse from(CachedUser user) {
+        return new AdminUserResponse(user.id(), user.email(), user.name(), user.role(), user.status(),
+                user.createdAt(), user.updatedAt());
+    }
+}
@@ -0,0 +1,11 @@
+package com.tikkit.api.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+// 행 단위 검증 결과를 돌려주기 위해 각 행에는 @Valid 를 걸지 않는다.
+public record UserBulkRegisterRequest(
+        @NotEmpty List<UserRegisterRequest> users
+) {
+}
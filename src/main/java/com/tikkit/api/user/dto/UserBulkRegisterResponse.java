@@ -0,0 +1,15 @@
+package com.tikkit.api.user.dto;
+
+import java.util.List;
+
+public record UserBulkRegisterResponse(
+        int total,
+        int succeeded,
+        int failed,
+        List<UserBulkRegisterResult> results
+) {
+    public static UserBulkRegisterResponse from(List<UserBulkRegisterResult> results) {
+        int succeeded = (int) results.stream().filter(UserBulkRegisterResult::success).count();
+        return new UserBulkRegisterResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,19 @@
+package com.tikkit.api.user.dto;
+
+import com.tikkit.api.global.exception.ErrorCode;
+
+public record UserBulkRegisterResult(
+        int index,
+        String email,
+        boolean success,
+        String code,
+        String message
+) {
+    public static UserBulkRegisterResult success(int index, String email) {
+        return new UserBulkRegisterResult(index, email, true, "SUCCESS", null);
+    }
+
+    public static UserBulkRegisterResult fail(int index, String email, ErrorCode errorCode) {
+        return new UserBulkRegisterResult(index, email, false, errorCode.getCode(), errorCode.getMessage());
+    }
+}
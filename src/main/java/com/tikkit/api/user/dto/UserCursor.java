@@ -0,0 +1,36 @@
+package com.tikkit.api.user.dto;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 위치: 마지막으로 내려준 행의 (createdAt, id). 클라이언트에는 불투명한 문자열로 준다.
+ */
+public record UserCursor(
+        LocalDateTime createdAt,
+        long id
+) {
+    public static UserCursor after(AdminUserResponse user) {
+        return new UserCursor(user.createdAt(), user.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new UserCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ValidationException(ErrorCode.INVALID_CURSOR, ErrorCode.INVALID_CURSOR.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.tikkit.api.user.dto;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum UserExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static UserExportFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCode.INVALID_EXPORT_FORMAT, ErrorCode.INVALID_EXPORT_FORMAT.getMessage());
+        }
+    }
+}
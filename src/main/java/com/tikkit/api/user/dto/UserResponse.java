@@ -1,5 +1,6 @@
 package com.tikkit.api.user.dto;
 
+import com.tikkit.api.user.cache.CachedUser;
 import com.tikkit.api.user.entity.User;
 
 public record UserResponse(
@@ -10,4 +11,8 @@ public record UserResponse(
     public static UserResponse from(User user) {
         return new UserResponse(user.getEmail(), user.getName(), user.getPhone());
     }
+
+    public static UserResponse from(CachedUser user) {
+        return new UserResponse(user.email(), user.name(), user.phone());
+    }
 }
@@ -0,0 +1,18 @@
+package com.tikkit.api.user.dto;
+
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 회원 조회 조건. 비어 있는 항목은 조건에서 빠진다. 가입 시각은 [createdFrom, createdTo) 구간.
+ */
+public record UserSearchCondition(
+        Status status,
+        Role role,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+) {
+}
@@ -3,5 +3,6 @@ package com.tikkit.api.user.entity;
 public enum Status {
     ACTIVE,
     INACTIVE,
+    DORMANT,    // 오래 로그인하지 않음(UserLifecycleJob.DEACTIVATE_DORMANT). 비밀번호로 로그인하면 ACTIVE 로 돌아온다
     DELETED
 }
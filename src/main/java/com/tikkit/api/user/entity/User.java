@@ -1,5 +1,6 @@
 package com.tikkit.api.user.entity;
 
+import com.tikkit.api.user.cache.UserCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,12 +10,18 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 관리자 목록/내보내기의 키셋 정렬 키
+        @Index(name = "idx_users_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_users_status_created_at_id", columnList = "status, createdAt, id")
+})
+@EntityListeners(UserCacheInvalidator.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -36,6 +43,8 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
+    // 하루 한 번만 갱신한다(AuthServiceImpl). 한 번도 로그인하지 않았으면 null: 휴면 판정은 가입 시각으로 한다
+    private LocalDateTime lastLoginAt;
 
     public User(String email,
                 String password,
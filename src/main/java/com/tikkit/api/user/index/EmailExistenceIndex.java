@@ -0,0 +1,226 @@
+package com.tikkit.api.user.index;
+
+import com.tikkit.api.user.repository.UserEmailView;
+import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가입된 이메일의 메모리 인덱스.
+ * 기동 시 users 테이블을 id 순으로 훑어 채우고, 이후에는 가입 시점의 add 와 주기적인 증분 조회로 갱신한다.
+ * id 는 노드마다 시퀀스를 미리 받아 두므로 커밋 순서와 다르다: 증분 조회는 created_at 을 catchUpOverlap 만큼 겹쳐 읽고,
+ * 그보다 늦게 보이는 행은 rebuildInterval 마다 전체를 다시 읽어 채운다.
+ * "확실히 없음"만 DB 없이 답하고, 그 외에는 호출 측이 DB 로 확인한 결과를 recordConfirmation 으로 알려준다.
+ */
+@Slf4j
+@Component
+public class EmailExistenceIndex implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final EmailIndexProperties properties;
+    private volatile ScalableBloomFilter filter;
+    // 재구성 중에 add 된 이메일도 새 필터에 넣는다
+    private volatile ScalableBloomFilter rebuilding;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    // 가상 스레드에서 DB 조회 중 캐리어 스레드가 고정(pinning)되지 않도록 synchronized 대신 사용
+    private final ReentrantLock catchUpLock = new ReentrantLock();
+    // 스케줄러 스레드는 하나뿐이라 전체 재구성은 전용 스레드에서 돌린다
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("email-index-rebuild").daemon().factory());
+
+    private volatile boolean ready;
+    private LocalDateTime lastCatchUpStartedAt;
+
+    public EmailExistenceIndex(UserRepository userRepository, EmailIndexProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.filter = newFilter();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        long indexed = rebuild();
+        ready = true;
+        log.info("email index warmed up: {} emails, {} bits, {} ms",
+                indexed, filter.bitSize(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 다른 인스턴스에서 가입한 이메일을 따라잡기 위한 증분 조회. 재구성 중이면 건너뛴다(재구성이 끝에 따라잡는다)
+    @Scheduled(fixedDelayString = "${tikkit.user.email-index.refresh-interval:5s}")
+    public void refresh() {
+        if (!ready || !catchUpLock.tryLock()) {
+            return;
+        }
+        try {
+            catchUp();
+        } finally {
+            catchUpLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tikkit.user.email-index.rebuild-interval:1h}",
+            initialDelayString = "${tikkit.user.email-index.rebuild-interval:1h}")
+    public void scheduleRebuild() {
+        if (ready) {
+            worker.execute(this::rebuildAll);
+        }
+    }
+
+    public void rebuildAll() {
+        try {
+            long indexed = rebuild();
+            log.info("email index rebuilt: {} emails", indexed);
+        } catch (RuntimeException e) {
+            log.warn("email index rebuild failed, keeping the current filter", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public boolean isDefinitelyAbsent(String email) {
+        if (!ready || email == null) {
+            return false;
+        }
+        if (filter.mightContain(email)) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    public void recordConfirmation(boolean exists) {
+        if (!ready) {
+            return;
+        }
+        misses.increment();
+        if (!exists) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(String email) {
+        filter.put(email);
+        ScalableBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tikkit.user.email-index.lookups", hits, LongAdder::sum)
+                .description("DB 조회 없이 '없음'으로 답한 횟수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("tikkit.user.email-index.lookups", misses, LongAdder::sum)
+                .description("DB 로 확인한 횟수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("tikkit.user.email-index.lookups", falsePositives, LongAdder::sum)
+                .description("DB 로 확인했더니 없던 횟수(오탐)")
+                .tag("result", "false_positive")
+                .register(registry);
+        Gauge.builder("tikkit.user.email-index.elements", this, index -> index.filter.approximateElementCount())
+                .register(registry);
+    }
+
+    // id 순 전체 조회로 새 필터를 채운 뒤 바꿔 끼운다. 훑는 동안 커밋된 행은 이어지는 증분 조회가 채운다
+    private long rebuild() {
+        catchUpLock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            ScalableBloomFilter next = newFilter();
+            rebuilding = next;
+            long indexed = 0;
+            long lastId = 0;
+            List<UserEmailView> chunk;
+            do {
+                chunk = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(properties.warmupChunkSize()));
+                for (UserEmailView view : chunk) {
+                    next.put(view.getEmail());
+                    lastId = view.getId();
+                }
+                indexed += chunk.size();
+            } while (chunk.size() == properties.warmupChunkSize());
+            filter = next;
+            lastCatchUpStartedAt = startedAt;
+            catchUp();
+            return indexed;
+        } finally {
+            rebuilding = null;
+            catchUpLock.unlock();
+        }
+    }
+
+    private long catchUp() {
+        catchUpLock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime createdAt = lastCatchUpStartedAt.minus(properties.catchUpOverlap());
+            long lastId = 0;
+            long indexed = 0;
+            List<UserEmailView> chunk;
+            do {
+                chunk = userRepository.findCreatedAfter(createdAt, lastId, Limit.of(properties.warmupChunkSize()));
+                for (UserEmailView view : chunk) {
+                    filter.put(view.getEmail());
+                    createdAt = view.getCreatedAt();
+                    lastId = view.getId();
+                }
+                indexed += chunk.size();
+            } while (chunk.size() == properties.warmupChunkSize());
+            lastCatchUpStartedAt = startedAt;
+            return indexed;
+        } finally {
+            catchUpLock.unlock();
+        }
+    }
+
+    private ScalableBloomFilter newFilter() {
+        return new ScalableBloomFilter(properties.expectedInsertions(), properties.falsePositiveRate());
+    }
+}
@@ -0,0 +1,17 @@
+package com.tikkit.api.user.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.user.email-index")
+public record EmailIndexProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("10000") int warmupChunkSize,
+        @DefaultValue("1m") Duration catchUpOverlap,     // 증분 조회를 지난 조회 시작 시각보다 이만큼 앞에서 시작한다(늦은 커밋, 노드 간 시계 차이)
+        @DefaultValue("1h") Duration rebuildInterval     // overlap 보다 늦게 보이는 행(과거 created_at 으로 넣은 행 등)을 위한 전체 재구성 주기
+) {
+}
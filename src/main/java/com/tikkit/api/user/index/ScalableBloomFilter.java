@@ -0,0 +1,164 @@
+package com.tikkit.api.user.index;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 용량이 차면 더 크고 더 엄격한(오탐률이 낮은) 단계를 덧붙이는 Scalable Bloom Filter.
+ * 비트 설정은 CAS 로 처리하므로 조회/추가 모두 락 없이 동시에 호출할 수 있다.
+ * "없음" 응답은 항상 정확하고, "있음" 응답은 오탐일 수 있다.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final double falsePositiveRate;
+    private volatile Stage[] stages;
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages = new Stage[]{new Stage(initialCapacity, stageFalsePositiveRate(0))};
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        while (true) {
+            Stage[] current = stages;
+            for (Stage stage : current) {
+                if (stage.mightContain(hash)) {
+                    return;
+                }
+            }
+            if (current[current.length - 1].tryPut(hash)) {
+                return;
+            }
+            grow(current);
+        }
+    }
+
+    public int stageCount() {
+        return stages.length;
+    }
+
+    public long approximateElementCount() {
+        long count = 0;
+        for (Stage stage : stages) {
+            count += stage.count.get();
+        }
+        return count;
+    }
+
+    public long bitSize() {
+        long bits = 0;
+        for (Stage stage : stages) {
+            bits += stage.numBits;
+        }
+        return bits;
+    }
+
+    private synchronized void grow(Stage[] observed) {
+        if (stages != observed) {
+            return;
+        }
+        Stage last = observed[observed.length - 1];
+        Stage[] next = Arrays.copyOf(observed, observed.length + 1);
+        next[observed.length] = new Stage(last.capacity * GROWTH_FACTOR, stageFalsePositiveRate(observed.length));
+        stages = next;
+    }
+
+    // 단계별 오탐률의 합이 목표 오탐률을 넘지 않도록 등비수열로 줄인다.
+    private double stageFalsePositiveRate(int stageIndex) {
+        return falsePositiveRate * (1 - TIGHTENING_RATIO) * Math.pow(TIGHTENING_RATIO, stageIndex);
+    }
+
+    // 문자열 복사 없이 char 단위로 FNV-1a 를 돌린 뒤 murmur3 finalizer 로 섞는다.
+    static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Stage {
+        private final long capacity;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        private Stage(long capacity, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            long words = Math.min((optimalBits + 63) >>> 6, Integer.MAX_VALUE);
+            this.capacity = capacity;
+            this.numBits = words << 6;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) words);
+        }
+
+        private boolean mightContain(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash ^ 0x9e3779b97f4a7c15L);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, numBits);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean tryPut(long hash) {
+            if (count.incrementAndGet() > capacity) {
+                count.decrementAndGet();
+                return false;
+            }
+            long h1 = hash;
+            long h2 = mix(hash ^ 0x9e3779b97f4a7c15L);
+            for (int i = 0; i < numHashes; i++) {
+                setBit(Math.floorMod(h1 + i * h2, numBits));
+            }
+            return true;
+        }
+
+        private void setBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.tikkit.api.user.lifecycle;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 상태 전환 작업의 진행 위치. 마지막으로 처리한 행의 정렬 키 (cursorAt, cursorId) 를 청크와 같은 트랜잭션에서 기록한다.
+ * 읽고 쓰는 것은 UserLifecycleJobs(JdbcTemplate)이고, 엔티티는 테이블 정의용이다.
+ */
+@Getter
+@Entity
+@Table(name = "user_lifecycle_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserLifecycleCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String job;
+    @Column(nullable = false)
+    private LocalDateTime cursorAt;
+    @Column(nullable = false)
+    private long cursorId;
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package com.tikkit.api.user.lifecycle;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 상태 전환 작업. 대상은 정렬 키 (cursor_at, id) 순으로 읽고, 체크포인트 다음 행부터 chunkSize 개씩 처리한다.
+ * 정렬 키는 schema-postgresql.sql 의 부분 인덱스와 같아서 청크마다 대상 행만 인덱스 순서로 읽는다.
+ * 다른 트랜잭션이 잡고 있는 행은 기다리지 않고 건너뛴다(SKIP LOCKED). 건너뛴 행은 다음 실행에서 처리된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserLifecycleJob {
+
+    // 마지막 로그인(없으면 가입) 후 dormantAfter 가 지난 ACTIVE → DORMANT(로그인하면 다시 ACTIVE, AuthServiceImpl)
+    DEACTIVATE_DORMANT(
+            "select id, email, coalesce(last_login_at, created_at) as cursor_at from users "
+                    + "where status = 'ACTIVE' and coalesce(last_login_at, created_at) < ? "
+                    + "and (coalesce(last_login_at, created_at), id) > (?, ?) "
+                    + "order by coalesce(last_login_at, created_at), id limit ? for update skip locked",
+            "update users set status = 'DORMANT', updated_at = ? where id = ? and status = 'ACTIVE'",
+            true),
+
+    // DELETED 로 바뀐 지 purgeAfter 가 지난 행을 지운다
+    PURGE_DELETED(
+            "select id, email, deleted_at as cursor_at from users "
+                    + "where status = 'DELETED' and deleted_at < ? "
+                    + "and (deleted_at, id) > (?, ?) "
+                    + "order by deleted_at, id limit ? for update skip locked",
+            "delete from users where id = ? and status = 'DELETED'",
+            false);
+
+    // 파라미터: cutoff, cursorAt, cursorId, limit
+    private final String selectSql;
+    // 파라미터: (now,) id
+    private final String applySql;
+    private final boolean stampsUpdatedAt;
+
+    public String checkpointName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,187 @@
+package com.tikkit.api.user.lifecycle;
+
+import com.tikkit.api.user.cache.UserCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 휴면 전환/탈퇴 회원 파기를 청크 단위로 실행한다.
+ * 청크마다 트랜잭션 하나: 체크포인트 행을 잠그고 → 그 다음 대상 chunkSize 행을 잠가 읽고 → 바꾸고 → 체크포인트를 옮긴다.
+ * 트랜잭션이 짧아 WAL/잠금이 청크 크기로 묶이고, 중간에 멈춰도(재기동, maxChunksPerRun) 다음 실행이 체크포인트에서 이어간다.
+ * 체크포인트 행 잠금 덕분에 여러 인스턴스가 동시에 돌아도 청크를 번갈아 가져갈 뿐 겹치지 않는다.
+ * JDBC 로 바꾸므로 User 리스너를 거치지 않는다: 캐시는 여기서 직접 무효화한다.
+ */
+@Slf4j
+@Component
+public class UserLifecycleJobs {
+
+    private static final LocalDateTime START_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String LOCK_CHECKPOINT_SQL =
+            "select cursor_at, cursor_id from user_lifecycle_checkpoints where job = ? for update";
+    private static final String INSERT_CHECKPOINT_SQL =
+            "insert into user_lifecycle_checkpoints (job, cursor_at, cursor_id, updated_at) values (?, ?, ?, ?)";
+    private static final String UPDATE_CHECKPOINT_SQL =
+            "update user_lifecycle_checkpoints set cursor_at = ?, cursor_id = ?, updated_at = ? where job = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final UserCache userCache;
+    private final UserLifecycleProperties properties;
+    private final Map<UserLifecycleJob, Counter> processed = new EnumMap<>(UserLifecycleJob.class);
+    private final Map<UserLifecycleJob, Timer> chunkTime = new EnumMap<>(UserLifecycleJob.class);
+    // 스케줄러 스레드는 하나뿐이라 오래 걸리는 작업은 전용 스레드에서 돌린다
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("user-lifecycle").daemon().factory());
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public UserLifecycleJobs(JdbcTemplate jdbcTemplate,
+                             TransactionOperations transactionOperations,
+                             UserCache userCache,
+                             UserLifecycleProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.userCache = userCache;
+        this.properties = properties;
+        for (UserLifecycleJob job : UserLifecycleJob.values()) {
+            processed.put(job, Counter.builder("tikkit.user.lifecycle.processed")
+                    .tag("job", job.checkpointName())
+                    .register(meterRegistry));
+            chunkTime.put(job, Timer.builder("tikkit.user.lifecycle.chunk")
+                    .description("청크 하나의 트랜잭션 시간")
+                    .tag("job", job.checkpointName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(cron = "${tikkit.user.lifecycle.cron:0 0 4 * * *}")
+    public void schedule() {
+        if (properties.enabled()) {
+            worker.execute(this::runAll);
+        }
+    }
+
+    public void runAll() {
+        if (!runLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            run(UserLifecycleJob.DEACTIVATE_DORMANT, now.minus(properties.dormantAfter()));
+            run(UserLifecycleJob.PURGE_DELETED, now.minus(properties.purgeAfter()));
+        } catch (RuntimeException e) {
+            log.warn("user lifecycle job failed, will resume from checkpoint", e);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 정렬 키가 cutoff 이전인 대상을 끝까지(또는 maxChunksPerRun 까지) 처리한다. 끝까지 가면 체크포인트를 처음으로 되돌린다.
+     * @return 바꾼 행 수
+     */
+    public long run(UserLifecycleJob job, LocalDateTime cutoff) {
+        ensureCheckpoint(job);
+        long total = 0;
+        for (int chunk = 0; chunk < properties.maxChunksPerRun(); chunk++) {
+            if (chunk > 0) {
+                pause();
+            }
+            ChunkResult result = chunkTime.get(job).record(() -> processChunk(job, cutoff));
+            total += result.applied();
+            if (result.finished()) {
+                break;
+            }
+        }
+        processed.get(job).increment(total);
+        log.info("user lifecycle {}: {} rows", job.checkpointName(), total);
+        return total;
+    }
+
+    private ChunkResult processChunk(UserLifecycleJob job, LocalDateTime cutoff) {
+        return transactionOperations.execute(status -> {
+            Cursor cursor = jdbcTemplate.queryForObject(LOCK_CHECKPOINT_SQL,
+                    (rs, rowNum) -> new Cursor(rs.getObject("cursor_at", LocalDateTime.class), rs.getLong("cursor_id")),
+                    job.checkpointName());
+            List<Target> targets = jdbcTemplate.query(job.getSelectSql(),
+                    (rs, rowNum) -> new Target(rs.getLong("id"), rs.getString("email"),
+                            rs.getObject("cursor_at", LocalDateTime.class)),
+                    cutoff, cursor.at(), cursor.id(), properties.chunkSize());
+
+            LocalDateTime now = LocalDateTime.now();
+            int applied = 0;
+            if (!targets.isEmpty()) {
+                List<Object[]> args = new ArrayList<>(targets.size());
+                for (Target target : targets) {
+                    args.add(job.isStampsUpdatedAt() ? new Object[]{now, target.id()} : new Object[]{target.id()});
+                }
+                for (int count : jdbcTemplate.batchUpdate(job.getApplySql(), args)) {
+                    // 일부 드라이버는 배치 행 수 대신 SUCCESS_NO_INFO(-2)를 돌려준다
+                    applied += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                }
+                targets.forEach(target -> userCache.invalidateAfterCommit(target.id(), target.email()));
+            }
+
+            boolean finished = targets.size() < properties.chunkSize();
+            Target last = targets.isEmpty() ? null : targets.get(targets.size() - 1);
+            // 끝까지 갔으면 다음 실행은 처음부터(그 사이 cutoff 를 넘은 행이 앞쪽에 생긴다)
+            Cursor next = finished || last == null ? new Cursor(START_AT, 0) : new Cursor(last.cursorAt(), last.id());
+            jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, next.at(), next.id(), now, job.checkpointName());
+            return new ChunkResult(applied, finished);
+        });
+    }
+
+    private void ensureCheckpoint(UserLifecycleJob job) {
+        try {
+            jdbcTemplate.update(INSERT_CHECKPOINT_SQL, job.checkpointName(), START_AT, 0L, LocalDateTime.now());
+        } catch (DuplicateKeyException ignored) {
+            // 이미 있다: 이전 실행의 위치에서 이어간다
+        }
+    }
+
+    private void pause() {
+        if (properties.pause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.pause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("user lifecycle job interrupted", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record Cursor(LocalDateTime at, long id) {
+    }
+
+    private record Target(long id, String email, LocalDateTime cursorAt) {
+    }
+
+    private record ChunkResult(int applied, boolean finished) {
+    }
+}
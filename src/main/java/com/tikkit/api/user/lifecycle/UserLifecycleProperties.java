@@ -0,0 +1,18 @@
+package com.tikkit.api.user.lifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.user.lifecycle")
+public record UserLifecycleProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 0 4 * * *") String cron,      // 트래픽이 적은 시간
+        @DefaultValue("365d") Duration dormantAfter,   // 마지막 로그인(없으면 가입) 이후 이 기간이 지나면 DORMANT
+        @DefaultValue("30d") Duration purgeAfter,      // DELETED 로 바뀐 뒤 이 기간이 지나면 행을 지운다
+        @DefaultValue("1000") int chunkSize,           // 한 트랜잭션에서 바꾸는 행 수
+        @DefaultValue("100ms") Duration pause,         // 청크 사이 쉬는 시간: 복제 지연과 OLTP 경합을 줄인다
+        @DefaultValue("10000") int maxChunksPerRun     // 다 못 하면 체크포인트에서 다음 실행이 이어간다
+) {
+}
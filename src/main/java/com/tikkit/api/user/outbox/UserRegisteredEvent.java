@@ -0,0 +1,42 @@
+package com.tikkit.api.user.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tikkit.api.global.outbox.OutboxPayload;
+import com.tikkit.api.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가입 완료 이벤트(환영 메일, CRM, 분석 등이 소비). 비밀번호/전화번호는 싣지 않는다.
+ */
+public record UserRegisteredEvent(
+        Long userId,
+        String email,
+        String name,
+        LocalDateTime registeredAt
+) implements OutboxPayload {
+
+    public static final String EVENT_TYPE = "user.registered";
+
+    public static UserRegisteredEvent from(User user) {
+        return new UserRegisteredEvent(user.getId(), user.getEmail(), user.getName(), user.getCreatedAt());
+    }
+
+    @Override
+    @JsonIgnore
+    public String aggregateType() {
+        return "user";
+    }
+
+    @Override
+    @JsonIgnore
+    public String aggregateId() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    @JsonIgnore
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+}
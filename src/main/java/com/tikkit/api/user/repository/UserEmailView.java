@@ -0,0 +1,9 @@
+package com.tikkit.api.user.repository;
+
+import java.time.LocalDateTime;
+
+public interface UserEmailView {
+    Long getId();
+    String getEmail();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,96 @@
+package com.tikkit.api.user.repository;
+
+import com.tikkit.api.user.dto.AdminUserResponse;
+import com.tikkit.api.user.dto.UserCursor;
+import com.tikkit.api.user.dto.UserSearchCondition;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 관리자용 회원 조회. 엔티티 대신 응답 레코드로 바로 읽어 영속성 컨텍스트에 아무것도 쌓이지 않는다.
+ * 정렬 키 (created_at, id) 는 idx_users_created_at_id / idx_users_status_created_at_id 인덱스 순서와 같아서,
+ * 페이지 위치와 상관없이 인덱스에서 바로 이어 읽는다(OFFSET 처럼 앞의 행을 세며 버리지 않는다).
+ */
+@Repository
+public class UserQueryRepository {
+
+    private static final String SELECT = "select id, email, name, role, status, created_at, updated_at from users";
+    // PostgreSQL 은 트랜잭션 안에서 fetchSize 가 있어야 결과를 커서로 나눠 받는다(없으면 전체를 메모리에 올린다)
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final RowMapper<AdminUserResponse> ROW_MAPPER = (rs, rowNum) -> new AdminUserResponse(
+            rs.getLong("id"),
+            rs.getString("email"),
+            rs.getString("name"),
+            Role.valueOf(rs.getString("role")),
+            Status.valueOf(rs.getString("status")),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public UserQueryRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    }
+
+    /**
+     * 최신 가입 순으로 cursor 다음 행부터 limit 개.
+     */
+    public List<AdminUserResponse> findPage(UserSearchCondition condition, UserCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        String where = where(condition, args);
+        StringBuilder sql = new StringBuilder(SELECT).append(where);
+        if (after != null) {
+            sql.append(where.isEmpty() ? " where " : " and ").append("(created_at, id) < (?, ?)");
+            args.add(after.createdAt());
+            args.add(after.id());
+        }
+        sql.append(" order by created_at desc, id desc limit ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 조건에 맞는 행을 가입 순으로 한 행씩 넘긴다. fetchSize 단위로 받아 오므로 메모리 사용량은 행 수와 무관하다.
+     * PostgreSQL 에서 커서로 받으려면 호출자가 (읽기 전용) 트랜잭션을 열어야 한다.
+     */
+    public void stream(UserSearchCondition condition, Consumer<AdminUserResponse> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT + where(condition, args) + " order by created_at, id";
+        RowCallbackHandler handler = rs -> consumer.accept(ROW_MAPPER.mapRow(rs, 0));
+        exportJdbcTemplate.query(sql, handler, args.toArray());
+    }
+
+    private static String where(UserSearchCondition condition, List<Object> args) {
+        List<String> clauses = new ArrayList<>(4);
+        if (condition.status() != null) {
+            clauses.add("status = ?");
+            args.add(condition.status().name());
+        }
+        if (condition.role() != null) {
+            clauses.add("role = ?");
+            args.add(condition.role().name());
+        }
+        if (condition.createdFrom() != null) {
+            clauses.add("created_at >= ?");
+            args.add(condition.createdFrom());
+        }
+        if (condition.createdTo() != null) {
+            clauses.add("created_at < ?");
+            args.add(condition.createdTo());
+        }
+        return clauses.isEmpty() ? "" : " where " + String.join(" and ", clauses);
+    }
+}
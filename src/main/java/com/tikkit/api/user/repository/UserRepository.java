@@ -1,8 +1,53 @@
 package com.tikkit.api.user.repository;
 
 import com.tikkit.api.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    Optional<User> findByEmail(String email);
+
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    List<UserEmailView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // (createdAt, id) 키셋: idx_users_created_at_id 를 탄다
+    @Query("select u.id as id, u.email as email, u.createdAt as createdAt from User u"
+            + " where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id)"
+            + " order by u.createdAt, u.id")
+    List<UserEmailView> findCreatedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 로그인마다 쓰지 않도록 threshold 이전 기록일 때만 갱신한다. 캐시에 없는 컬럼이라 리스너를 거치지 않아도 된다
+    @Transactional
+    @Modifying
+    @Query("update User u set u.lastLoginAt = :now where u.id = :id and (u.lastLoginAt is null or u.lastLoginAt < :threshold)")
+    int touchLastLogin(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("threshold") LocalDateTime threshold);
+
+    // 재해싱 사이에 비밀번호가 바뀌었으면 덮어쓰지 않는다. 캐시에 없는 컬럼이라 리스너를 거치지 않아도 된다
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :upgraded where u.id = :id and u.password = :current")
+    int upgradePassword(@Param("id") Long id, @Param("current") String current, @Param("upgraded") String upgraded);
+
+    // 휴면 회원이 로그인하면 되살린다. 그 사이 정지/탈퇴됐으면 건드리지 않는다. status 는 캐시에 있으므로 호출자가 캐시를 비운다
+    @Transactional
+    @Modifying
+    @Query("update User u set u.status = com.tikkit.api.user.entity.Status.ACTIVE, u.updatedAt = :now "
+            + "where u.id = :id and u.status = com.tikkit.api.user.entity.Status.DORMANT")
+    int reactivate(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+}
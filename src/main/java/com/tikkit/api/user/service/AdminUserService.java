@@ -0,0 +1,20 @@
+package com.tikkit.api.user.service;
+
+import com.tikkit.api.user.dto.AdminUserPageResponse;
+import com.tikkit.api.user.dto.AdminUserResponse;
+import com.tikkit.api.user.dto.UserExportFormat;
+import com.tikkit.api.user.dto.UserSearchCondition;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface AdminUserService {
+    AdminUserPageResponse findUsers(UserSearchCondition condition, String cursor, int size);
+
+    AdminUserResponse findUserByEmail(String email);
+
+    /**
+     * @return 내보낸 행 수
+     */
+    long export(UserSearchCondition condition, UserExportFormat format, OutputStream out) throws IOException;
+}
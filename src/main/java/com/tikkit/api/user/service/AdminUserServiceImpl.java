@@ -0,0 +1,131 @@
+package com.tikkit.api.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import com.tikkit.api.user.cache.UserCache;
+import com.tikkit.api.user.dto.AdminUserPageResponse;
+import com.tikkit.api.user.dto.AdminUserResponse;
+import com.tikkit.api.user.dto.UserCursor;
+import com.tikkit.api.user.dto.UserExportFormat;
+import com.tikkit.api.user.dto.UserSearchCondition;
+import com.tikkit.api.user.repository.UserQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminUserServiceImpl implements AdminUserService {
+    static final int MAX_PAGE_SIZE = 100;
+    private static final String CSV_HEADER = "id,email,name,role,status,created_at,updated_at\n";
+
+    private final UserQueryRepository userQueryRepository;
+    private final ObjectMapper objectMapper;
+    private final UserCache userCache;
+
+    // 한 행을 더 읽어 다음 페이지가 있는지 판단한다(count 쿼리 없이)
+    @Override
+    public AdminUserPageResponse findUsers(UserSearchCondition condition, String cursor, int size) {
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+        List<AdminUserResponse> rows = userQueryRepository.findPage(condition, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new AdminUserPageResponse(rows, null);
+        }
+        List<AdminUserResponse> page = rows.subList(0, limit);
+        return new AdminUserPageResponse(List.copyOf(page), UserCursor.after(page.get(limit - 1)).encode());
+    }
+
+    @Override
+    public AdminUserResponse findUserByEmail(String email) {
+        return userCache.findByEmail(email)
+                .map(AdminUserResponse::from)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, ErrorCode.USER_NOT_FOUND.getMessage()));
+    }
+
+    // 읽는 대로 응답 스트림에 쓴다: 버퍼 크기 외에는 행 수와 무관하게 메모리를 쓰지 않는다
+    @Override
+    public long export(UserSearchCondition condition, UserExportFormat format, OutputStream out) throws IOException {
+        try {
+            return switch (format) {
+                case CSV -> exportCsv(condition, out);
+                case NDJSON -> exportNdjson(condition, out);
+            };
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long exportCsv(UserSearchCondition condition, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        long[] count = {0};
+        userQueryRepository.stream(condition, user -> {
+            try {
+                writer.write(Long.toString(user.id()));
+                writer.write(',');
+                writer.write(csv(user.email()));
+                writer.write(',');
+                writer.write(csv(user.name()));
+                writer.write(',');
+                writer.write(user.role().name());
+                writer.write(',');
+                writer.write(user.status().name());
+                writer.write(',');
+                writer.write(String.valueOf(user.createdAt()));
+                writer.write(',');
+                writer.write(String.valueOf(user.updatedAt()));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+        writer.flush();
+        return count[0];
+    }
+
+    private long exportNdjson(UserSearchCondition condition, OutputStream out) throws IOException {
+        long[] count = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            userQueryRepository.stream(condition, user -> {
+                try {
+                    objectMapper.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    // RFC 4180 인용 + 스프레드시트 수식으로 해석되는 값(=, +, -, @ 로 시작)은 작은따옴표로 무력화
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        String escaped = value;
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            escaped = "'" + value;
+        }
+        if (escaped.indexOf(',') >= 0 || escaped.indexOf('"') >= 0 || escaped.indexOf('\n') >= 0 || escaped.indexOf('\r') >= 0) {
+            return '"' + escaped.replace("\"", "\"\"") + '"';
+        }
+        return escaped;
+    }
+}
@@ -0,0 +1,210 @@
+package com.tikkit.api.user.service;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.OverloadedException;
+import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시에 들어온 이메일 존재 확인을 묶어 IN 조회 한 번으로 답한다.
+ * 수집 스레드가 첫 요청 뒤로 window 동안(또는 maxBatchSize 까지) 모아 조회 스레드에 넘기고, 결과로 각 호출자의 future 를 완료한다.
+ * 같은 이메일이 대기 중이거나 조회 중이면 새로 넣지 않고 그 future 를 같이 기다린다.
+ * 조회 스레드가 다 차 있는 동안 온 요청은 다음 묶음에 들어가므로, 부하가 클수록 묶음이 커진다.
+ * 호출자는 timeout 까지만 기다리고, 종료 시 남은 확인은 모두 SERVER_BUSY 로 끝낸다.
+ */
+@Slf4j
+@Component
+public class EmailLookupBatcher {
+
+    private final UserRepository userRepository;
+    private final TransactionOperations readOnlyTransaction;
+    private final EmailLookupProperties properties;
+    private final BlockingQueue<Lookup> queue;
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> pending = new ConcurrentHashMap<>();
+    private final Semaphore batchPermits;
+    private final ExecutorService collector = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("email-lookup-collector").daemon().factory());
+    private final ExecutorService lookups;
+    private final Counter queries;
+    private final Counter shared;
+    private final DistributionSummary batchSize;
+    private volatile boolean closed;
+
+    @Autowired
+    public EmailLookupBatcher(UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              EmailLookupProperties properties,
+                              MeterRegistry meterRegistry) {
+        this(userRepository, readOnly(transactionManager), properties, meterRegistry);
+    }
+
+    EmailLookupBatcher(UserRepository userRepository,
+                       TransactionOperations readOnlyTransaction,
+                       EmailLookupProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.queueCapacity());
+        this.batchPermits = new Semaphore(properties.maxConcurrentBatches());
+        this.lookups = Executors.newFixedThreadPool(properties.maxConcurrentBatches(),
+                Thread.ofPlatform().name("email-lookup-", 0).daemon().factory());
+        this.queries = Counter.builder("tikkit.user.email-lookup.queries")
+                .description("이메일 존재 확인에 쓴 DB 조회 수")
+                .register(meterRegistry);
+        this.shared = Counter.builder("tikkit.user.email-lookup.shared")
+                .description("같은 이메일의 진행 중인 조회를 함께 기다린 요청 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("tikkit.user.email-lookup.batch.size")
+                .register(meterRegistry);
+        if (properties.enabled()) {
+            collector.execute(this::collect);
+        }
+    }
+
+    public boolean exists(String email) {
+        if (!properties.enabled()) {
+            queries.increment();
+            return Boolean.TRUE.equals(readOnlyTransaction.execute(status -> userRepository.existsByEmail(email)));
+        }
+        CompletableFuture<Boolean> future = lookup(email);
+        try {
+            return future.get(properties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 멈춘 조회를 뒤에 온 호출자가 다시 기다리지 않도록 떼어낸다
+            pending.remove(email, future);
+            throw busy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    CompletableFuture<Boolean> lookup(String email) {
+        if (closed) {
+            throw busy();
+        }
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = pending.putIfAbsent(email, created);
+        if (existing != null) {
+            shared.increment();
+            return existing;
+        }
+        if (!queue.offer(new Lookup(email, created))) {
+            pending.remove(email, created);
+            throw busy();
+        }
+        return created;
+    }
+
+    private void collect() {
+        List<Lookup> batch = new ArrayList<>(properties.maxBatchSize());
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + properties.window().toNanos();
+                while (batch.size() < properties.maxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    Lookup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batchPermits.acquire();
+                List<Lookup> dispatched = List.copyOf(batch);
+                batch.clear();
+                lookups.execute(() -> {
+                    try {
+                        resolve(dispatched);
+                    } finally {
+                        batchPermits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void resolve(List<Lookup> batch) {
+        List<String> emails = batch.stream().map(Lookup::email).toList();
+        try {
+            queries.increment();
+            batchSize.record(batch.size());
+            Set<String> existing = new HashSet<>(readOnlyTransaction.execute(status -> userRepository.findExistingEmails(emails)));
+            // 먼저 떼어내야 완료 뒤에 온 요청이 끝난 future 를 받지 않는다
+            for (Lookup lookup : batch) {
+                pending.remove(lookup.email(), lookup.future());
+                lookup.future().complete(existing.contains(lookup.email()));
+            }
+        } catch (RuntimeException | Error e) {
+            log.warn("email lookup batch of {} failed", batch.size(), e);
+            for (Lookup lookup : batch) {
+                pending.remove(lookup.email(), lookup.future());
+                lookup.future().completeExceptionally(e);
+            }
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        collector.shutdownNow();
+        lookups.shutdown();
+        lookups.awaitTermination(5, TimeUnit.SECONDS);
+        // 큐에 남았거나 수집 스레드가 들고 있던 확인
+        queue.clear();
+        OverloadedException busy = busy();
+        pending.forEach((email, future) -> {
+            pending.remove(email, future);
+            future.completeExceptionally(busy);
+        });
+    }
+
+    private static OverloadedException busy() {
+        return new OverloadedException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private record Lookup(String email, CompletableFuture<Boolean> future) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.tikkit.api.user.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.user.email-lookup")
+public record EmailLookupProperties(
+        @DefaultValue("true") boolean enabled,     // false 면 요청마다 existsByEmail
+        @DefaultValue("1ms") Duration window,      // 첫 요청 뒤로 이만큼 더 모은다. 0 이면 이미 쌓인 것만 묶는다
+        @DefaultValue("100") int maxBatchSize,     // IN 절 크기
+        @DefaultValue("4") int maxConcurrentBatches, // 동시에 도는 조회 수(커넥션 수). 다 차 있으면 그동안 온 요청이 다음 묶음이 된다
+        @DefaultValue("10000") int queueCapacity,  // 넘으면 SERVER_BUSY
+        @DefaultValue("2s") Duration timeout       // 결과를 이만큼만 기다리고 SERVER_BUSY
+) {
+}
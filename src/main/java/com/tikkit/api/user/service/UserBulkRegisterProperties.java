@@ -0,0 +1,11 @@
+package com.tikkit.api.user.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "tikkit.user.bulk")
+public record UserBulkRegisterProperties(
+        @DefaultValue("1000") int chunkSize,      // 트랜잭션 하나에 저장할 행 수
+        @DefaultValue("100000") int maxRows       // 요청 하나에 허용하는 최대 행 수
+) {
+}
@@ -0,0 +1,51 @@
+package com.tikkit.api.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 회원가입 단계별 소요 시간. 단계마다 Timer 를 미리 만들어 두어 기록 시 태그 조회/할당이 없다.
+ * 백분위 히스토그램은 management.metrics.distribution.percentiles-histogram 설정으로 켠다.
+ */
+@Component
+public class UserMetrics {
+
+    public static final String REGISTER_STAGE = "tikkit.user.register.stage";
+
+    public enum Stage {
+        VALIDATE("validate"),
+        EXISTS_BY_EMAIL("exists_by_email"),
+        ENCODE("encode"),
+        SAVE("save");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    public UserMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder(REGISTER_STAGE)
+                    .description("회원가입 단계별 소요 시간")
+                    .tag("stage", stage.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(Stage stage, Runnable runnable) {
+        timers.get(stage).record(runnable);
+    }
+
+    public <T> T record(Stage stage, Supplier<T> supplier) {
+        return timers.get(stage).record(supplier);
+    }
+}
@@ -1,8 +1,14 @@
 package com.tikkit.api.user.service;
 
+import com.tikkit.api.user.dto.UserBulkRegisterResult;
+import com.tikkit.api.user.dto.UserResponse;
 import com.tikkit.api.user.entity.User;
 
+import java.util.List;
+
 public interface UserService {
     User register(User user);
+    List<UserBulkRegisterResult> registerAll(List<User> users);
     boolean isEmailDuplicated(String email);
+    UserResponse getUser(long id);
 }
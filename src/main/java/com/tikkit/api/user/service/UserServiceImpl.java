@@ -1,46 +1,265 @@
 package com.tikkit.api.user.service;
 
+import com.tikkit.api.global.concurrent.BoundedExecutor;
+import com.tikkit.api.global.datasource.PrimaryStickiness;
 import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import com.tikkit.api.global.exception.OverloadedException;
 import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.global.outbox.Outbox;
+import com.tikkit.api.user.cache.UserCache;
+import com.tikkit.api.user.dto.UserBulkRegisterResult;
+import com.tikkit.api.user.dto.UserResponse;
 import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.index.EmailExistenceIndex;
+import com.tikkit.api.user.outbox.UserRegisteredEvent;
 import com.tikkit.api.user.repository.UserRepository;
+import com.tikkit.api.user.service.UserMetrics.Stage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
+    // PostgreSQL 바인드 파라미터 상한(32767)보다 충분히 작게
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EmailExistenceIndex emailExistenceIndex;
+    private final BoundedExecutor passwordHashingExecutor;
+    private final TransactionOperations transactionOperations;
+    private final UserBulkRegisterProperties bulkRegisterProperties;
+    private final UserMetrics userMetrics;
+    private final Outbox outbox;
+    private final UserCache userCache;
+    private final PrimaryStickiness primaryStickiness;
+    private final EmailLookupBatcher emailLookupBatcher;
 
+    // 해싱(~100ms CPU) 동안 커넥션을 잡지 않도록 메서드 자체는 트랜잭션 없이 실행한다.
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User register(User user) {
         
-        UserValidator.validate(user);
+        userMetrics.record(Stage.VALIDATE, () -> UserValidator.validate(user));
 
-        
-        if (userRepository.existsByEmail(user.getEmail())) {
+        // 이미 가입된 이메일이면 해싱(~100ms CPU)까지 가지 않는다. 동시 가입은 트랜잭션 안의 확인과 unique 제약이 막는다
+        if (existsByEmail(user.getEmail())) {
             throw new ValidationException(ErrorCode.DUPLICATE_EMAIL, ErrorCode.DUPLICATE_EMAIL.getMessage());
         }
 
+        // 큐 대기 시간은 제외하고 해싱 자체만 잰다
+        String encodedPassword = passwordHashingExecutor.call(
+                () -> userMetrics.record(Stage.ENCODE, () -> passwordEncoder.encode(user.getPassword())));
+
         
         User userToSave = User.of(
                 user.getEmail(),
-                passwordEncoder.encode(user.getPassword()),
+                encodedPassword,
                 user.getName(),
                 user.getPhone()
         );
 
         
-        return userRepository.save(userToSave);
+        User savedUser = transactionOperations.execute(status -> insert(userToSave));
+        emailExistenceIndex.add(savedUser.getEmail());
+        markWritten(savedUser);
+        return savedUser;
     }
 
+    /**
+     * 검증 → 요청 내/DB 중복 제거 → 청크 단위 병렬 해싱 → 청크 단위 배치 insert.
+     * 다음 청크의 해싱을 현재 청크 저장과 겹쳐 실행하고, 결과는 입력 순서대로 행마다 돌려준다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserBulkRegisterResult> registerAll(List<User> users) {
+        if (users.size() > bulkRegisterProperties.maxRows()) {
+            throw new ValidationException(ErrorCode.BULK_REGISTER_TOO_LARGE, ErrorCode.BULK_REGISTER_TOO_LARGE.getMessage());
+        }
+        UserBulkRegisterResult[] results = new UserBulkRegisterResult[users.size()];
+
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            ErrorCode error = UserValidator.firstError(user);
+            if (error != null) {
+                results[i] = UserBulkRegisterResult.fail(i, user.getEmail(), error);
+                continue;
+            }
+            if (candidates.putIfAbsent(user.getEmail(), i) != null) {
+                results[i] = UserBulkRegisterResult.fail(i, user.getEmail(), ErrorCode.DUPLICATE_EMAIL);
+            }
+        }
+
+        List<String> emails = new ArrayList<>(candidates.keySet());
+        for (List<String> chunk : partition(emails, IN_CLAUSE_CHUNK_SIZE)) {
+            for (String existing : userRepository.findExistingEmails(chunk)) {
+                Integer index = candidates.remove(existing);
+                if (index == null) {
+                    continue;
+                }
+                results[index] = UserBulkRegisterResult.fail(index, existing, ErrorCode.DUPLICATE_EMAIL);
+            }
+        }
+
+        List<List<Integer>> chunks = partition(new ArrayList<>(candidates.values()), bulkRegisterProperties.chunkSize());
+        List<CompletableFuture<String>> nextHashes = chunks.isEmpty() ? List.of() : hashAll(users, chunks.get(0));
+        for (int c = 0; c < chunks.size(); c++) {
+            List<CompletableFuture<String>> hashes = nextHashes;
+            nextHashes = c + 1 < chunks.size() ? hashAll(users, chunks.get(c + 1)) : List.of();
+            insertChunk(users, chunks.get(c), hashes, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    // 동시에 들어온 확인은 묶어서 조회하므로, 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+    // 방금 가입한 이메일은 복제본에 아직 없을 수 있다: 묶지 않고 주 DB 에서 바로 확인한다(라우팅이 조회 스레드로 넘어가지 않는다)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean isEmailDuplicated(String email) {
-        return userRepository.existsByEmail(email);
+        String key = UserCache.stickyKey(email);
+        if (primaryStickiness.isSticky(key)) {
+            return primaryStickiness.read(key, () -> existsByEmail(email));
+        }
+        return existsByEmail(email, emailLookupBatcher::exists);
+    }
+
+    @Override
+    public UserResponse getUser(long id) {
+        return userCache.findById(id)
+                .map(UserResponse::from)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, ErrorCode.USER_NOT_FOUND.getMessage()));
+    }
+
+    // 트랜잭션 범위: 중복 확인 + insert + 아웃박스(가입 이벤트)
+    private User insert(User userToSave) {
+        if (existsByEmail(userToSave.getEmail())) {
+            throw new ValidationException(ErrorCode.DUPLICATE_EMAIL, ErrorCode.DUPLICATE_EMAIL.getMessage());
+        }
+        try {
+            return userMetrics.record(Stage.SAVE, () -> {
+                User savedUser = userRepository.save(userToSave);
+                outbox.append(UserRegisteredEvent.from(savedUser));
+                userRepository.flush();
+                return savedUser;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 인덱스가 갱신되기 전에 다른 인스턴스에서 먼저 가입한 경우: unique 제약이 최종 방어선
+            throw new ValidationException(ErrorCode.DUPLICATE_EMAIL, ErrorCode.DUPLICATE_EMAIL.getMessage());
+        }
+    }
+
+    private boolean existsByEmail(String email) {
+        return existsByEmail(email, userRepository::existsByEmail);
+    }
+
+    private boolean existsByEmail(String email, Predicate<String> lookup) {
+        if (emailExistenceIndex.isDefinitelyAbsent(email)) {
+            return false;
+        }
+        boolean exists = userMetrics.record(Stage.EXISTS_BY_EMAIL, () -> lookup.test(email));
+        emailExistenceIndex.recordConfirmation(exists);
+        return exists;
+    }
+
+    // 해싱 풀이 가득 차면 submit 이 자리가 날 때까지 기다리므로 자연스럽게 속도가 조절된다.
+    private List<CompletableFuture<String>> hashAll(List<User> users, List<Integer> indexes) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            String rawPassword = users.get(index).getPassword();
+            try {
+                hashes.add(passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+            } catch (OverloadedException e) {
+                hashes.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return hashes;
+    }
+
+    private void insertChunk(List<User> users,
+                             List<Integer> indexes,
+                             List<CompletableFuture<String>> hashes,
+                             UserBulkRegisterResult[] results) {
+        Map<Integer, String> encodedPasswords = new HashMap<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            try {
+                encodedPasswords.put(index, hashes.get(i).join());
+            } catch (CompletionException e) {
+                results[index] = UserBulkRegisterResult.fail(index, users.get(index).getEmail(), ErrorCode.SERVER_BUSY);
+            }
+        }
+        if (encodedPasswords.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                List<User> saved = userRepository.saveAll(newUsers(users, encodedPasswords));
+                outbox.appendAll(saved.stream().map(UserRegisteredEvent::from).toList());
+                userRepository.flush();
+            });
+            encodedPasswords.keySet().forEach(index -> markRegistered(users, index, results));
+        } catch (DataIntegrityViolationException e) {
+            // 사전 확인 이후 다른 요청이 같은 이메일로 가입했다: 이 청크만 한 건씩 다시 저장한다.
+            encodedPasswords.forEach((index, encoded) -> {
+                try {
+                    transactionOperations.executeWithoutResult(status -> {
+                        User saved = userRepository.saveAndFlush(newUser(users.get(index), encoded));
+                        outbox.append(UserRegisteredEvent.from(saved));
+                    });
+                    markRegistered(users, index, results);
+                } catch (DataIntegrityViolationException duplicate) {
+                    results[index] = UserBulkRegisterResult.fail(index, users.get(index).getEmail(), ErrorCode.DUPLICATE_EMAIL);
+                }
+            });
+        }
+    }
+
+    private void markRegistered(List<User> users, int index, UserBulkRegisterResult[] results) {
+        String email = users.get(index).getEmail();
+        emailExistenceIndex.add(email);
+        primaryStickiness.markWritten(UserCache.stickyKey(email));
+        results[index] = UserBulkRegisterResult.success(index, email);
+    }
+
+    private void markWritten(User user) {
+        primaryStickiness.markWritten(UserCache.stickyKey(user.getId()));
+        primaryStickiness.markWritten(UserCache.stickyKey(user.getEmail()));
+    }
+
+    private static List<User> newUsers(List<User> users, Map<Integer, String> encodedPasswords) {
+        List<User> newUsers = new ArrayList<>(encodedPasswords.size());
+        encodedPasswords.forEach((index, encoded) -> newUsers.add(newUser(users.get(index), encoded)));
+        return newUsers;
+    }
+
+    private static User newUser(User user, String encodedPassword) {
+        return User.of(user.getEmail(), encodedPassword, user.getName(), user.getPhone());
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> chunks = new ArrayList<>((list.size() + size - 1) / size);
+        for (int from = 0; from < list.size(); from += size) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + size)));
+        }
+        return chunks;
     }
-} 
\ No newline at end of file
+} 
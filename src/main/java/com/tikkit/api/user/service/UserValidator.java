@@ -5,53 +5,176 @@ import com.tikkit.api.global.exception.ValidationException;
 import com.tikkit.api.user.entity.User;
 import com.tikkit.api.user.validation.UserValidationConstants;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 회원 입력값 검증. 정규식이나 trim() 없이 문자를 직접 훑어 UserValidationConstants 의 규칙과 같은 결과를 낸다.
+ * 실패 시에는 미리 만들어 둔(스택 트레이스 없는) 예외를 던지거나, 예외 없이 ErrorCode 로 돌려준다.
+ */
 public class UserValidator {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(UserValidationConstants.EMAIL_REGEX);
-    private static final Pattern PHONE_PATTERN = Pattern.compile(UserValidationConstants.PHONE_REGEX);
+    private static final Map<ErrorCode, ValidationException> EXCEPTIONS = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            EXCEPTIONS.put(errorCode, new ValidationException(errorCode, errorCode.getMessage()));
+        }
+    }
 
     public static void validate(User user) {
-        validateEmail(user.getEmail());
-        validatePassword(user.getPassword());
-        validateName(user.getName());
-        validatePhone(user.getPhone());
+        ErrorCode error = firstError(user);
+        if (error != null) {
+            throw EXCEPTIONS.get(error);
+        }
+    }
+
+    /** 첫 번째 오류를 돌려주고, 모두 유효하면 null. */
+    public static ErrorCode firstError(User user) {
+        ErrorCode error = checkEmail(user.getEmail());
+        if (error == null) {
+            error = checkPassword(user.getPassword());
+        }
+        if (error == null) {
+            error = checkName(user.getName());
+        }
+        if (error == null) {
+            error = checkPhone(user.getPhone());
+        }
+        return error;
     }
 
-    private static void validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            throw new ValidationException(ErrorCode.EMAIL_REQUIRED, ErrorCode.EMAIL_REQUIRED.getMessage());
+    /** 필드마다 최대 하나씩 모든 오류를 한 번에 모은다. 오류가 없으면 빈 리스트. */
+    public static List<ErrorCode> validateAll(User user) {
+        List<ErrorCode> errors = List.of();
+        errors = collect(errors, checkEmail(user.getEmail()));
+        errors = collect(errors, checkPassword(user.getPassword()));
+        errors = collect(errors, checkName(user.getName()));
+        errors = collect(errors, checkPhone(user.getPhone()));
+        return errors;
+    }
+
+    private static List<ErrorCode> collect(List<ErrorCode> errors, ErrorCode error) {
+        if (error == null) {
+            return errors;
+        }
+        List<ErrorCode> collected = errors.isEmpty() ? new ArrayList<>(4) : errors;
+        collected.add(error);
+        return collected;
+    }
+
+    private static ErrorCode checkEmail(String email) {
+        if (isBlank(email)) {
+            return ErrorCode.EMAIL_REQUIRED;
         }
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
-            throw new ValidationException(ErrorCode.INVALID_EMAIL_FORMAT, ErrorCode.INVALID_EMAIL_FORMAT.getMessage());
+        if (!isValidEmail(email)) {
+            return ErrorCode.INVALID_EMAIL_FORMAT;
         }
+        return null;
     }
 
-    private static void validatePassword(String password) {
-        if (password == null || password.trim().isEmpty()) {
-            throw new ValidationException(ErrorCode.PASSWORD_REQUIRED, ErrorCode.PASSWORD_REQUIRED.getMessage());
+    private static ErrorCode checkPassword(String password) {
+        if (isBlank(password)) {
+            return ErrorCode.PASSWORD_REQUIRED;
         }
         if (password.length() < UserValidationConstants.PASSWORD_MIN_LENGTH
                 || password.length() > UserValidationConstants.PASSWORD_MAX_LENGTH) {
-            throw new ValidationException(ErrorCode.PASSWORD_LENGTH_INVALID, ErrorCode.PASSWORD_LENGTH_INVALID.getMessage());
+            return ErrorCode.PASSWORD_LENGTH_INVALID;
+        }
+        return null;
+    }
+
+    private static ErrorCode checkName(String name) {
+        if (isBlank(name)) {
+            return ErrorCode.NAME_REQUIRED;
+        }
+        if (name.length() > UserValidationConstants.NAME_MAX_LENGTH) {
+            return ErrorCode.NAME_TOO_LONG;
         }
+        return null;
     }
 
-    private static void validateName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new ValidationException(ErrorCode.NAME_REQUIRED, ErrorCode.NAME_REQUIRED.getMessage());
+    private static ErrorCode checkPhone(String phone) {
+        if (isBlank(phone)) {
+            return ErrorCode.PHONE_REQUIRED;
         }
-        if (name.length() > 20) {
-            throw new ValidationException(ErrorCode.NAME_TOO_LONG, ErrorCode.NAME_TOO_LONG.getMessage());
+        if (!isValidPhone(phone)) {
+            return ErrorCode.INVALID_PHONE_FORMAT;
         }
+        return null;
     }
 
-    private static void validatePhone(String phone) {
-        if (phone == null || phone.trim().isEmpty()) {
-            throw new ValidationException(ErrorCode.PHONE_REQUIRED, ErrorCode.PHONE_REQUIRED.getMessage());
+    // String.trim() 이 제거하는 문자(<= U+0020)만으로 이루어졌는지
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
         }
-        if (!PHONE_PATTERN.matcher(phone).matches()) {
-            throw new ValidationException(ErrorCode.INVALID_PHONE_FORMAT, ErrorCode.INVALID_PHONE_FORMAT.getMessage());
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
         }
+        return true;
+    }
+
+    // EMAIL_REGEX: ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$
+    static boolean isValidEmail(String email) {
+        int length = email.length();
+        int i = 0;
+        while (i < length && isLocalPartChar(email.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i == length || email.charAt(i) != '@') {
+            return false;
+        }
+
+        int domainStart = ++i;
+        int lastDot = -1;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        // 마지막 '.' 앞에 도메인 문자가 하나 이상, 뒤에는 영문자만 2자 이상
+        if (lastDot <= domainStart || length - lastDot - 1 < UserValidationConstants.TLD_MIN_LENGTH) {
+            return false;
+        }
+        for (int j = lastDot + 1; j < length; j++) {
+            if (!isAsciiLetter(email.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // PHONE_REGEX: ^\d{10,11}$
+    static boolean isValidPhone(String phone) {
+        int length = phone.length();
+        if (length < UserValidationConstants.PHONE_MIN_LENGTH || length > UserValidationConstants.PHONE_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = phone.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
-} 
\ No newline at end of file
+}
@@ -5,5 +5,9 @@ public class UserValidationConstants {
     public static final String PHONE_REGEX = "^\\d{10,11}$";
     public static final int PASSWORD_MIN_LENGTH = 10;
     public static final int PASSWORD_MAX_LENGTH = 20;
+    public static final int NAME_MAX_LENGTH = 20;
+    public static final int PHONE_MIN_LENGTH = 10;
+    public static final int PHONE_MAX_LENGTH = 11;
+    public static final int TLD_MIN_LENGTH = 2;
     private UserValidationConstants() {}
-} 
\ No newline at end of file
+}
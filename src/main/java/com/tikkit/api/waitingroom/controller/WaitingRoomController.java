@@ -0,0 +1,59 @@
+package com.tikkit.api.waitingroom.controller;
+
+import com.tikkit.api.auth.security.AuthUser;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.waitingroom.dto.WaitingRoomJoinResponse;
+import com.tikkit.api.waitingroom.dto.WaitingRoomOpenRequest;
+import com.tikkit.api.waitingroom.dto.WaitingRoomResponse;
+import com.tikkit.api.waitingroom.service.WaitingRoomService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    static final String POSITION_TOKEN_HEADER = "X-Position-Token";
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{eventId}")
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> open(@PathVariable long eventId,
+                                                                 @RequestBody @Valid WaitingRoomOpenRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(waitingRoomService.open(eventId, request.admissionPerSecond())));
+    }
+
+    @DeleteMapping("/{eventId}")
+    public ResponseEntity<ApiResponse<Void>> close(@PathVariable long eventId) {
+        waitingRoomService.close(eventId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    @PostMapping("/{eventId}/join")
+    public ResponseEntity<ApiResponse<WaitingRoomJoinResponse>> join(
+            @PathVariable long eventId,
+            @RequestHeader(value = POSITION_TOKEN_HEADER, required = false) String positionToken,
+            @AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(ApiResponse.success(waitingRoomService.join(eventId, authUser.id(), positionToken)));
+    }
+
+    // EventSource 는 Authorization 헤더를 못 보내므로 서명된 순번 토큰으로 인증한다
+    @GetMapping(value = "/{eventId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable long eventId, @RequestParam String positionToken) {
+        return waitingRoomService.subscribe(eventId, positionToken);
+    }
+}
@@ -0,0 +1,6 @@
+package com.tikkit.api.waitingroom.dto;
+
+public record WaitingRoomAdmittedEvent(
+        String admissionToken
+) {
+}
@@ -0,0 +1,12 @@
+package com.tikkit.api.waitingroom.dto;
+
+/**
+ * admissionToken 은 이미 입장한 경우에만 있다. 없으면 positionToken 으로 SSE 를 구독해 입장을 기다린다.
+ */
+public record WaitingRoomJoinResponse(
+        String positionToken,
+        long position,
+        long estimatedWaitSeconds,
+        String admissionToken
+) {
+}
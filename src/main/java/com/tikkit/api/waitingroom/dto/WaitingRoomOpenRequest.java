@@ -0,0 +1,10 @@
+package com.tikkit.api.waitingroom.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record WaitingRoomOpenRequest(
+        @NotNull @Min(1) @Max(100_000) Integer admissionPerSecond
+) {
+}
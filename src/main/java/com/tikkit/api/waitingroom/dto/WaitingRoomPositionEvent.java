@@ -0,0 +1,7 @@
+package com.tikkit.api.waitingroom.dto;
+
+public record WaitingRoomPositionEvent(
+        long position,
+        long estimatedWaitSeconds
+) {
+}
@@ -0,0 +1,15 @@
+package com.tikkit.api.waitingroom.dto;
+
+import com.tikkit.api.waitingroom.queue.WaitingRoom;
+
+public record WaitingRoomResponse(
+        long eventId,
+        int admissionPerSecond,
+        long waitingCount,
+        long admittedCount
+) {
+    public static WaitingRoomResponse from(WaitingRoom<?> room) {
+        return new WaitingRoomResponse(room.getEventId(), room.getAdmissionPerSecond(),
+                room.getWaitingCount(), room.getAdmittedCount());
+    }
+}
@@ -0,0 +1,27 @@
+package com.tikkit.api.waitingroom.queue;
+
+/**
+ * 노드들이 나눠 쓰는 입장 허용량 계산. GcraRateLimiter 와 같이 "다음 입장 예정 시각(TAT)" 하나로 속도를 나타낸다.
+ * TAT 는 events 행에 두고 조건부 update 로 옮기므로, 노드가 몇 대든 합계가 초당 입장 인원을 넘지 않는다.
+ * 한 번에 내주는 양은 burstMicros(한 tick 분량) + 1명까지: tick 이 밀리거나 대기자가 없던 동안의 여유는 쌓이지 않는다.
+ *
+ * @param admitted              이번에 들여보낼 인원
+ * @param nextAdmissionAtMicros 옮겨 적을 TAT(epoch 마이크로초)
+ */
+public record AdmissionGrant(long admitted, long nextAdmissionAtMicros) {
+
+    public static AdmissionGrant of(long nextAdmissionAtMicros,
+                                    long nowMicros,
+                                    int admissionPerSecond,
+                                    long burstMicros,
+                                    long wanted) {
+        double intervalMicros = 1_000_000d / admissionPerSecond;
+        long start = Math.max(nextAdmissionAtMicros, nowMicros);
+        long slack = nowMicros + burstMicros - start;
+        if (wanted <= 0 || slack < 0) {
+            return new AdmissionGrant(0, nextAdmissionAtMicros);
+        }
+        long admitted = Math.min(wanted, (long) (slack / intervalMicros) + 1);
+        return new AdmissionGrant(admitted, start + Math.round(admitted * intervalMicros));
+    }
+}
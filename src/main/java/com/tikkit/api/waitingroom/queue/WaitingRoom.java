@@ -0,0 +1,112 @@
+package com.tikkit.api.waitingroom.queue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 노드에 있는 공연 하나의 입장 대기열. 대기자마다 도착 순서대로 번호(seq)를 주고, 노드들이 나눠 받은 입장 허용량(AdmissionGrant)만큼 입장선(admittedUpTo)을 올린다.
+ * 순번은 seq - 입장선 으로 계산되므로 대기자 자체는 메모리를 쓰지 않는다(번호는 서명된 순번 토큰에 담겨 클라이언트가 들고 있다).
+ * 메모리는 SSE 로 연결된 대기자(subscribers)만큼만 든다.
+ *
+ * @param <S> 순번을 받아 볼 구독자(SSE 연결)
+ */
+public class WaitingRoom<S> {
+
+    private final long eventId;
+    private final long createdAtNanos = System.nanoTime();
+    private final AtomicLong nextSeq = new AtomicLong();
+    private final AtomicLong admittedUpTo = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, S> subscribers = new ConcurrentSkipListMap<>();
+    private volatile int admissionPerSecond;
+
+    public WaitingRoom(long eventId, int admissionPerSecond) {
+        this.eventId = eventId;
+        this.admissionPerSecond = admissionPerSecond;
+    }
+
+    public long join() {
+        return nextSeq.getAndIncrement();
+    }
+
+    /**
+     * 입장선을 최대 allowance 만큼 올린다. 입장선은 tick 스레드만 올린다.
+     *
+     * @return 이번에 입장한 인원
+     */
+    public long admit(long allowance) {
+        long admitted = admittedUpTo.get();
+        long admitting = Math.min(allowance, nextSeq.get() - admitted);
+        if (admitting <= 0) {
+            return 0;
+        }
+        admittedUpTo.set(admitted + admitting);
+        return admitting;
+    }
+
+    public boolean isAdmitted(long seq) {
+        return seq < admittedUpTo.get();
+    }
+
+    // 1부터 시작하는 순번. 입장했으면 0
+    public long positionOf(long seq) {
+        return Math.max(0, seq - admittedUpTo.get() + 1);
+    }
+
+    public long estimatedWaitSeconds(long seq) {
+        return (positionOf(seq) + admissionPerSecond - 1) / admissionPerSecond;
+    }
+
+    // 같은 번호로 다시 구독하면(새로고침 등) 이전 구독자를 돌려준다
+    public S subscribe(long seq, S subscriber) {
+        return subscribers.put(seq, subscriber);
+    }
+
+    public void unsubscribe(long seq, S subscriber) {
+        subscribers.remove(seq, subscriber);
+    }
+
+    /**
+     * 입장선을 넘은 구독자를 꺼낸다.
+     */
+    public Map.Entry<Long, S> pollAdmitted() {
+        while (true) {
+            Map.Entry<Long, S> first = subscribers.firstEntry();
+            if (first == null || first.getKey() >= admittedUpTo.get()) {
+                return null;
+            }
+            if (subscribers.remove(first.getKey(), first.getValue())) {
+                return first;
+            }
+        }
+    }
+
+    public ConcurrentNavigableMap<Long, S> subscribers() {
+        return subscribers;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    public int getAdmissionPerSecond() {
+        return admissionPerSecond;
+    }
+
+    public void setAdmissionPerSecond(int admissionPerSecond) {
+        this.admissionPerSecond = admissionPerSecond;
+    }
+
+    public long getWaitingCount() {
+        return Math.max(0, nextSeq.get() - admittedUpTo.get());
+    }
+
+    public long getAdmittedCount() {
+        return admittedUpTo.get();
+    }
+}
@@ -0,0 +1,17 @@
+package com.tikkit.api.waitingroom.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "tikkit.waiting-room")
+public record WaitingRoomProperties(
+        @DefaultValue("100ms") Duration tickInterval,         // 입장 처리 주기. 한 번에 이만큼(최대 1초) 분량까지만 입장시킨다
+        @DefaultValue("2s") Duration pushInterval,            // SSE 순번 갱신 주기
+        @DefaultValue("2h") Duration positionTokenTtl,
+        @DefaultValue("10m") Duration admissionTokenTtl,      // 입장 후 좌석 선점까지 허용 시간
+        @DefaultValue("30m") Duration emitterTimeout,
+        @DefaultValue("1s") Duration syncInterval             // 다른 노드가 열고 닫은 대기열을 DB 에서 맞추는 주기(입장 확인이 이만큼 늦게 켜질 수 있다)
+) {
+}
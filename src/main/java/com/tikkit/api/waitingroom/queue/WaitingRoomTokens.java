@@ -0,0 +1,86 @@
+package com.tikkit.api.waitingroom.queue;
+
+import com.tikkit.api.auth.token.HmacSigner;
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대기열 토큰. 서버가 대기자별 상태를 들고 있지 않도록 필요한 값을 모두 서명해서 클라이언트에 맡긴다.
+ * 순번 토큰 payload: "Q:{eventId}:{userId}:{seq}:{nodeId}:{만료}", 입장 토큰 payload: "P:{eventId}:{userId}:{만료}"
+ * 순번(seq)은 노드마다 따로 세므로 순번 토큰은 발급한 프로세스에서만 받는다: 입장선이 앞선 다른 노드에서 새치기하지 못한다.
+ * nodeId 는 기동할 때마다 새로 뽑는다(재기동하면 순번이 0부터 다시 시작하므로 이전 토큰도 무효).
+ */
+@Component
+public class WaitingRoomTokens {
+
+    private final HmacSigner signer;
+    private final WaitingRoomProperties properties;
+    private final Clock clock = Clock.systemUTC();
+    private final long nodeId = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+
+    public WaitingRoomTokens(HmacSigner signer, WaitingRoomProperties properties) {
+        this.signer = signer;
+        this.properties = properties;
+    }
+
+    public record Position(long eventId, long userId, long seq) {
+    }
+
+    public String issuePosition(long eventId, long userId, long seq) {
+        return signer.sign("Q:" + eventId + ":" + userId + ":" + seq + ":" + nodeId + ":"
+                + expiresAt(properties.positionTokenTtl().toSeconds()));
+    }
+
+    public String issueAdmission(long eventId, long userId) {
+        return signer.sign("P:" + eventId + ":" + userId + ":"
+                + expiresAt(properties.admissionTokenTtl().toSeconds()));
+    }
+
+    public Position verifyPosition(String token, long eventId) {
+        long[] values = parse(signer.verify(token), 'Q', 5);
+        if (values[0] != eventId || values[3] != nodeId) {
+            throw HmacSigner.invalid();
+        }
+        return new Position(values[0], values[1], values[2]);
+    }
+
+    /**
+     * @return 입장 토큰이 이 공연/사용자 것이고 만료되지 않았으면 true
+     */
+    public boolean isAdmitted(String token, long eventId, long userId) {
+        try {
+            long[] values = parse(signer.verify(token), 'P', 3);
+            return values[0] == eventId && values[1] == userId;
+        } catch (AuthException e) {
+            return false;
+        }
+    }
+
+    // 마지막 값은 만료 시각이다
+    private long[] parse(String payload, char type, int fields) {
+        String[] parts = payload.split(":", -1);
+        if (parts.length != fields + 1 || parts[0].length() != 1 || parts[0].charAt(0) != type) {
+            throw HmacSigner.invalid();
+        }
+        long[] values = new long[fields];
+        try {
+            for (int i = 0; i < fields; i++) {
+                values[i] = Long.parseLong(parts[i + 1]);
+            }
+        } catch (NumberFormatException e) {
+            throw HmacSigner.invalid();
+        }
+        if (values[fields - 1] <= clock.instant().getEpochSecond()) {
+            throw new AuthException(ErrorCode.EXPIRED_TOKEN, ErrorCode.EXPIRED_TOKEN.getMessage());
+        }
+        return values;
+    }
+
+    private long expiresAt(long ttlSeconds) {
+        return clock.instant().getEpochSecond() + ttlSeconds;
+    }
+}
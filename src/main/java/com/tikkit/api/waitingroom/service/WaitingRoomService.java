@@ -0,0 +1,18 @@
+package com.tikkit.api.waitingroom.service;
+
+import com.tikkit.api.waitingroom.dto.WaitingRoomJoinResponse;
+import com.tikkit.api.waitingroom.dto.WaitingRoomResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface WaitingRoomService {
+    WaitingRoomResponse open(long eventId, int admissionPerSecond);
+
+    void close(long eventId);
+
+    WaitingRoomJoinResponse join(long eventId, long userId, String positionToken);
+
+    SseEmitter subscribe(long eventId, String positionToken);
+
+    // 대기열이 열린 공연이면 유효한 입장 토큰이 있어야 한다
+    void checkAdmission(long eventId, long userId, String admissionToken);
+}
@@ -0,0 +1,328 @@
+package com.tikkit.api.waitingroom.service;
+
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.exception.ConflictException;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.NotFoundException;
+import com.tikkit.api.waitingroom.dto.WaitingRoomAdmittedEvent;
+import com.tikkit.api.waitingroom.dto.WaitingRoomJoinResponse;
+import com.tikkit.api.waitingroom.dto.WaitingRoomPositionEvent;
+import com.tikkit.api.waitingroom.dto.WaitingRoomResponse;
+import com.tikkit.api.waitingroom.queue.AdmissionGrant;
+import com.tikkit.api.waitingroom.queue.WaitingRoom;
+import com.tikkit.api.waitingroom.queue.WaitingRoomProperties;
+import com.tikkit.api.waitingroom.queue.WaitingRoomTokens;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 공연별 입장 대기열. 입장선은 tick 마다 초당 허용 인원만큼 올라가고,
+ * SSE 로 연결된 대기자에게는 입장 즉시 입장 토큰을, 그 외에는 pushInterval 마다 순번을 보낸다.
+ * 열림/닫힘과 입장 인원은 events 행에 두고 모든 노드가 syncInterval 마다 맞춘다: 어느 노드로 들어와도 입장 확인을 거친다.
+ * 대기 순번은 노드마다 따로 센다. 순번 토큰은 발급한 노드에서만 받으므로 로드밸런서는 공연별로 세션을 고정해야 한다(다른 노드로 가면 맨 뒤에 선다).
+ * 입장 인원은 노드들이 events 행의 입장 허용량(AdmissionGrant)을 조건부 update 로 나눠 가져가므로 노드 수와 관계없이 초당 admissionPerSecond 를 넘지 않는다.
+ * tick 은 전용 스레드에서 돌고(다른 @Scheduled 작업에 밀리지 않게), SSE 전송은 가상 스레드에 넘긴다(느린 클라이언트가 tick 을 붙잡지 않게).
+ */
+@Slf4j
+@Service
+public class WaitingRoomServiceImpl implements WaitingRoomService {
+
+    private final EventRepository eventRepository;
+    private final WaitingRoomTokens tokens;
+    private final WaitingRoomProperties properties;
+    private final TransactionOperations transactionOperations;
+    private final ConcurrentMap<Long, WaitingRoom<Subscriber>> rooms = new ConcurrentHashMap<>();
+    private final Counter admittedCounter;
+    private final Timer tickTimer;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("waiting-room-tick").daemon().factory());
+    private final ExecutorService pushes = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("waiting-room-push-", 0).factory());
+
+    // tick 스레드만 사용
+    private long lastPushNanos = System.nanoTime();
+
+    public WaitingRoomServiceImpl(EventRepository eventRepository,
+                                  WaitingRoomTokens tokens,
+                                  WaitingRoomProperties properties,
+                                  TransactionOperations transactionOperations,
+                                  MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.tokens = tokens;
+        this.properties = properties;
+        this.transactionOperations = transactionOperations;
+        this.admittedCounter = meterRegistry.counter("tikkit.waiting-room.admitted");
+        this.tickTimer = Timer.builder("tikkit.waiting-room.tick")
+                .description("입장 처리와 순번 push 한 회에 걸린 시간")
+                .register(meterRegistry);
+        long interval = properties.tickInterval().toNanos();
+        ticker.scheduleAtFixedRate(this::tickQuietly, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    // 보내는 중인 연결에는 다음 순번을 쌓지 않는다(느린 클라이언트마다 전송이 밀려 쌓이지 않게)
+    private record Subscriber(long userId, SseEmitter emitter, AtomicBoolean sending) {
+        Subscriber(long userId, SseEmitter emitter) {
+            this(userId, emitter, new AtomicBoolean());
+        }
+    }
+
+    @Override
+    public WaitingRoomResponse open(long eventId, int admissionPerSecond) {
+        // 다른 노드가 sync 에서 볼 수 있도록 먼저 커밋한다
+        if (eventRepository.updateWaitingRoom(eventId, admissionPerSecond) == 0) {
+            throw new NotFoundException(ErrorCode.EVENT_NOT_FOUND, ErrorCode.EVENT_NOT_FOUND.getMessage());
+        }
+        return WaitingRoomResponse.from(openLocally(eventId, admissionPerSecond));
+    }
+
+    @Override
+    public void close(long eventId) {
+        eventRepository.updateWaitingRoom(eventId, null);
+        closeLocally(eventId);
+    }
+
+    @Override
+    public WaitingRoomJoinResponse join(long eventId, long userId, String positionToken) {
+        WaitingRoom<Subscriber> room = room(eventId);
+        // 새로고침/재접속 시 자기 순번을 유지한다. 토큰이 없거나 남의 것이거나 만료됐으면 맨 뒤에 선다.
+        long seq = -1;
+        if (positionToken != null) {
+            try {
+                WaitingRoomTokens.Position position = tokens.verifyPosition(positionToken, eventId);
+                if (position.userId() == userId) {
+                    seq = position.seq();
+                }
+            } catch (AuthException e) {
+                seq = -1;
+            }
+        }
+        if (seq < 0) {
+            seq = room.join();
+            positionToken = tokens.issuePosition(eventId, userId, seq);
+        }
+        return new WaitingRoomJoinResponse(
+                positionToken,
+                room.positionOf(seq),
+                room.estimatedWaitSeconds(seq),
+                room.isAdmitted(seq) ? tokens.issueAdmission(eventId, userId) : null
+        );
+    }
+
+    @Override
+    public SseEmitter subscribe(long eventId, String positionToken) {
+        WaitingRoomTokens.Position position = tokens.verifyPosition(positionToken, eventId);
+        WaitingRoom<Subscriber> room = room(eventId);
+        SseEmitter emitter = new SseEmitter(properties.emitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(position.userId(), emitter);
+
+        if (room.isAdmitted(position.seq())) {
+            sendAdmitted(eventId, subscriber);
+            return emitter;
+        }
+        Subscriber previous = room.subscribe(position.seq(), subscriber);
+        if (previous != null) {
+            previous.emitter().complete();
+        }
+        Runnable unsubscribe = () -> room.unsubscribe(position.seq(), subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        sendPosition(room, position.seq(), subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void checkAdmission(long eventId, long userId, String admissionToken) {
+        // 좌석 선점마다 DB 를 읽지 않도록 sync 로 맞춘 목록을 본다
+        if (!rooms.containsKey(eventId)) {
+            return;
+        }
+        if (admissionToken == null || !tokens.isAdmitted(admissionToken, eventId, userId)) {
+            throw new ConflictException(ErrorCode.ADMISSION_REQUIRED, ErrorCode.ADMISSION_REQUIRED.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 열고 닫은 대기열을 맞춘다. 주 DB 에서 읽는다(복제 지연으로 방금 연 대기열을 닫지 않도록).
+     */
+    @Scheduled(fixedDelayString = "${tikkit.waiting-room.sync-interval:1s}")
+    public void sync() {
+        long startedNanos = System.nanoTime();
+        List<Event> open = transactionOperations.execute(status -> eventRepository.findByWaitingRoomAdmissionPerSecondIsNotNull());
+        for (Event event : open) {
+            openLocally(event.getId(), event.getWaitingRoomAdmissionPerSecond());
+        }
+        Set<Long> openIds = open.stream().map(Event::getId).collect(Collectors.toSet());
+        rooms.values().stream()
+                // 읽기 시작한 뒤에 이 노드에서 연 대기열은 위 목록에 없을 수 있다
+                .filter(room -> !openIds.contains(room.getEventId()) && room.getCreatedAtNanos() < startedNanos)
+                .map(WaitingRoom::getEventId)
+                .toList()
+                .forEach(this::closeLocally);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        pushes.shutdownNow();
+    }
+
+    // 예외가 나도 다음 tick 이 취소되지 않도록
+    private void tickQuietly() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("waiting room tick failed", e);
+        }
+    }
+
+    public void tick() {
+        long now = System.nanoTime();
+        boolean push = now - lastPushNanos >= properties.pushInterval().toNanos();
+        if (push) {
+            lastPushNanos = now;
+        }
+        if (rooms.isEmpty()) {
+            return;
+        }
+        tickTimer.record(() -> rooms.values().forEach(room -> tick(room, push)));
+    }
+
+    private void tick(WaitingRoom<Subscriber> room, boolean push) {
+        admittedCounter.increment(room.admit(claimAdmissions(room)));
+        Map.Entry<Long, Subscriber> admitted;
+        while ((admitted = room.pollAdmitted()) != null) {
+            Subscriber subscriber = admitted.getValue();
+            pushAsync(() -> sendAdmitted(room.getEventId(), subscriber));
+        }
+        if (push) {
+            room.subscribers().forEach((seq, subscriber) -> {
+                if (subscriber.sending().compareAndSet(false, true)) {
+                    pushAsync(() -> {
+                        try {
+                            sendPosition(room, seq, subscriber);
+                        } finally {
+                            subscriber.sending().set(false);
+                        }
+                    });
+                }
+            });
+        }
+    }
+
+    /**
+     * events 행의 입장 허용량에서 이 노드의 대기자 수만큼 가져온다. 다른 노드와 겹치면 다시 읽어 시도한다.
+     * 한 번에 한 tick 분량까지만 받으므로 tick 이 밀려도 몰아서 들여보내지 않는다.
+     */
+    private long claimAdmissions(WaitingRoom<Subscriber> room) {
+        long wanted = room.getWaitingCount();
+        if (wanted == 0) {
+            return 0;
+        }
+        // tick 을 직접 부르는 테스트/벤치마크(긴 tick-interval)에서도 1초 분량을 넘지 않게
+        long burstMicros = Math.min(properties.tickInterval().toNanos(), 1_000_000_000L) / 1_000;
+        try {
+            for (int attempt = 0; attempt < 3; attempt++) {
+                Long current = eventRepository.findWaitingRoomNextAdmissionAt(room.getEventId()).orElse(null);
+                if (current == null) {
+                    return 0;
+                }
+                AdmissionGrant grant = AdmissionGrant.of(current, System.currentTimeMillis() * 1_000,
+                        room.getAdmissionPerSecond(), burstMicros, wanted);
+                if (grant.admitted() == 0) {
+                    return 0;
+                }
+                if (eventRepository.claimAdmissions(room.getEventId(), current, grant.nextAdmissionAtMicros()) == 1) {
+                    return grant.admitted();
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("failed to claim admissions for event {}", room.getEventId(), e);
+        }
+        return 0;
+    }
+
+    private void pushAsync(Runnable send) {
+        try {
+            pushes.execute(send);
+        } catch (RejectedExecutionException e) {
+            log.debug("waiting room is shutting down, dropping push", e);
+        }
+    }
+
+    private void sendPosition(WaitingRoom<Subscriber> room, long seq, Subscriber subscriber) {
+        WaitingRoomPositionEvent event = new WaitingRoomPositionEvent(room.positionOf(seq), room.estimatedWaitSeconds(seq));
+        try {
+            subscriber.emitter().send(SseEmitter.event().name("position").data(event));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결: 구독만 정리하고 대기 순번(seq)은 토큰에 남아 있으므로 재접속하면 이어진다
+            room.unsubscribe(seq, subscriber);
+        }
+    }
+
+    private void sendAdmitted(long eventId, Subscriber subscriber) {
+        WaitingRoomAdmittedEvent event = new WaitingRoomAdmittedEvent(tokens.issueAdmission(eventId, subscriber.userId()));
+        try {
+            subscriber.emitter().send(SseEmitter.event().name("admitted").data(event));
+            subscriber.emitter().complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("admitted subscriber already disconnected", e);
+        }
+    }
+
+    private WaitingRoom<Subscriber> openLocally(long eventId, int admissionPerSecond) {
+        return rooms.compute(eventId, (id, existing) -> {
+            if (existing == null) {
+                return new WaitingRoom<>(id, admissionPerSecond);
+            }
+            existing.setAdmissionPerSecond(admissionPerSecond);
+            return existing;
+        });
+    }
+
+    private void closeLocally(long eventId) {
+        WaitingRoom<Subscriber> room = rooms.remove(eventId);
+        if (room != null) {
+            room.subscribers().values().forEach(subscriber -> subscriber.emitter().complete());
+        }
+    }
+
+    // 아직 sync 하지 않은 노드로 들어온 대기자도 받는다
+    private WaitingRoom<Subscriber> room(long eventId) {
+        WaitingRoom<Subscriber> room = rooms.get(eventId);
+        if (room != null) {
+            return room;
+        }
+        Integer admissionPerSecond = transactionOperations.execute(status -> eventRepository.findById(eventId)
+                .map(Event::getWaitingRoomAdmissionPerSecond)
+                .orElse(null));
+        if (admissionPerSecond == null) {
+            throw new NotFoundException(ErrorCode.WAITING_ROOM_NOT_FOUND, ErrorCode.WAITING_ROOM_NOT_FOUND.getMessage());
+        }
+        return openLocally(eventId, admissionPerSecond);
+    }
+}
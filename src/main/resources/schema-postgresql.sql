@@ -0,0 +1,15 @@
+-- Hibernate(ddl-auto)가 테이블을 만든 뒤 실행된다(dev: spring.sql.init). 운영은 같은 내용을 마이그레이션으로 적용한다.
+-- H2 에는 부분 인덱스가 없어서 엔티티(@Index)가 아니라 여기에 둔다.
+
+-- 휴면 전환 대상: ACTIVE 회원만, 마지막 활동 시각 순(UserLifecycleJob.DEACTIVATE_DORMANT 의 정렬 키와 같다)
+create index if not exists idx_users_active_last_activity
+    on users ((coalesce(last_login_at, created_at)), id)
+    where status = 'ACTIVE';
+
+-- 파기 대상: DELETED 회원만, 탈퇴 시각 순(UserLifecycleJob.PURGE_DELETED)
+create index if not exists idx_users_deleted_deleted_at
+    on users (deleted_at, id)
+    where status = 'DELETED';
+
+-- existsByEmail 은 일부러 부분 인덱스를 쓰지 않는다: 파기 전의 탈퇴 회원도 이메일을 점유(unique)하므로 전체 unique 인덱스로 답해야 한다.
+-- 대신 PURGE_DELETED 가 탈퇴 행을 지워 그 인덱스가 탈퇴 회원으로 불어나지 않게 한다.
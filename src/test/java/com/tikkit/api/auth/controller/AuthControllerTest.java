@@ -0,0 +1,214 @@
+package com.tikkit.api.auth.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "tikkit.security.password.bcrypt-strength=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("토큰 인증 흐름 테스트")
+class AuthControllerTest {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PreSerializedResponses preSerializedResponses;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("로그인으로 받은 액세스 토큰으로 인증이 필요한 API 를 호출한다")
+    void loginThenCallAuthenticatedEndpoint() throws Exception {
+        User user = save("member@tikkit.com", Role.USER, Status.ACTIVE);
+
+        String accessToken = login("member@tikkit.com", PASSWORD).path("data").path("accessToken").asText();
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(user.getId()))
+                .andExpect(jsonPath("$.data.role").value("USER"));
+    }
+
+    @Test
+    @DisplayName("로그인하면 마지막 로그인 시각이 기록된다(휴면 판정 기준)")
+    void loginRecordsLastLogin() throws Exception {
+        User user = save("member@tikkit.com", Role.USER, Status.ACTIVE);
+
+        login("member@tikkit.com", PASSWORD);
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLoginAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("알고리즘 표시가 없는 기존 해시는 로그인에 성공하면 현재 정책의 해시로 바뀐다")
+    void loginUpgradesLegacyHash() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User user = userRepository.save(new User("legacy@tikkit.com", legacyHash, "이재훈", "01012345678",
+                Role.USER, Status.ACTIVE, now, now, null));
+
+        login("legacy@tikkit.com", PASSWORD);
+
+        String upgraded = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("{bcrypt}$2a$04$");
+        assertThat(passwordEncoder.upgradeEncoding(upgraded)).isFalse();
+        // 바뀐 해시로 다시 로그인할 수 있고, 더는 바꾸지 않는다
+        login("legacy@tikkit.com", PASSWORD);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(upgraded);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 401, 역할이 부족하면 403")
+    void unauthorizedAndForbidden() throws Exception {
+        save("member@tikkit.com", Role.USER, Status.ACTIVE);
+        String accessToken = login("member@tikkit.com", PASSWORD).path("data").path("accessToken").asText();
+        String bulkBody = objectMapper.writeValueAsString(Map.of("users", List.of()));
+
+        mockMvc.perform(get("/api/auth/me"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.UNAUTHORIZED)));
+        mockMvc.perform(post("/api/users/bulk-register")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bulkBody))
+                .andExpect(status().isForbidden())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.FORBIDDEN)));
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 401 INVALID_TOKEN")
+    void invalidToken() throws Exception {
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer local.abc.def"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.INVALID_TOKEN)));
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리거나 없는 이메일이면 같은 INVALID_CREDENTIALS")
+    void invalidCredentials() throws Exception {
+        save("member@tikkit.com", Role.USER, Status.ACTIVE);
+
+        for (String[] credentials : new String[][]{{"member@tikkit.com", "wrongpassword"}, {"nobody@tikkit.com", PASSWORD}}) {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("email", credentials[0], "password", credentials[1]))))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.INVALID_CREDENTIALS)));
+        }
+    }
+
+    @Test
+    @DisplayName("비활성 계정은 로그인할 수 없다")
+    void inactiveUser() throws Exception {
+        save("inactive@tikkit.com", Role.USER, Status.INACTIVE);
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", "inactive@tikkit.com", "password", PASSWORD))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.INACTIVE_USER)));
+    }
+
+    @Test
+    @DisplayName("휴면 계정은 비밀번호로 로그인하면 다시 ACTIVE 가 된다")
+    void loginReactivatesDormantUser() throws Exception {
+        User user = save("dormant@tikkit.com", Role.USER, Status.DORMANT);
+
+        String accessToken = login("dormant@tikkit.com", PASSWORD).path("data").path("accessToken").asText();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getStatus()).isEqualTo(Status.ACTIVE);
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        // 비밀번호가 틀리면 휴면이 풀리지 않는다
+        User other = save("dormant2@tikkit.com", Role.USER, Status.DORMANT);
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", "dormant2@tikkit.com", "password", "wrongpassword"))))
+                .andExpect(status().isUnauthorized());
+        assertThat(userRepository.findById(other.getId()).orElseThrow().getStatus()).isEqualTo(Status.DORMANT);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로 DB 의 현재 역할을 담은 새 토큰을 받는다")
+    void refresh() throws Exception {
+        save("admin@tikkit.com", Role.ADMIN, Status.ACTIVE);
+        JsonNode tokens = login("admin@tikkit.com", PASSWORD).path("data");
+
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", tokens.path("refreshToken").asText()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = objectMapper.readTree(body).path("data").path("accessToken").asText();
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(jsonPath("$.data.role").value("ADMIN"));
+        // 액세스 토큰으로는 재발급할 수 없다
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", accessToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private User save(String email, Role role, Status status) {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new User(email, passwordEncoder.encode(PASSWORD), "이재훈", "01012345678",
+                role, status, now, now, null));
+    }
+
+    private JsonNode login(String email, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", email, "password", password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
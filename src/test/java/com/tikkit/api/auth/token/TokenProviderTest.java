@@ -0,0 +1,96 @@
+package com.tikkit.api.auth.token;
+
+import com.tikkit.api.global.exception.AuthException;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.user.entity.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TokenProvider 테스트")
+class TokenProviderTest {
+
+    private static final String KEY_1 = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final String KEY_2 = Base64.getEncoder().encodeToString("fedcba9876543210fedcba9876543210".getBytes());
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private TokenProvider provider(String activeKeyId, Instant now) {
+        TokenProperties properties = new TokenProperties(
+                Duration.ofMinutes(15), Duration.ofDays(14), Map.of("k1", KEY_1, "k2", KEY_2), activeKeyId);
+        return new TokenProvider(properties, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰을 검증하면 사용자 id 와 역할이 나온다")
+    void issueAndVerify() {
+        TokenProvider provider = provider("k1", NOW);
+
+        TokenClaims claims = provider.verify(provider.issueAccessToken(42L, Role.ADMIN), TokenType.ACCESS);
+
+        assertThat(claims.userId()).isEqualTo(42L);
+        assertThat(claims.role()).isEqualTo(Role.ADMIN);
+        assertThat(claims.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)).getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("payload 를 바꾸면 서명 검증에 실패한다")
+    void tamperedPayload() {
+        TokenProvider provider = provider("k1", NOW);
+        String token = provider.issueAccessToken(42L, Role.USER);
+        String[] parts = token.split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(new String(Base64.getUrlDecoder().decode(parts[1])).replace("USER", "ADMIN").getBytes());
+
+        AuthException e = assertThrows(AuthException.class,
+                () -> provider.verify(parts[0] + "." + forged + "." + parts[2], TokenType.ACCESS));
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED_TOKEN")
+    void expired() {
+        String token = provider("k1", NOW).issueAccessToken(42L, Role.USER);
+
+        AuthException e = assertThrows(AuthException.class,
+                () -> provider("k1", NOW.plus(Duration.ofMinutes(15))).verify(token, TokenType.ACCESS));
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 액세스 토큰으로 쓸 수 없다")
+    void wrongType() {
+        TokenProvider provider = provider("k1", NOW);
+
+        AuthException e = assertThrows(AuthException.class,
+                () -> provider.verify(provider.issueRefreshToken(42L, Role.USER), TokenType.ACCESS));
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("활성 키를 바꿔도 이전 키로 서명한 토큰은 검증된다")
+    void keyRotation() {
+        String oldToken = provider("k1", NOW).issueAccessToken(42L, Role.USER);
+
+        assertThat(provider("k2", NOW).verify(oldToken, TokenType.ACCESS).userId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("형식이 깨진 토큰은 INVALID_TOKEN")
+    void malformed() {
+        TokenProvider provider = provider("k1", NOW);
+
+        for (String token : new String[]{"", "abc", "k1..", "k1.a.", "unknown.YQ.YQ", "k1.!!!.YQ"}) {
+            AuthException e = assertThrows(AuthException.class, () -> provider.verify(token, TokenType.ACCESS));
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.tikkit.api.event.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.service.SeatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("공연 카탈로그 스냅샷")
+class CatalogSnapshotsTest {
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private CatalogSnapshots catalogSnapshots;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from seats");
+        jdbcTemplate.update("delete from events");
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에는 압축본을, 아니면 풀어서 같은 JSON 을 보낸다")
+    void servesGzipAndIdentity() throws Exception {
+        Event event = seatService.createEvent("카탈로그 공연", 10);
+
+        HttpResponse<byte[]> gzipped = get("/api/events/" + event.getId(), "gzip, deflate", null);
+        HttpResponse<byte[]> identity = get("/api/events/" + event.getId(), null, null);
+
+        assertThat(gzipped.statusCode()).isEqualTo(200);
+        assertThat(gzipped.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        assertThat(gunzip(gzipped.body())).isEqualTo(identity.body());
+        JsonNode data = objectMapper.readTree(identity.body()).path("data");
+        assertThat(data.path("name").asText()).isEqualTo("카탈로그 공연");
+        assertThat(data.path("seatCount").asInt()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 본문 없이 304, 내용이 바뀌면 새 ETag")
+    void revalidatesWithEtag() throws Exception {
+        Event event = seatService.createEvent("첫 공연", 10);
+        HttpResponse<byte[]> first = get("/api/events", "gzip", null);
+        String etag = first.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+
+        HttpResponse<byte[]> notModified = get("/api/events", "gzip", etag);
+        assertThat(notModified.statusCode()).isEqualTo(304);
+        assertThat(notModified.body()).isEmpty();
+
+        // 다른 경로(다른 인스턴스, 직접 수정)로 바뀐 행은 주기 갱신에서 그 행만 다시 읽는다
+        jdbcTemplate.update("update events set name = ?, updated_at = ? where id = ?",
+                "바뀐 공연", LocalDateTime.now().plusSeconds(1), event.getId());
+        catalogSnapshots.refresh();
+
+        HttpResponse<byte[]> changed = get("/api/events", "gzip", etag);
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.headers().firstValue(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        JsonNode events = objectMapper.readTree(gunzip(changed.body())).path("data");
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).path("name").asText()).isEqualTo("바뀐 공연");
+    }
+
+    @Test
+    @DisplayName("A→B→A 로 돌아와도 지금 보내는 스냅샷 파일은 지우지 않는다")
+    void keepsCurrentFileWhenContentReturns() throws Exception {
+        Event event = seatService.createEvent("A", 10);
+        catalogSnapshots.refresh();
+        rename(event, "B", 1);
+        rename(event, "A", 2);
+
+        CatalogSnapshot current = catalogSnapshots.find(CatalogSnapshots.eventKey(event.getId())).orElseThrow();
+        assertThat(Files.exists(current.file())).isTrue();
+        HttpResponse<byte[]> response = get("/api/events/" + event.getId(), null, null);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(response.body()).path("data").path("name").asText()).isEqualTo("A");
+    }
+
+    @Test
+    @DisplayName("이미 본 시각보다 이른 updated_at 으로 늦게 커밋된 행도 다시 읽는다")
+    void refreshOverlapsWatermark() throws Exception {
+        Event late = seatService.createEvent("늦은 공연", 10);
+        Event other = seatService.createEvent("다른 공연", 10);
+        LocalDateTime before = LocalDateTime.now();
+        rename(other, "다른 공연2", 2);
+
+        // before 에 시작한 트랜잭션이 워터마크(before+2s)가 지난 뒤에 커밋된 경우
+        jdbcTemplate.update("update events set name = ?, updated_at = ? where id = ?", "늦게 바뀐 공연", before, late.getId());
+        catalogSnapshots.refresh();
+
+        HttpResponse<byte[]> response = get("/api/events/" + late.getId(), null, null);
+        assertThat(objectMapper.readTree(response.body()).path("data").path("name").asText()).isEqualTo("늦게 바뀐 공연");
+    }
+
+    @Test
+    @DisplayName("없는 공연은 404")
+    void unknownEvent() throws Exception {
+        assertThat(get("/api/events/987654", "gzip", null).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("q=0 으로 거절한 gzip 은 쓰지 않는다")
+    void acceptsGzip() {
+        assertThat(CatalogSnapshot.acceptsGzip("br, gzip;q=0.8")).isTrue();
+        assertThat(CatalogSnapshot.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CatalogSnapshot.acceptsGzip("identity")).isFalse();
+        assertThat(CatalogSnapshot.acceptsGzip(null)).isFalse();
+    }
+
+    private void rename(Event event, String name, long secondsLater) {
+        jdbcTemplate.update("update events set name = ?, updated_at = ? where id = ?",
+                name, LocalDateTime.now().plusSeconds(secondsLater), event.getId());
+        catalogSnapshots.refresh();
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
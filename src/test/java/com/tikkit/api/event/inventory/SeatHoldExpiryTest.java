@@ -0,0 +1,82 @@
+package com.tikkit.api.event.inventory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SeatHoldExpiry 테스트")
+class SeatHoldExpiryTest {
+
+    private static final long TTL = Duration.ofMinutes(5).toMillis();
+
+    private final long[] now = {1_000_000L};
+    private final SeatHoldExpiry expiry = new SeatHoldExpiry(
+            new SeatHoldProperties(Duration.ofMinutes(5), Duration.ofMillis(100), 6),
+            new SimpleMeterRegistry(), () -> now[0]);
+    private final SeatInventory inventory = new SeatInventory(1L, 100);
+
+    @Test
+    @DisplayName("선점 시간이 지나면 좌석이 풀리고, 선점자에게는 만료로 보인다")
+    void expiresHold() {
+        hold(7, 1L);
+
+        now[0] += TTL - 1_000;
+        assertThat(expiry.expire()).isZero();
+        assertThat(inventory.isHeld(7)).isTrue();
+
+        now[0] += 1_000;
+        assertThat(expiry.expire()).isEqualTo(1);
+        assertThat(inventory.isHeld(7)).isFalse();
+        assertThat(inventory.getAvailableCount()).isEqualTo(100);
+        assertThat(inventory.isExpiredFor(7, 1L)).isTrue();
+        assertThat(inventory.release(7, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해제한 선점은 만료 예약도 취소된다")
+    void cancelOnRelease() {
+        hold(7, 1L);
+        assertThat(inventory.release(7, 1L)).isTrue();
+        expiry.cancel(inventory, 7);
+
+        assertThat(expiry.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 선점의 만료가 같은 좌석의 새 선점을 풀지 않는다")
+    void staleExpirationIgnored() {
+        hold(7, 1L);
+        inventory.release(7, 1L);       // 예약 취소 없이 해제(경합 상황)
+        now[0] += 1_000;
+        hold(7, 1L);
+
+        now[0] += TTL - 1_000;
+        assertThat(expiry.expire()).isZero();
+        assertThat(inventory.holderOf(7)).isEqualTo(1L);
+
+        now[0] += 1_000;
+        assertThat(expiry.expire()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 틱에 만료된 선점을 한꺼번에 푼다")
+    void releasesInBatch() {
+        for (int seatNo = 0; seatNo < 100; seatNo++) {
+            hold(seatNo, seatNo + 1L);
+        }
+
+        now[0] += TTL;
+        assertThat(expiry.expire()).isEqualTo(100);
+        assertThat(inventory.getAvailableCount()).isEqualTo(100);
+        assertThat(expiry.pending()).isZero();
+    }
+
+    private void hold(int seatNo, long userId) {
+        assertThat(inventory.tryHold(seatNo, userId, now[0])).isTrue();
+        expiry.schedule(inventory, seatNo, userId, now[0]);
+    }
+}
@@ -0,0 +1,118 @@
+package com.tikkit.api.event.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SeatInventory 테스트")
+class SeatInventoryTest {
+
+    @Test
+    @DisplayName("빈 좌석은 선점되고, 선점된 좌석은 다른 사용자가 잡을 수 없다")
+    void hold() {
+        SeatInventory inventory = new SeatInventory(1L, 100);
+
+        assertThat(inventory.tryHold(70, 1L, 1_000L)).isTrue();
+        assertThat(inventory.tryHold(70, 2L, 1_000L)).isFalse();
+
+        assertThat(inventory.isHeld(70)).isTrue();
+        assertThat(inventory.holderOf(70)).isEqualTo(1L);
+        assertThat(inventory.getAvailableCount()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("구매로 확정한 좌석은 해제도 만료도 되지 않고, 확정을 되돌리면 다시 선점 상태다")
+    void confirm() {
+        SeatInventory inventory = new SeatInventory(1L, 100);
+        inventory.tryHold(5, 1L, 1_000L);
+
+        assertThat(inventory.confirm(5, 2L)).isFalse();
+        assertThat(inventory.confirm(5, 1L)).isTrue();
+        assertThat(inventory.isSold(5)).isTrue();
+        assertThat(inventory.holderOf(5)).isEqualTo(1L);
+        assertThat(inventory.release(5, 1L)).isFalse();
+        assertThat(inventory.expire(5, 1L, 1_000L)).isFalse();
+
+        assertThat(inventory.unconfirm(5, 1L)).isTrue();
+        assertThat(inventory.isSold(5)).isFalse();
+        assertThat(inventory.release(5, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점한 사용자만 해제할 수 있다")
+    void release() {
+        SeatInventory inventory = new SeatInventory(1L, 100);
+        inventory.tryHold(5, 1L, 1_000L);
+
+        assertThat(inventory.release(5, 2L)).isFalse();
+        assertThat(inventory.release(5, 1L)).isTrue();
+        assertThat(inventory.release(5, 1L)).isFalse();
+
+        assertThat(inventory.isHeld(5)).isFalse();
+        assertThat(inventory.getAvailableCount()).isEqualTo(100);
+        assertThat(inventory.tryHold(5, 2L, 2_000L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("바뀐 좌석은 한 번씩만 drain 되고, 다시 바뀌면 또 나온다")
+    void drainDirty() {
+        SeatInventory inventory = new SeatInventory(1L, 200);
+        inventory.tryHold(3, 1L, 1_000L);
+        inventory.tryHold(130, 1L, 1_000L);
+
+        assertThat(drain(inventory)).containsExactly(3, 130);
+        assertThat(drain(inventory)).isEmpty();
+
+        inventory.release(130, 1L);
+        assertThat(drain(inventory)).containsExactly(130);
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 같은 좌석들을 동시에 잡아도 좌석마다 한 명만 성공한다")
+    void concurrentHolds() throws InterruptedException {
+        int seats = 1_000;
+        SeatInventory inventory = new SeatInventory(1L, seats);
+        AtomicIntegerArray winners = new AtomicIntegerArray(seats);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (long userId = 1; userId <= 8; userId++) {
+            long holder = userId;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int seatNo = 0; seatNo < seats; seatNo++) {
+                    if (inventory.tryHold(seatNo, holder, 1_000L)) {
+                        winners.incrementAndGet(seatNo);
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int seatNo = 0; seatNo < seats; seatNo++) {
+            assertThat(winners.get(seatNo)).isEqualTo(1);
+        }
+        assertThat(inventory.getAvailableCount()).isZero();
+    }
+
+    private static List<Integer> drain(SeatInventory inventory) {
+        List<Integer> seatNos = new ArrayList<>();
+        inventory.drainDirty(seatNos::add);
+        return seatNos;
+    }
+}
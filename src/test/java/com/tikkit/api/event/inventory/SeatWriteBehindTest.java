@@ -0,0 +1,167 @@
+package com.tikkit.api.event.inventory;
+
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.entity.Seat;
+import com.tikkit.api.event.entity.SeatId;
+import com.tikkit.api.event.entity.SeatStatus;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.event.repository.SeatRepository;
+import com.tikkit.api.event.service.SeatService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "tikkit.seat.write-behind.flush-interval=1h"    // 테스트에서 직접 flush
+})
+@ActiveProfiles("test")
+@DisplayName("좌석 write-behind / 복구 테스트")
+class SeatWriteBehindTest {
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SeatWriteBehind seatWriteBehind;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private SeatInventoryRegistry seatInventoryRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private SeatWriteBehindProperties writeBehindProperties;
+
+    @Test
+    @DisplayName("선점/해제는 flush 때 DB 에 반영되고, 새 좌석표는 DB 에서 선점 상태를 복구한다")
+    void flushAndRecover() {
+        Event event = seatService.createEvent("write-behind", 300);
+        seatService.hold(event.getId(), 10, 7L);
+        seatService.hold(event.getId(), 200, 8L);
+        seatService.hold(event.getId(), 11, 7L);
+        seatService.release(event.getId(), 11, 7L);
+
+        assertThat(seatWriteBehind.flush()).isEqualTo(3);
+
+        Seat held = seatRepository.findById(new SeatId(event.getId(), 10)).orElseThrow();
+        assertThat(held.getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(held.getHeldBy()).isEqualTo(7L);
+        assertThat(held.getHeldAt()).isNotNull();
+        assertThat(seatRepository.findById(new SeatId(event.getId(), 11)).orElseThrow().getStatus())
+                .isEqualTo(SeatStatus.AVAILABLE);
+
+        // 재기동을 흉내: 비어 있는 보관소가 DB 에서 좌석표를 다시 만든다
+        SeatInventory recovered = new SeatInventoryRegistry(eventRepository, seatRepository, newExpiry(System::currentTimeMillis))
+                .get(event.getId());
+        assertThat(recovered.getAvailableCount()).isEqualTo(298);
+        assertThat(recovered.holderOf(10)).isEqualTo(7L);
+        assertThat(recovered.holderOf(200)).isEqualTo(8L);
+        assertThat(recovered.isHeld(11)).isFalse();
+    }
+
+    @Test
+    @DisplayName("선점 만료 시각이 DB 에 남고, 재기동 후 그 시각이 지나면 복구된 선점도 풀린다")
+    void expirationSurvivesRestart() {
+        Event event = seatService.createEvent("expiry-restart", 10);
+        seatService.hold(event.getId(), 3, 9L);
+        seatWriteBehind.flush();
+
+        Seat held = seatRepository.findById(new SeatId(event.getId(), 3)).orElseThrow();
+        assertThat(held.getExpiresAt()).isEqualTo(held.getHeldAt().plusMinutes(5));
+
+        // 재기동 후 시계가 만료 시각을 넘긴 상황
+        long[] now = {System.currentTimeMillis()};
+        SeatHoldExpiry expiry = newExpiry(() -> now[0]);
+        SeatInventory recovered = new SeatInventoryRegistry(eventRepository, seatRepository, expiry).get(event.getId());
+        assertThat(expiry.pending()).isEqualTo(1);
+
+        now[0] += Duration.ofMinutes(5).plusSeconds(1).toMillis();
+        assertThat(expiry.expire()).isEqualTo(1);
+        assertThat(recovered.isHeld(3)).isFalse();
+        assertThat(recovered.isExpiredFor(3, 9L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재기동 시 조회되지 않은 공연의 선점도 기동 때 만료를 다시 걸어 제때 풀린다")
+    void restoresHoldsAtStartup() {
+        Event event = seatService.createEvent("startup-restore", 10);
+        seatService.hold(event.getId(), 4, 9L);
+        seatWriteBehind.flush();
+
+        long[] now = {System.currentTimeMillis()};
+        SeatHoldExpiry expiry = newExpiry(() -> now[0]);
+        SeatInventoryRegistry registry = new SeatInventoryRegistry(eventRepository, seatRepository, expiry);
+        assertThat(registry.restoreHolds()).isPositive();
+        assertThat(registry.loaded()).extracting(SeatInventory::getEventId).contains(event.getId());
+
+        now[0] += Duration.ofMinutes(5).plusSeconds(1).toMillis();
+        expiry.expire();
+        assertThat(registry.get(event.getId()).isExpiredFor(4, 9L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 기록한 선점은 덮어쓰지 않고, 늦게 쓴 노드가 DB 상태를 따른다")
+    void laterNodeYieldsToStoredHold() {
+        Event event = seatService.createEvent("two-nodes", 10);
+        // 두 번째 노드: 같은 DB 를 보는 별도 좌석표와 write-behind
+        SeatHoldExpiry otherExpiry = newExpiry(System::currentTimeMillis);
+        SeatInventoryRegistry otherRegistry = new SeatInventoryRegistry(eventRepository, seatRepository, otherExpiry);
+        SimpleMeterRegistry otherMeters = new SimpleMeterRegistry();
+        SeatWriteBehind otherWriteBehind = new SeatWriteBehind(otherRegistry, jdbcTemplate, transactionOperations,
+                writeBehindProperties, new SeatHoldProperties(Duration.ofMinutes(5), Duration.ofMillis(100), 6), otherExpiry, otherMeters);
+        SeatInventory other = otherRegistry.get(event.getId());
+
+        seatService.hold(event.getId(), 5, 7L);
+        seatWriteBehind.flush();
+        assertThat(other.tryHold(5, 8L, System.currentTimeMillis())).isTrue();
+        seatService.hold(event.getId(), 6, 7L);
+        assertThat(other.tryHold(6, 9L, System.currentTimeMillis())).isTrue();
+        // 6번은 두 번째 노드가 먼저 쓴다
+        assertThat(otherWriteBehind.flush()).isEqualTo(1);
+
+        Seat seat5 = seatRepository.findById(new SeatId(event.getId(), 5)).orElseThrow();
+        assertThat(seat5.getHeldBy()).isEqualTo(7L);
+        assertThat(other.holderOf(5)).isEqualTo(7L);
+        assertThat(otherMeters.counter("tikkit.seat.write-behind.conflicts").count()).isEqualTo(1);
+
+        assertThat(seatWriteBehind.flush()).isZero();
+        assertThat(seatRepository.findById(new SeatId(event.getId(), 6)).orElseThrow().getHeldBy()).isEqualTo(9L);
+        assertThat(seatInventoryRegistry.get(event.getId()).holderOf(6)).isEqualTo(9L);
+
+        // 다른 노드가 푼 좌석은 새 version 으로 다시 쓴다
+        other.release(6, 9L);
+        otherWriteBehind.flush();
+        SeatInventory inventory = seatInventoryRegistry.get(event.getId());
+        inventory.release(6, 9L);
+        assertThat(inventory.tryHold(6, 10L, System.currentTimeMillis())).isTrue();
+        assertThat(seatWriteBehind.flush()).isZero();
+        assertThat(seatWriteBehind.flush()).isEqualTo(1);
+        assertThat(seatRepository.findById(new SeatId(event.getId(), 6)).orElseThrow().getHeldBy()).isEqualTo(10L);
+    }
+
+    private static SeatHoldExpiry newExpiry(LongSupplier clock) {
+        return new SeatHoldExpiry(new SeatHoldProperties(Duration.ofMinutes(5), Duration.ofMillis(100), 6),
+                new SimpleMeterRegistry(), clock);
+    }
+}
@@ -0,0 +1,61 @@
+package com.tikkit.api.global.concurrent;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.OverloadedException;
+import com.tikkit.api.global.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedExecutor 테스트")
+class BoundedExecutorTest {
+
+    private final BoundedExecutor executor = new BoundedExecutor("test", 1, 1, Duration.ofMillis(50));
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 결과를 호출 스레드로 돌려준다")
+    void returnsResult() {
+        assertThat(executor.call(() -> "hashed")).isEqualTo("hashed");
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외를 감싸지 않고 그대로 던진다")
+    void rethrowsTaskException() {
+        assertThatThrownBy(() -> executor.call(() -> {
+            throw new ValidationException(ErrorCode.PASSWORD_REQUIRED, ErrorCode.PASSWORD_REQUIRED.getMessage());
+        })).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("실행 중 + 대기 중 작업이 상한에 도달하면 대기 시간 후 SERVER_BUSY 로 거절한다")
+    void rejectsWhenSaturated() {
+        executor.submit(this::block);
+        executor.submit(this::block);
+
+        assertThatThrownBy(() -> executor.submit(this::block))
+                .isInstanceOf(OverloadedException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SERVER_BUSY);
+    }
+
+    private String block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
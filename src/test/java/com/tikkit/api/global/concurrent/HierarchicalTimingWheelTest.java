@@ -0,0 +1,86 @@
+package com.tikkit.api.global.concurrent;
+
+import com.tikkit.api.global.concurrent.HierarchicalTimingWheel.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel 테스트")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각 이전에는 나오지 않고, 그 시각이 지난 첫 advance 에서 나온다")
+    void expiresAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 2, 0);
+        wheel.schedule("a", 25);
+        wheel.schedule("b", 40);
+
+        assertThat(wheel.advance(29)).isEmpty();               // 25 는 틱 경계 30 으로 올림
+        assertThat(wheel.advance(30)).containsExactly("a");
+        assertThat(wheel.advance(39)).isEmpty();
+        assertThat(wheel.advance(40)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 단계에 걸친 항목도 위 단계에서 내려와 정확한 틱에 만료된다")
+    void cascadesAcrossLevels() {
+        // 단계당 4칸: 4, 16, 64, 256 ... 틱을 넘나들도록 흩뿌린다
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 2, 0);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1 + random.nextInt(5_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        for (long now = 1; now <= 5_000; now++) {
+            for (long expired : wheel.advance(now)) {
+                assertThat(expired).isEqualTo(now);
+            }
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance 를 몰아서 호출해도 그 사이 만료된 항목을 시각 순으로 한 번에 돌려준다")
+    void batchesExpirations() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 3, 0);
+        for (int i = 300; i >= 1; i--) {
+            wheel.schedule(i, i);
+        }
+
+        List<Integer> expired = wheel.advance(1_000);
+
+        assertThat(expired).hasSize(300).isSorted();
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않고, 이미 만료된 항목의 취소는 false 다")
+    void cancel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 2, 0);
+        Timeout<String> cancelled = wheel.schedule("cancelled", 100);
+        Timeout<String> kept = wheel.schedule("kept", 100);
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(wheel.advance(100)).containsExactly("kept");
+        assertThat(wheel.cancel(kept)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 틱에 만료된다")
+    void pastDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 6, 10_000);
+        wheel.schedule("late", 5_000);
+
+        assertThat(wheel.advance(10_099)).isEmpty();
+        assertThat(wheel.advance(10_100)).containsExactly("late");
+    }
+}
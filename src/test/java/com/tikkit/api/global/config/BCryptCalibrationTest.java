@@ -0,0 +1,49 @@
+package com.tikkit.api.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BCrypt 강도 보정")
+class BCryptCalibrationTest {
+
+    // 강도 10 이 25ms, 이후 강도마다 두 배
+    private final List<Integer> measured = new ArrayList<>();
+    private final IntFunction<Duration> timer = strength -> {
+        measured.add(strength);
+        return Duration.ofMillis(25L << (strength - 10));
+    };
+
+    @Test
+    @DisplayName("예산 안에 드는 가장 높은 강도를 고르고, 예산을 넘는 강도에서 멈춘다")
+    void picksHighestStrengthWithinBudget() {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(Duration.ofMillis(100), 10, 14, timer);
+
+        assertThat(calibration.strength()).isEqualTo(12);
+        assertThat(calibration.measured()).isEqualTo(Duration.ofMillis(100));
+        assertThat(measured).containsExactly(10, 11, 12, 13);
+    }
+
+    @Test
+    @DisplayName("최소 강도도 예산을 넘으면 최소 강도를 쓴다")
+    void neverGoesBelowMinimum() {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(Duration.ofMillis(10), 10, 14, timer);
+
+        assertThat(calibration.strength()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("최대 강도보다 높이지 않는다")
+    void neverGoesAboveMaximum() {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(Duration.ofSeconds(10), 10, 12, timer);
+
+        assertThat(calibration.strength()).isEqualTo(12);
+        assertThat(measured).containsExactly(10, 11, 12);
+    }
+}
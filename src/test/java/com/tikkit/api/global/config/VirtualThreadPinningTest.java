@@ -0,0 +1,80 @@
+package com.tikkit.api.global.config;
+
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.service.UserService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// show-sql 의 콘솔 출력(PrintStream 잠금)은 운영 경로가 아니므로 끈다
+@SpringBootTest(properties = {
+        "tikkit.security.password.bcrypt-strength=4",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles({"test", "virtual"})
+@DisplayName("가상 스레드 pinning 검사")
+class VirtualThreadPinningTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("회원가입/이메일 확인의 JPA·Hikari 경로에서 캐리어 스레드 pinning 이 발생하지 않는다")
+    void persistencePathDoesNotPinCarrierThreads() throws Exception {
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            stream.startAsync();
+
+            // 커넥션 풀보다 훨씬 많은 가상 스레드로 풀 대기를 유도한다
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 200; i++) {
+                    String email = "virtual" + i + "@tikkit.com";
+                    results.add(executor.submit(() -> {
+                        userService.register(User.of(email, "password1234", "가상스레드", "01012345678"));
+                        return userService.isEmailDuplicated(email);
+                    }));
+                }
+            }
+            stream.stop();
+        }
+
+        // 예외로 끝난 작업은 실행되지 않은 경로이므로 pinning 이 없어도 통과시키지 않는다
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        assertThat(pinnedEvents)
+                .as(() -> pinnedEvents.stream().map(VirtualThreadPinningTest::describe).collect(Collectors.joining()))
+                .isEmpty();
+    }
+
+    private static String describe(RecordedEvent event) {
+        StringBuilder builder = new StringBuilder("pinned for ").append(event.getDuration()).append('\n');
+        if (event.getStackTrace() != null) {
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                builder.append("    at ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName()).append('\n');
+            }
+        }
+        return builder.toString();
+    }
+}
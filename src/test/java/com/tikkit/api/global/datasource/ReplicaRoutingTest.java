@@ -0,0 +1,119 @@
+package com.tikkit.api.global.datasource;
+
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import com.tikkit.api.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB(testdb)와 복제본(replica0) 두 개의 H2 로 라우팅을 본다. 어느 쪽에서 읽었는지는 DATABASE() 로 알 수 있다.
+ * 복제 지연은 복제본의 replica_lag 테이블 값으로 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "tikkit.datasource.replicas[0].url=" + ReplicaRoutingTest.REPLICA_URL,
+        "tikkit.datasource.replicas[0].username=sa",
+        "tikkit.datasource.replicas[0].password=",
+        "tikkit.datasource.lag-query=select seconds from replica_lag",
+        "tikkit.datasource.health-check-interval=1h"
+})
+@ActiveProfiles("test")
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica0;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("create table if not exists replica_lag (seconds double)");
+        replica.update("delete from replica_lag");
+        replica.update("insert into replica_lag values (0)");
+        // 아직 복제되지 않은 상태: 테이블만 있고 행은 없다
+        replica.execute("create table if not exists users (id bigint primary key, email varchar(255))");
+        replicaRoutingDataSource.checkHealth();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.execute("drop table if exists replica_lag");
+        replica.execute("drop table if exists users");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서, 쓰기 트랜잭션은 주 DB 에서 커넥션을 받는다")
+    void routesByReadOnly() {
+        assertThat(database(true)).isEqualTo("REPLICA0");
+        assertThat(database(false)).isEqualTo("TESTDB");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 maxLag 를 넘거나 검사가 실패하면 주 DB 로 읽는다")
+    void fallsBackWhenLaggingOrDown() {
+        replica.update("update replica_lag set seconds = 5");
+        replicaRoutingDataSource.checkHealth();
+        assertThat(replicaRoutingDataSource.healthyReplicas()).isZero();
+        assertThat(database(true)).isEqualTo("TESTDB");
+
+        replica.update("update replica_lag set seconds = 0.2");
+        replicaRoutingDataSource.checkHealth();
+        assertThat(database(true)).isEqualTo("REPLICA0");
+
+        replica.execute("drop table replica_lag");
+        replicaRoutingDataSource.checkHealth();
+        assertThat(database(true)).isEqualTo("TESTDB");
+    }
+
+    @Test
+    @DisplayName("가입 직후 같은 이메일 확인은 아직 복제되지 않았어도 주 DB 에서 읽어 중복으로 답한다")
+    void readYourWritesAfterRegister() {
+        userService.register(User.of("sticky@tikkit.com", "password1234", "이재훈", "01012345678"));
+
+        // 복제본만 보면 아직 없다
+        assertThat(readOnly(() -> userRepository.existsByEmail("sticky@tikkit.com"))).isFalse();
+        assertThat(userService.isEmailDuplicated("sticky@tikkit.com")).isTrue();
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    private <T> T readOnly(Supplier<T> read) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> read.get());
+    }
+}
@@ -0,0 +1,168 @@
+package com.tikkit.api.global.idempotency;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "tikkit.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+    private static final String BODY = """
+            {"email":"retry@tikkit.com","password":"password1234","name":"재시도","phone":"01012345678"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PreSerializedResponses preSerializedResponses;
+
+    @MockitoBean
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        when(userService.register(any(User.class))).thenAnswer(invocation -> {
+            Thread.sleep(100);   // 해싱 시간 흉내: 동시 재시도가 실행 중에 도착하도록
+            User user = invocation.getArgument(0);
+            return User.of(user.getEmail(), "encoded", user.getName(), user.getPhone());
+        });
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 서비스를 다시 실행하지 않고 처음 응답 바이트를 그대로 돌려준다")
+    void replaysResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        byte[] first = mockMvc.perform(register(key, BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        mockMvc.perform(register(key, BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().bytes(first));
+
+        verify(userService, times(1)).register(any(User.class));
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행되고 모두 같은 응답을 받는다")
+    void collapsesConcurrentDuplicates() throws Exception {
+        String key = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MvcResult>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Callable<MvcResult> call = () -> mockMvc.perform(register(key, BODY)).andReturn();
+                results.add(executor.submit(call));
+            }
+            byte[] expected = null;
+            for (Future<MvcResult> result : results) {
+                byte[] body = result.get().getResponse().getContentAsByteArray();
+                assertThat(result.get().getResponse().getStatus()).isEqualTo(200);
+                if (expected == null) {
+                    expected = body;
+                }
+                assertThat(body).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userService, times(1)).register(any(User.class));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 본문을 보내면 422 로 거부한다")
+    void rejectsDifferentBody() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(register(key, BODY)).andExpect(status().isOk());
+
+        mockMvc.perform(register(key, BODY.replace("retry@", "other@")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.IDEMPOTENCY_KEY_REUSED)));
+    }
+
+    @Test
+    @DisplayName("익명 요청은 클라이언트 IP 별로 키 범위가 나뉘어, 다른 IP 의 같은 키는 재생하지 않고 따로 실행한다")
+    void scopesAnonymousKeysByClientAddress() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(register(key, BODY).with(remoteAddr("10.0.0.1"))).andExpect(status().isOk());
+
+        mockMvc.perform(register(key, BODY).with(remoteAddr("10.0.0.2")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        mockMvc.perform(register(key, BODY).with(remoteAddr("10.0.0.1")))
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        verify(userService, times(2)).register(any(User.class));
+    }
+
+    @Test
+    @DisplayName("키가 너무 길면 400, 키가 없으면 멱등 처리 없이 실행한다")
+    void keyValidation() throws Exception {
+        mockMvc.perform(register("k".repeat(256), BODY))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.IDEMPOTENCY_KEY_INVALID)));
+
+        mockMvc.perform(post("/api/users/register").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/users/register").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        verify(userService, times(2)).register(any(User.class));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private static MockHttpServletRequestBuilder register(String key, String body) {
+        return post("/api/users/register")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+}
@@ -0,0 +1,133 @@
+package com.tikkit.api.global.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("IdempotencyStore 테스트")
+class IdempotencyStoreTest {
+
+    private final long[] now = {0L};
+
+    @Test
+    @DisplayName("먼저 선점한 요청만 owner 이고, 뒤따른 요청은 owner 의 응답을 받는다")
+    void collapsesOntoOwner() {
+        IdempotencyStore store = store(100);
+        IdempotencyStore.Slot owner = store.acquire("k");
+        IdempotencyStore.Slot follower = store.acquire("k");
+
+        assertThat(owner.isOwner()).isTrue();
+        assertThat(follower.isOwner()).isFalse();
+        assertThat(follower.response()).isNotDone();
+
+        IdempotentResponse response = response();
+        store.complete(owner, response);
+        assertThat(follower.response()).isCompletedWithValue(response);
+    }
+
+    @Test
+    @DisplayName("저장하지 않고 끝낸 키는 다음 요청이 다시 실행한다")
+    void abandonReleasesKey() {
+        IdempotencyStore store = store(100);
+        IdempotencyStore.Slot owner = store.acquire("k");
+        IdempotencyStore.Slot follower = store.acquire("k");
+
+        store.abandon(owner);
+
+        assertThat(follower.response()).isCompletedWithValue(null);
+        assertThat(store.acquire("k").isOwner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 키는 새로 실행된다")
+    void expires() {
+        IdempotencyStore store = store(100);
+        store.complete(store.acquire("k"), response());
+
+        now[0] += Duration.ofHours(1).toMillis() - 1;
+        assertThat(store.acquire("k").isOwner()).isFalse();
+        now[0] += 1;
+        assertThat(store.acquire("k").isOwner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래된 완료 키부터 지우고, 실행 중인 키는 지우지 않는다")
+    void boundedByMaxEntries() {
+        IdempotencyStore store = store(3);
+        IdempotencyStore.Slot inFlight = store.acquire("in-flight");
+        for (String key : List.of("a", "b", "c", "d")) {
+            store.complete(store.acquire(key), response());
+        }
+        // 맨 앞이 실행 중이라 그 뒤는 아직 못 지운다
+        assertThat(store.size()).isEqualTo(5);
+
+        store.complete(inFlight, response());
+        store.complete(store.acquire("e"), response());
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.acquire("e").isOwner()).isFalse();
+        assertThat(store.acquire("a").isOwner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답 본문 합계가 상한을 넘으면 키 수 상한 안이어도 가장 오래된 완료 키부터 지운다")
+    void boundedByMemorySize() {
+        IdempotencyStore store = new IdempotencyStore(properties(100, DataSize.ofBytes(250), false), null, () -> now[0]);
+        for (String key : List.of("a", "b", "c")) {
+            store.complete(store.acquire(key), new IdempotentResponse("hash", 200, "application/json", new byte[100]));
+        }
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.memoryBytes()).isEqualTo(200);
+        assertThat(store.acquire("c").isOwner()).isFalse();
+        assertThat(store.acquire("a").isOwner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 계층이 켜져 있으면 완료된 응답을 저장하고, 메모리에 없는 키는 DB 에서 찾아 재생한다")
+    void persistentTier() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        IdempotencyStore store = new IdempotencyStore(properties(100, true), repository, () -> now[0]);
+        IdempotentResponse response = response();
+        store.complete(store.acquire("k"), response);
+        verify(repository).save(any(IdempotencyRecord.class));
+
+        // 재기동 후: 메모리는 비어 있고 DB 에만 남아 있다
+        IdempotencyStore restarted = new IdempotencyStore(properties(100, true), repository, () -> now[0]);
+        when(repository.findByIdAndExpiresAtAfter(eq("k"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new IdempotencyRecord("k", response, LocalDateTime.now().plusHours(1))));
+
+        IdempotencyStore.Slot slot = restarted.acquire("k");
+        assertThat(slot.isOwner()).isFalse();
+        assertThat(slot.response().join().requestHash()).isEqualTo("hash");
+    }
+
+    private IdempotencyStore store(int maxEntries) {
+        return new IdempotencyStore(properties(maxEntries, false), null, () -> now[0]);
+    }
+
+    private static IdempotencyProperties properties(int maxEntries, boolean persistent) {
+        return properties(maxEntries, DataSize.ofMegabytes(1), persistent);
+    }
+
+    private static IdempotencyProperties properties(int maxEntries, DataSize maxMemorySize, boolean persistent) {
+        return new IdempotencyProperties(true, List.of("/api/users/register"), Duration.ofHours(1), maxEntries, maxMemorySize,
+                255, 1024, Duration.ofSeconds(1), persistent, Duration.ofMinutes(10));
+    }
+
+    private static IdempotentResponse response() {
+        return new IdempotentResponse("hash", 200, "application/json", new byte[]{'{', '}'});
+    }
+}
@@ -0,0 +1,165 @@
+package com.tikkit.api.global.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.outbox.UserRegisteredEvent;
+import com.tikkit.api.user.repository.UserRepository;
+import com.tikkit.api.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "tikkit.security.password.bcrypt-strength=4",
+        "tikkit.outbox.relay-enabled=true",
+        "tikkit.outbox.poll-interval=1h",    // 테스트에서 직접 drain
+        "tikkit.outbox.batch-size=2"
+})
+@ActiveProfiles("test")
+@DisplayName("아웃박스 릴레이 테스트")
+class OutboxRelayTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private OutboxSink outboxSink;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("가입과 같은 트랜잭션에 이벤트가 쌓이고, 릴레이가 배치로 내보낸 뒤 지운다")
+    void relaysRegistrationEvents() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            register("outbox" + i + "@tikkit.com");
+        }
+        assertThat(outboxEventRepository.count()).isEqualTo(5);
+
+        assertThat(outboxRelay.drain()).isEqualTo(5);
+
+        List<OutboxMessage> published = captured(3);   // batch-size=2 → 2 + 2 + 1
+        assertThat(published).extracting(OutboxMessage::eventType).containsOnly(UserRegisteredEvent.EVENT_TYPE);
+        assertThat(published).extracting(OutboxMessage::id).isSorted();
+        JsonNode payload = objectMapper.readTree(published.get(0).payload());
+        assertThat(payload.path("email").asText()).isEqualTo("outbox0@tikkit.com");
+        assertThat(payload.has("password")).isFalse();
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("가입이 롤백되면 이벤트도 남지 않는다")
+    void rolledBackRegistrationLeavesNoEvent() {
+        register("dup@tikkit.com");
+        assertThatThrownBy(() -> register("dup@tikkit.com")).isInstanceOf(ValidationException.class);
+
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("싱크가 실패하면 행이 남고 다음 drain 에서 다시 내보낸다")
+    void retriesAfterSinkFailure() throws Exception {
+        register("retry@tikkit.com");
+        doThrow(new IllegalStateException("broker down")).when(outboxSink).publish(anyList());
+
+        assertThat(outboxRelay.drain()).isZero();
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+
+        doNothing().when(outboxSink).publish(anyList());
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 릴레이가 잠근 행은 기다리지 않고 건너뛴다")
+    void skipsLockedRows() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            register("locked" + i + "@tikkit.com");
+        }
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 다른 인스턴스의 릴레이가 앞의 2건을 잠그고 내보내는 중인 상황
+        CompletableFuture<Void> otherRelay = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("select id from outbox_events order by id limit 2 for update skip locked");
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThat(outboxRelay.drain()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            otherRelay.join();
+        }
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+    }
+
+    private void register(String email) {
+        userService.register(User.of(email, "password1234", "아웃박스", "01012345678"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxMessage> captured(int batches) throws Exception {
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxSink, times(batches)).publish(captor.capture());
+        List<OutboxMessage> all = new ArrayList<>();
+        captor.getAllValues().forEach(all::addAll);
+        clearInvocations(outboxSink);
+        return all;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
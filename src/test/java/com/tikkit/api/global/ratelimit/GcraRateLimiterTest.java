@@ -0,0 +1,111 @@
+package com.tikkit.api.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GcraRateLimiter 테스트")
+class GcraRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    // 초당 10회(100ms 간격), 연속 5회까지
+    private GcraRateLimiter limiter(int maxKeys) {
+        return new GcraRateLimiter(10, Duration.ofSeconds(1), 5, maxKeys, now::get);
+    }
+
+    @Test
+    @DisplayName("burst 만큼 연속으로 허용하고 그다음은 남은 대기 시간과 함께 거부한다")
+    void allowsBurstThenRejects() {
+        GcraRateLimiter limiter = limiter(100);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("1.1.1.1")).isZero();
+        }
+        assertThat(limiter.tryAcquire("1.1.1.1")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("2.2.2.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 간격만큼 다시 허용된다")
+    void refillsOverTime() {
+        GcraRateLimiter limiter = limiter(100);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("1.1.1.1");
+        }
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(limiter.tryAcquire("1.1.1.1")).isZero();
+        assertThat(limiter.tryAcquire("1.1.1.1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("한도가 모두 회복된 키만 정리된다")
+    void evictsIdleKeys() {
+        GcraRateLimiter limiter = limiter(100);
+        limiter.tryAcquire("idle");
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy");
+        }
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+    }
+
+    @Test
+    @DisplayName("키 수가 상한을 넘으면 더 이상 늘지 않고 공용 슬롯으로 제한한다")
+    void boundsMemory() {
+        GcraRateLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("domain" + i + ".com");
+        }
+
+        assertThat(limiter.size()).isEqualTo(10);
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("overflow.com")).isZero();
+        }
+        assertThat(limiter.tryAcquire("overflow.com")).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키로 동시에 요청해도 burst 를 넘겨 허용하지 않는다")
+    void concurrentAcquireNeverExceedsBurst() throws InterruptedException {
+        GcraRateLimiter limiter = limiter(100);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (limiter.tryAcquire("1.1.1.1") == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(5);
+    }
+}
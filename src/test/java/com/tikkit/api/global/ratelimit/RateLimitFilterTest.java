@@ -0,0 +1,93 @@
+package com.tikkit.api.global.ratelimit;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "tikkit.rate-limit.check-email-per-ip=1",
+        "tikkit.rate-limit.check-email-per-ip-burst=3",
+        "tikkit.rate-limit.check-email-per-domain-enabled=true",
+        "tikkit.rate-limit.check-email-per-domain=1",
+        "tikkit.rate-limit.check-email-per-domain-burst=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PreSerializedResponses preSerializedResponses;
+
+    @MockitoBean
+    private UserService userService;
+
+    @Test
+    @DisplayName("IP 한도를 넘은 요청은 서비스에 닿기 전에 429 로 거부된다")
+    void rejectsPerIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/users/check-email").param("email", "user" + i + "@ip" + i + ".com")
+                            .with(remoteAddr("10.0.0.1")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/users/check-email").param("email", "user@other.com")
+                        .with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.TOO_MANY_REQUESTS)));
+
+        verify(userService, times(3)).isEmailDuplicated(anyString());
+    }
+
+    @Test
+    @DisplayName("IP 가 달라도 같은 이메일 도메인을 훑는 요청은 제한된다")
+    void rejectsPerEmailDomain() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/users/check-email").param("email", "user" + i + "@Target.com")
+                            .with(remoteAddr("10.0.1." + i)))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/users/check-email").param("email", "user9@target.com")
+                        .with(remoteAddr("10.0.1.9")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("이메일 도메인 추출")
+    void emailDomain() {
+        assertThat(RateLimitFilter.emailDomain("a@Tikkit.COM")).isEqualTo("tikkit.com");
+        assertThat(RateLimitFilter.emailDomain("a@")).isNull();
+        assertThat(RateLimitFilter.emailDomain("no-at")).isNull();
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.tikkit.api.global.startup;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tikkit.startup.warmup.connections=3",
+        "tikkit.startup.warmup.requests=20",
+        "tikkit.startup.warmup.concurrency=2"
+})
+@ActiveProfiles("test")
+@DisplayName("기동 예열")
+class StartupWarmupTest {
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("커넥션을 미리 열고, 엔티티마다 쿼리를 한 번 돌리고, 자기 포트로 요청을 보낸다")
+    void warmsPoolEntitiesAndRequestPath() {
+        StartupWarmup.Result result = startupWarmup.warmUp();
+
+        assertThat(result.connections()).isEqualTo(3);
+        assertThat(result.entities()).isEqualTo(entityManagerFactory.getMetamodel().getEntities().size());
+        assertThat(result.requests()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,203 @@
+package com.tikkit.api.purchase.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.entity.SeatStatus;
+import com.tikkit.api.event.service.SeatService;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.purchase.entity.Order;
+import com.tikkit.api.purchase.entity.PurchaseDeadLetter;
+import com.tikkit.api.purchase.journal.PurchaseJournal;
+import com.tikkit.api.purchase.journal.PurchaseProjector;
+import com.tikkit.api.purchase.repository.PurchaseDeadLetterRepository;
+import com.tikkit.api.purchase.repository.OrderRepository;
+import com.tikkit.api.purchase.repository.ReservationRepository;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "tikkit.security.password.bcrypt-strength=4",
+        "spring.jpa.show-sql=false",
+        "tikkit.purchase.journal.project-interval=1h"    // 테스트에서 직접 project
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("좌석 구매 테스트")
+class PurchaseControllerTest {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private PurchaseProjector purchaseProjector;
+
+    @Autowired
+    private PurchaseJournal purchaseJournal;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PurchaseDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        user = userRepository.save(new User("buyer@tikkit.com", passwordEncoder.encode(PASSWORD), "이재훈", "01012345678",
+                Role.USER, Status.ACTIVE, now, now, null));
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", "buyer@tikkit.com", "password", PASSWORD))))
+                .andReturn().getResponse().getContentAsString();
+        accessToken = objectMapper.readTree(body).path("data").path("accessToken").asText();
+    }
+
+    @AfterEach
+    void tearDown() {
+        purchaseProjector.project();
+        jdbcTemplate.update("delete from purchase_dead_letters");
+        jdbcTemplate.update("delete from reservations");
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from seats");
+        jdbcTemplate.update("delete from events");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("선점한 좌석을 구매하면 저널에 확정되고, 반영 후 주문/예약 행이 생기고 좌석은 SOLD 가 된다")
+    void purchaseHeldSeats() throws Exception {
+        Event event = seatService.createEvent("구매 공연", 10);
+        seatService.hold(event.getId(), 3, user.getId());
+        seatService.hold(event.getId(), 4, user.getId());
+
+        JsonNode data = objectMapper.readTree(purchase(event.getId(), List.of(4, 3))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.seatNos[0]").value(3))
+                .andReturn().getResponse().getContentAsString()).path("data");
+        long orderId = data.path("orderId").asLong();
+
+        assertThat(purchaseProjector.project()).isEqualTo(1);
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        assertThat(order.getUserId()).isEqualTo(user.getId());
+        assertThat(order.getSeatCount()).isEqualTo(2);
+        assertThat(reservationRepository.findByOrderIdOrderBySeatNo(orderId)).extracting("seatNo").containsExactly(3, 4);
+        assertThat(jdbcTemplate.queryForList("select status from seats where event_id = ? and seat_no in (3, 4)",
+                String.class, event.getId())).containsOnly(SeatStatus.SOLD.name());
+        // 판매된 좌석은 빈 좌석으로 돌아오지 않는다
+        assertThat(seatService.getSeatMap(event.getId()).availableCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("선점하지 않은 좌석이 하나라도 있으면 아무것도 확정하지 않는다")
+    void rejectsUnheldSeat() throws Exception {
+        Event event = seatService.createEvent("구매 공연", 10);
+        seatService.hold(event.getId(), 1, user.getId());
+
+        purchase(event.getId(), List.of(1, 2))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(ErrorCode.SEAT_NOT_HELD.getCode()));
+
+        // 1번 좌석은 여전히 선점 상태라 다시 구매할 수 있고, 같은 좌석은 두 번 팔리지 않는다
+        purchase(event.getId(), List.of(1)).andExpect(status().isOk());
+        purchase(event.getId(), List.of(1)).andExpect(status().isConflict());
+        purchaseProjector.project();
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 DB 에 잡은 좌석은 구매가 실패하고 저널에 남지 않는다")
+    void rejectsSeatClaimedByOtherNode() throws Exception {
+        Event event = seatService.createEvent("구매 공연", 10);
+        seatService.hold(event.getId(), 7, user.getId());
+        // 다른 노드의 선점이 이 노드의 flush 보다 먼저 기록된 경우
+        jdbcTemplate.update("update seats set status = ?, held_by = ?, held_at = ?, version = version + 1 where event_id = ? and seat_no = ?",
+                SeatStatus.HELD.name(), user.getId() + 1, LocalDateTime.now(), event.getId(), 7);
+
+        purchase(event.getId(), List.of(7))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(ErrorCode.SEAT_NOT_HELD.getCode()));
+
+        assertThat(purchaseProjector.project()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select held_by from seats where event_id = ? and seat_no = ?",
+                Long.class, event.getId(), 7)).isEqualTo(user.getId() + 1);
+    }
+
+    @Test
+    @DisplayName("테이블에 반영할 수 없는 기록은 dead letter 로 옮기고 뒤의 기록은 계속 반영한다")
+    void deadLettersRejectedEntry() throws Exception {
+        Event event = seatService.createEvent("구매 공연", 10);
+        // 다른 경로로 이미 팔린 좌석(예약 행이 있다)을 저널이 다시 판 경우
+        jdbcTemplate.update("insert into reservations (event_id, seat_no, order_id, user_id, created_at) values (?, ?, ?, ?, ?)",
+                event.getId(), 5, -1L, user.getId(), LocalDateTime.now());
+        long rejected = purchaseJournal.append(user.getId(), event.getId(), System.currentTimeMillis(), new int[]{5}).join();
+        seatService.hold(event.getId(), 6, user.getId());
+        long orderId = objectMapper.readTree(purchase(event.getId(), List.of(6))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).path("data").path("orderId").asLong();
+
+        assertThat(purchaseProjector.project()).isEqualTo(2);
+        PurchaseDeadLetter deadLetter = deadLetterRepository.findById(purchaseJournal.orderId(rejected)).orElseThrow();
+        assertThat(deadLetter.getSeatNos()).isEqualTo("5");
+        assertThat(deadLetter.getUserId()).isEqualTo(user.getId());
+        assertThat(orderRepository.existsById(purchaseJournal.orderId(rejected))).isFalse();
+        assertThat(orderRepository.existsById(orderId)).isTrue();
+        // 같은 기록을 다시 시도하지 않는다
+        assertThat(purchaseProjector.project()).isZero();
+    }
+
+    private ResultActions purchase(long eventId, List<Integer> seatNos) throws Exception {
+        return mockMvc.perform(post("/api/events/" + eventId + "/purchases")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("seatNos", seatNos))));
+    }
+}
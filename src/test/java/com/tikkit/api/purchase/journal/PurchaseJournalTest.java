@@ -0,0 +1,148 @@
+package com.tikkit.api.purchase.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PurchaseJournal 테스트")
+class PurchaseJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PurchaseJournal journal;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("창 안에 들어온 기록은 fsync 한 번으로 함께 확정되고 순번은 들어온 순서대로다")
+    void groupCommit() throws Exception {
+        journal = open(DataSize.ofMegabytes(1), Duration.ofMillis(200));
+
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(journal.append(i, 1L, 1_000L, new int[]{i}));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).join()).isEqualTo(i + 1L);
+        }
+        assertThat(meterRegistry.counter("tikkit.purchase.journal.fsyncs").count()).isEqualTo(1);
+        assertThat(journal.committedSequence()).isEqualTo(20);
+        List<PurchaseEntry> entries = journal.reader(0).next(100);
+        assertThat(entries).hasSize(20);
+        assertThat(entries.get(7).userId()).isEqualTo(7L);
+        assertThat(entries.get(7).seatNos()).containsExactly(7);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 파일로 넘어가고, 반영을 마친 세그먼트는 지운다")
+    void rollsAndDeletesSegments() throws Exception {
+        journal = open(DataSize.ofBytes(200), Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            journal.append(1L, 1L, 1_000L, new int[]{i, i + 100}).join();
+        }
+        assertThat(segmentFiles()).hasSizeGreaterThan(3);
+
+        PurchaseJournal.Reader reader = journal.reader(3);
+        assertThat(reader.next(100)).extracting(PurchaseEntry::sequence).containsExactly(4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+        journal.deleteAppliedSegments(10);
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(journal.append(1L, 1L, 1_000L, new int[]{0}).join()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("재기동하면 CRC 가 맞는 데까지 복구하고 찢어진 꼬리는 버린 뒤 그 자리부터 이어 쓴다")
+    void recoversAndDiscardsTornTail() throws Exception {
+        journal = open(DataSize.ofKilobytes(4), Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            journal.append(1L, 1L, 1_000L, new int[]{i}).join();
+        }
+        journal.close();
+
+        // 세 번째 기록의 본문 한 바이트를 망가뜨린다(쓰다 만 기록)
+        Path segment = segmentFiles().get(0);
+        int recordBytes = JournalSegment.recordBytes(1);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0x7f}), recordBytes * 2L + JournalSegment.HEADER_BYTES);
+        }
+
+        journal = open(DataSize.ofKilobytes(4), Duration.ZERO);
+        assertThat(journal.committedSequence()).isEqualTo(2);
+        assertThat(journal.append(2L, 1L, 1_000L, new int[]{9}).join()).isEqualTo(3L);
+        journal.close();
+
+        journal = open(DataSize.ofKilobytes(4), Duration.ZERO);
+        List<PurchaseEntry> entries = journal.reader(0).next(100);
+        assertThat(entries).extracting(PurchaseEntry::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(entries.get(2).userId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("저널 디렉터리가 비어 있으면 DB 에 반영된 순번 다음부터 이어 쓴다(주문 id 가 겹치지 않는다)")
+    void continuesAfterAppliedSequenceWhenEmpty() throws Exception {
+        journal = open(DataSize.ofKilobytes(4), Duration.ZERO, 41);
+
+        assertThat(journal.committedSequence()).isEqualTo(41);
+        assertThat(journal.append(1L, 1L, 1_000L, new int[]{1}).join()).isEqualTo(42L);
+        assertThat(journal.reader(41).next(100)).extracting(PurchaseEntry::sequence).containsExactly(42L);
+    }
+
+    @Test
+    @DisplayName("저널이 DB 에 반영된 순번보다 뒤처져 있으면 기동하지 않는다")
+    void refusesJournalBehindAppliedSequence() throws Exception {
+        journal = open(DataSize.ofKilobytes(4), Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            journal.append(1L, 1L, 1_000L, new int[]{i}).join();
+        }
+        journal.close();
+        journal = null;
+
+        assertThatThrownBy(() -> open(DataSize.ofKilobytes(4), Duration.ZERO, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("node-id");
+        // 잠금을 풀고 실패했으므로 올바른 순번으로는 다시 열 수 있다
+        journal = open(DataSize.ofKilobytes(4), Duration.ZERO, 3);
+        assertThat(journal.committedSequence()).isEqualTo(3);
+    }
+
+    private PurchaseJournal open(DataSize segmentSize, Duration commitWindow) throws IOException {
+        return open(segmentSize, commitWindow, 0);
+    }
+
+    private PurchaseJournal open(DataSize segmentSize, Duration commitWindow, long appliedSequence) throws IOException {
+        return new PurchaseJournal(new PurchaseJournalProperties(directory.toString(), 0, segmentSize, commitWindow,
+                100, 1000, true, Duration.ofMillis(200), 500), meterRegistry, appliedSequence);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegment).sorted().toList();
+        }
+    }
+}
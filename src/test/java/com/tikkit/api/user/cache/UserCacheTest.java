@@ -0,0 +1,107 @@
+package com.tikkit.api.user.cache;
+
+import com.tikkit.api.global.datasource.PrimaryStickiness;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserCache 테스트")
+class UserCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrimaryStickiness primaryStickiness = new PrimaryStickiness(Duration.ZERO);
+    private final UserCache userCache =
+            new UserCache(userRepository, new UserCacheProperties(true, 100, Duration.ofMinutes(10)), primaryStickiness);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 회원을 다시 읽으면 DB 를 거치지 않는다")
+    void readThrough() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "a@tikkit.com", "이름")));
+
+        assertThat(userCache.findById(1L)).map(CachedUser::name).contains("이름");
+        assertThat(userCache.findById(1L)).map(CachedUser::name).contains("이름");
+
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 id 캐시와 같은 회원 정보를 공유한다")
+    void emailSharesEntry() {
+        when(userRepository.findIdByEmail("a@tikkit.com")).thenReturn(Optional.of(1L));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "a@tikkit.com", "이름")));
+
+        assertThat(userCache.findByEmail("a@tikkit.com")).map(CachedUser::id).contains(1L);
+        assertThat(userCache.findByEmail("a@tikkit.com")).isPresent();
+        assertThat(userCache.findById(1L)).isPresent();
+
+        verify(userRepository, times(1)).findIdByEmail("a@tikkit.com");
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("없는 회원은 캐시하지 않는다")
+    void absentIsNotCached() {
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user(1L, "a@tikkit.com", "이름")));
+
+        assertThat(userCache.findById(1L)).isEmpty();
+        assertThat(userCache.findById(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 바뀐 회원은 커밋된 뒤에 무효화된다")
+    void invalidatesAfterCommit() {
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(user(1L, "a@tikkit.com", "이전")))
+                .thenReturn(Optional.of(user(1L, "a@tikkit.com", "이후")));
+        userCache.findById(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        userCache.invalidateAfterCommit(1L, "a@tikkit.com");
+        assertThat(userCache.findById(1L)).map(CachedUser::name).contains("이전");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(userCache.findById(1L)).map(CachedUser::name).contains("이후");
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 매번 DB 에서 읽는다")
+    void disabled() {
+        UserCache disabled =
+                new UserCache(userRepository, new UserCacheProperties(false, 100, Duration.ofMinutes(10)), primaryStickiness);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "a@tikkit.com", "이름")));
+
+        disabled.findById(1L);
+        disabled.findById(1L);
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    private static User user(long id, String email, String name) {
+        User user = User.of(email, "encoded", name, "01012345678");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
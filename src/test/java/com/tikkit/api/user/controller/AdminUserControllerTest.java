@@ -0,0 +1,182 @@
+package com.tikkit.api.user.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.auth.token.TokenProvider;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("관리자 회원 목록/내보내기 테스트")
+class AdminUserControllerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    // 다른 테스트가 남긴 회원과 섞이지 않도록 이 테스트가 넣은 구간만 본다
+    private static final String SEEDED_UNTIL = BASE.plusDays(1).toString();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private PreSerializedResponses preSerializedResponses;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // 같은 가입 시각이 여럿 있어도 id 로 순서가 정해지는지 보기 위해 두 명씩 같은 시각
+            LocalDateTime createdAt = BASE.plusMinutes(i / 2);
+            Status status = i % 5 == 0 ? Status.INACTIVE : Status.ACTIVE;
+            users.add(new User("admin-list" + i + "@tikkit.com", "encoded", i == 3 ? "=cmd,\"x\"" : "회원" + i,
+                    "01012345678", Role.USER, status, createdAt, createdAt, null));
+        }
+        userRepository.saveAll(users);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 모든 회원이 최신 가입 순으로 한 번씩 나온다")
+    void keysetPagination() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        List<LocalDateTime> createdAts = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/admin/users").param("size", "10").param("createdTo", SEEDED_UNTIL).header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode data = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).path("data");
+            data.path("users").forEach(user -> {
+                ids.add(user.path("id").asLong());
+                createdAts.add(LocalDateTime.parse(user.path("createdAt").asText()));
+            });
+            cursor = data.path("nextCursor").isNull() ? null : data.path("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+        assertThat(createdAts).isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    @DisplayName("상태와 가입 시각으로 거른다")
+    void filters() throws Exception {
+        mockMvc.perform(get("/api/admin/users")
+                        .param("status", "INACTIVE")
+                        .param("createdFrom", BASE.plusMinutes(1).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("admin-list0@"))))
+                .andExpect(content().string(containsString("admin-list5@")));
+    }
+
+    @Test
+    @DisplayName("CSV 로 내보내면 헤더 + 회원 수만큼 줄이 나오고, 수식으로 해석될 값은 무력화된다")
+    void exportCsv() throws Exception {
+        String csv = mockMvc.perform(get("/api/admin/users/export").param("format", "csv").param("createdTo", SEEDED_UNTIL)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = csv.split("\n");
+        assertThat(lines).hasSize(26);
+        assertThat(lines[0]).isEqualTo("id,email,name,role,status,created_at,updated_at");
+        assertThat(csv).contains(",\"'=cmd,\"\"x\"\"\",").doesNotContain("encoded");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 회원 하나씩 가입 순으로 나온다")
+    void exportNdjson() throws Exception {
+        String ndjson = mockMvc.perform(get("/api/admin/users/export").param("format", "ndjson").param("status", "ACTIVE")
+                        .param("createdTo", SEEDED_UNTIL)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(20);
+        assertThat(objectMapper.readTree(lines[0]).path("email").asText()).isEqualTo("admin-list1@tikkit.com");
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 403, 잘못된 커서/형식은 400")
+    void rejects() throws Exception {
+        mockMvc.perform(get("/api/admin/users").header(HttpHeaders.AUTHORIZATION, bearer(Role.USER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/users").param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.INVALID_CURSOR)));
+        mockMvc.perform(get("/api/admin/users/export").param("format", "xlsx")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.INVALID_EXPORT_FORMAT)));
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 캐시를 거치고, 회원이 지워지면 커밋 뒤 캐시에서도 사라진다")
+    void lookupInvalidatedOnDelete() throws Exception {
+        mockMvc.perform(get("/api/admin/users/lookup").param("email", "admin-list7@tikkit.com")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"name\":\"회원7\"")));
+
+        userRepository.delete(userRepository.findByEmail("admin-list7@tikkit.com").orElseThrow());
+
+        mockMvc.perform(get("/api/admin/users/lookup").param("email", "admin-list7@tikkit.com")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN)))
+                .andExpect(status().isNotFound())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    private String bearer(Role role) {
+        return "Bearer " + tokenProvider.issueAccessToken(1L, role);
+    }
+}
@@ -0,0 +1,80 @@
+package com.tikkit.api.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.global.response.ApiResponse;
+import com.tikkit.api.user.dto.UserEmailCheckResponse;
+import com.tikkit.api.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("UserController 응답 형식 테스트")
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private UserService userService;
+
+    @Test
+    @DisplayName("사용 가능한 이메일 응답은 Jackson 직렬화 결과와 바이트 단위로 같다")
+    void availableEmailIsByteIdentical() throws Exception {
+        when(userService.isEmailDuplicated("new@email.com")).thenReturn(false);
+
+        mockMvc.perform(get("/api/users/check-email").param("email", "new@email.com"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(objectMapper.writeValueAsBytes(
+                        ApiResponse.success(new UserEmailCheckResponse(true)))));
+    }
+
+    @Test
+    @DisplayName("중복 이메일 응답은 Jackson 직렬화 결과와 바이트 단위로 같다")
+    void duplicateEmailIsByteIdentical() throws Exception {
+        when(userService.isEmailDuplicated("existing@email.com")).thenReturn(true);
+
+        mockMvc.perform(get("/api/users/check-email").param("email", "existing@email.com"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(objectMapper.writeValueAsBytes(
+                        ApiResponse.fail(ErrorCode.DUPLICATE_EMAIL.getCode(), ErrorCode.DUPLICATE_EMAIL.getMessage()))));
+    }
+
+    @Test
+    @DisplayName("ErrorCode 실패 응답은 Jackson 직렬화 결과와 바이트 단위로 같다")
+    void errorCodeFailureIsByteIdentical() throws Exception {
+        when(userService.register(any())).thenThrow(
+                new ValidationException(ErrorCode.DUPLICATE_EMAIL, ErrorCode.DUPLICATE_EMAIL.getMessage()));
+
+        mockMvc.perform(post("/api/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"existing@email.com","password":"password1234","name":"이재훈","phone":"01077779999"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(objectMapper.writeValueAsBytes(
+                        ApiResponse.fail(ErrorCode.DUPLICATE_EMAIL.getCode(), ErrorCode.DUPLICATE_EMAIL.getMessage()))));
+    }
+}
@@ -0,0 +1,70 @@
+package com.tikkit.api.user.index;
+
+import com.tikkit.api.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "tikkit.user.email-index.refresh-interval=1h",    // 테스트에서 직접 refresh
+        "tikkit.user.email-index.rebuild-interval=1h"
+})
+@ActiveProfiles("test")
+@DisplayName("이메일 존재 인덱스 테스트")
+class EmailExistenceIndexTest {
+
+    private static final String INSERT_SQL = "insert into users "
+            + "(id, email, password, name, phone, role, status, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private EmailExistenceIndex index;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("더 큰 id 가 먼저 보여도 늦게 커밋된 작은 id 를 놓치지 않는다")
+    void indexesIdsCommittedOutOfOrder() {
+        insert(9_000_100L, "later-id@tikkit.com", LocalDateTime.now());
+        index.refresh();
+        // 다른 노드가 미리 받아 둔 작은 id 로 뒤늦게 커밋
+        insert(9_000_050L, "earlier-id@tikkit.com", LocalDateTime.now());
+        index.refresh();
+
+        assertThat(index.isDefinitelyAbsent("later-id@tikkit.com")).isFalse();
+        assertThat(index.isDefinitelyAbsent("earlier-id@tikkit.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("overlap 보다 이전 created_at 으로 들어온 행은 재구성에서 채운다")
+    void rebuildPicksUpBackdatedRows() {
+        index.refresh();
+        insert(9_000_200L, "backdated@tikkit.com", LocalDateTime.of(2000, 1, 1, 0, 0));
+        index.refresh();
+        assertThat(index.isDefinitelyAbsent("backdated@tikkit.com")).isTrue();
+
+        index.rebuildAll();
+        assertThat(index.isDefinitelyAbsent("backdated@tikkit.com")).isFalse();
+    }
+
+    private void insert(long id, String email, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_SQL, id, email, "password", "name", "010-0000-0000", "USER", "ACTIVE", createdAt, createdAt);
+    }
+}
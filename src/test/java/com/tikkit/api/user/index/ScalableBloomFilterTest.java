@@ -0,0 +1,46 @@
+package com.tikkit.api.user.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScalableBloomFilter 테스트")
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 존재한다고 판단한다")
+    void neverReturnsFalseNegative() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        IntStream.range(0, 20_000).forEach(i -> filter.put("user" + i + "@tikkit.com"));
+
+        assertThat(IntStream.range(0, 20_000))
+                .allMatch(i -> filter.mightContain("user" + i + "@tikkit.com"));
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘기면 단계를 늘리고 오탐률을 목표 근처로 유지한다")
+    void growsStagesAndKeepsFalsePositiveRate() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        IntStream.range(0, 20_000).forEach(i -> filter.put("user" + i + "@tikkit.com"));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i + "@tikkit.com"))
+                .count();
+
+        assertThat(filter.stageCount()).isGreaterThan(1);
+        assertThat(filter.approximateElementCount()).isBetween(19_000L, 20_000L);
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("같은 값을 여러 번 추가해도 한 번만 센다")
+    void putIsIdempotent() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+        IntStream.range(0, 10).forEach(i -> filter.put("same@tikkit.com"));
+
+        assertThat(filter.approximateElementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.tikkit.api.user.lifecycle;
+
+import com.tikkit.api.user.cache.UserCache;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.user.entity.Status;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@DisplayName("회원 상태 전환 작업 테스트")
+class UserLifecycleJobsTest {
+
+    // 다른 테스트의 회원(지금 또는 2025년 가입)은 대상이 되지 않도록 훨씬 이전 시각으로 심고 그 기준으로 돌린다
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime CUTOFF = LONG_AGO.plusYears(1);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private UserCache userCache;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        jdbcTemplate.update("delete from user_lifecycle_checkpoints");
+    }
+
+    @Test
+    @DisplayName("오래 로그인하지 않은 ACTIVE 회원만 DORMANT 가 되고, 오래된 탈퇴 회원만 지워진다")
+    void deactivatesAndPurges() {
+        User dormant = save("dormant@tikkit.com", Status.ACTIVE, LONG_AGO, LONG_AGO.plusDays(1));
+        User neverLoggedIn = save("never@tikkit.com", Status.ACTIVE, LONG_AGO, null);
+        User recentLogin = save("recent@tikkit.com", Status.ACTIVE, LONG_AGO, CUTOFF.plusDays(1));
+        User oldDeleted = save("old-deleted@tikkit.com", Status.DELETED, LONG_AGO, null);
+        User recentDeleted = save("recent-deleted@tikkit.com", Status.DELETED, CUTOFF.plusDays(1), null);
+        UserLifecycleJobs jobs = jobs(2, 100);
+
+        assertThat(jobs.run(UserLifecycleJob.DEACTIVATE_DORMANT, CUTOFF)).isEqualTo(2);
+        assertThat(jobs.run(UserLifecycleJob.PURGE_DELETED, CUTOFF)).isEqualTo(1);
+
+        assertThat(status(dormant)).isEqualTo(Status.DORMANT);
+        assertThat(status(neverLoggedIn)).isEqualTo(Status.DORMANT);
+        assertThat(status(recentLogin)).isEqualTo(Status.ACTIVE);
+        assertThat(userRepository.existsById(oldDeleted.getId())).isFalse();
+        assertThat(status(recentDeleted)).isEqualTo(Status.DELETED);
+    }
+
+    @Test
+    @DisplayName("한 번에 다 못 하면 체크포인트에서 이어가고, 끝까지 가면 처음으로 되돌린다")
+    void resumesFromCheckpoint() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(save("dormant" + i + "@tikkit.com", Status.ACTIVE, LONG_AGO.plusDays(i), null));
+        }
+        // 한 번 실행에 2행짜리 청크 하나만
+        UserLifecycleJobs jobs = jobs(2, 1);
+
+        assertThat(jobs.run(UserLifecycleJob.DEACTIVATE_DORMANT, CUTOFF)).isEqualTo(2);
+        assertThat(checkpointId()).isEqualTo(users.get(1).getId());
+        assertThat(status(users.get(2))).isEqualTo(Status.ACTIVE);
+
+        assertThat(jobs.run(UserLifecycleJob.DEACTIVATE_DORMANT, CUTOFF)).isEqualTo(2);
+        assertThat(checkpointId()).isEqualTo(users.get(3).getId());
+
+        assertThat(jobs.run(UserLifecycleJob.DEACTIVATE_DORMANT, CUTOFF)).isEqualTo(1);
+        assertThat(checkpointId()).isZero();
+        assertThat(users).allSatisfy(user -> assertThat(status(user)).isEqualTo(Status.DORMANT));
+    }
+
+    @Test
+    @DisplayName("바뀐 회원은 캐시에서도 바로 반영된다")
+    void invalidatesCache() {
+        User dormant = save("cached@tikkit.com", Status.ACTIVE, LONG_AGO, null);
+        assertThat(userCache.findById(dormant.getId()).orElseThrow().status()).isEqualTo(Status.ACTIVE);
+
+        jobs(10, 10).run(UserLifecycleJob.DEACTIVATE_DORMANT, CUTOFF);
+
+        assertThat(userCache.findById(dormant.getId()).orElseThrow().status()).isEqualTo(Status.DORMANT);
+    }
+
+    private UserLifecycleJobs jobs(int chunkSize, int maxChunksPerRun) {
+        UserLifecycleProperties properties = new UserLifecycleProperties(true, "-", Duration.ofDays(365),
+                Duration.ofDays(30), chunkSize, Duration.ZERO, maxChunksPerRun);
+        return new UserLifecycleJobs(jdbcTemplate, transactionOperations, userCache, properties, new SimpleMeterRegistry());
+    }
+
+    private User save(String email, Status status, LocalDateTime createdAt, LocalDateTime lastLoginAt) {
+        User user = userRepository.save(new User(email, "encoded", "회원", "01012345678", Role.USER, status,
+                createdAt, createdAt, status == Status.DELETED ? createdAt : null));
+        if (lastLoginAt != null) {
+            jdbcTemplate.update("update users set last_login_at = ? where id = ?", lastLoginAt, user.getId());
+        }
+        return user;
+    }
+
+    private Status status(User user) {
+        return Status.valueOf(jdbcTemplate.queryForObject("select status from users where id = ?", String.class, user.getId()));
+    }
+
+    private long checkpointId() {
+        return jdbcTemplate.queryForObject("select cursor_id from user_lifecycle_checkpoints where job = ?", Long.class,
+                UserLifecycleJob.DEACTIVATE_DORMANT.checkpointName());
+    }
+}
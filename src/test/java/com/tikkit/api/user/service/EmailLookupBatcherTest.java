@@ -0,0 +1,139 @@
+package com.tikkit.api.user.service;
+
+import com.tikkit.api.global.exception.OverloadedException;
+import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmailLookupBatcher 테스트")
+class EmailLookupBatcherTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailLookupBatcher batcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("창 안에 들어온 확인은 IN 조회 한 번으로 답한다")
+    void coalescesIntoOneQuery() {
+        batcher = batcher(Duration.ofMillis(200), 100);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("a@tikkit.com"));
+
+        CompletableFuture<Boolean> a = batcher.lookup("a@tikkit.com");
+        CompletableFuture<Boolean> b = batcher.lookup("b@tikkit.com");
+
+        assertThat(a.join()).isTrue();
+        assertThat(b.join()).isFalse();
+        verify(userRepository).findExistingEmails(List.of("a@tikkit.com", "b@tikkit.com"));
+        assertThat(meterRegistry.counter("tikkit.user.email-lookup.queries").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 이메일 확인은 새로 조회하지 않고 결과를 함께 받는다")
+    void sharesInFlightLookup() {
+        batcher = batcher(Duration.ofMillis(200), 100);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        CompletableFuture<Boolean> first = batcher.lookup("same@tikkit.com");
+        CompletableFuture<Boolean> second = batcher.lookup("same@tikkit.com");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.join()).isFalse();
+        verify(userRepository).findExistingEmails(List.of("same@tikkit.com"));
+        assertThat(meterRegistry.counter("tikkit.user.email-lookup.shared").count()).isEqualTo(1);
+        // 끝난 뒤의 확인은 다시 조회한다
+        assertThat(batcher.exists("same@tikkit.com")).isFalse();
+        verify(userRepository, times(2)).findExistingEmails(anyCollection());
+    }
+
+    @Test
+    @DisplayName("maxBatchSize 를 넘으면 나눠서 조회한다")
+    void splitsAtMaxBatchSize() {
+        batcher = batcher(Duration.ofMillis(200), 2);
+        when(userRepository.findExistingEmails(anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        List<CompletableFuture<Boolean>> futures = List.of(
+                batcher.lookup("1@tikkit.com"), batcher.lookup("2@tikkit.com"), batcher.lookup("3@tikkit.com"));
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isTrue());
+        verify(userRepository).findExistingEmails(List.of("1@tikkit.com", "2@tikkit.com"));
+        verify(userRepository).findExistingEmails(List.of("3@tikkit.com"));
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 묶음의 모든 호출자가 같은 예외를 받는다")
+    void propagatesFailure() {
+        batcher = batcher(Duration.ofMillis(200), 100);
+        QueryTimeoutException failure = new QueryTimeoutException("timeout");
+        when(userRepository.findExistingEmails(anyCollection())).thenThrow(failure);
+
+        CompletableFuture<Boolean> other = batcher.lookup("other@tikkit.com");
+
+        assertThatThrownBy(() -> batcher.exists("fail@tikkit.com")).isSameAs(failure);
+        assertThat(other).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("조회가 멈추면 timeout 뒤 SERVER_BUSY 로 끝내고, 다음 호출자는 멈춘 조회를 기다리지 않는다")
+    void timesOutStuckLookup() throws InterruptedException {
+        batcher = batcher(Duration.ZERO, 100, Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        assertThatThrownBy(() -> batcher.exists("stuck@tikkit.com")).isInstanceOf(OverloadedException.class);
+        CompletableFuture<Boolean> stuck = batcher.lookup("stuck@tikkit.com");
+        CompletableFuture<Boolean> retried = batcher.lookup("stuck@tikkit.com");
+
+        assertThat(retried).isSameAs(stuck);
+        release.countDown();
+        assertThat(retried.join()).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료하면 대기 중인 확인을 모두 SERVER_BUSY 로 끝내고 새 확인은 받지 않는다")
+    void failsQueuedLookupsOnShutdown() throws InterruptedException {
+        batcher = batcher(Duration.ofSeconds(10), 100);
+
+        CompletableFuture<Boolean> queued = batcher.lookup("queued@tikkit.com");
+        batcher.shutdown();
+
+        assertThat(queued).isCompletedExceptionally();
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(OverloadedException.class);
+        assertThatThrownBy(() -> batcher.lookup("late@tikkit.com")).isInstanceOf(OverloadedException.class);
+    }
+
+    private EmailLookupBatcher batcher(Duration window, int maxBatchSize) {
+        return batcher(window, maxBatchSize, Duration.ofSeconds(2));
+    }
+
+    private EmailLookupBatcher batcher(Duration window, int maxBatchSize, Duration timeout) {
+        return new EmailLookupBatcher(userRepository, TransactionOperations.withoutTransaction(),
+                new EmailLookupProperties(true, window, maxBatchSize, 2, 100, timeout), meterRegistry);
+    }
+}
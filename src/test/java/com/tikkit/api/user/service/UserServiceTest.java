@@ -1,9 +1,15 @@
 package com.tikkit.api.user.service;
 
+import com.tikkit.api.global.concurrent.BoundedExecutor;
+import com.tikkit.api.global.datasource.PrimaryStickiness;
 import com.tikkit.api.global.exception.ErrorCode;
 import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.global.outbox.Outbox;
+import com.tikkit.api.user.dto.UserBulkRegisterResult;
 import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.index.EmailExistenceIndex;
 import com.tikkit.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,10 +20,18 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +44,27 @@ class UserServiceTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    EmailExistenceIndex emailExistenceIndex;
+
+    @Spy
+    BoundedExecutor passwordHashingExecutor = new BoundedExecutor("test-hashing", 1, 10, Duration.ofSeconds(1));
+
+    @Spy
+    TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Spy
+    UserBulkRegisterProperties bulkRegisterProperties = new UserBulkRegisterProperties(2, 100);
+
+    @Spy
+    UserMetrics userMetrics = new UserMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    Outbox outbox;
+
+    @Spy
+    PrimaryStickiness primaryStickiness = new PrimaryStickiness(Duration.ofSeconds(3));
+
     @InjectMocks
     UserServiceImpl userService;
 
@@ -51,7 +86,8 @@ class UserServiceTest {
             User savedUser = userService.register(user);
 
             // Then
-            verify(userRepository).existsByEmail(user.getEmail());
+            // 해싱 전 확인 + 트랜잭션 안의 확인
+            verify(userRepository, times(2)).existsByEmail(user.getEmail());
             verify(passwordEncoder).encode(user.getPassword());
             verify(userRepository).save(userCaptor.capture());
 
@@ -106,6 +142,8 @@ class UserServiceTest {
                 () -> userService.register(user));
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_EMAIL);
             verify(userRepository).existsByEmail(existingEmail);
+            // 중복이면 해싱하지 않는다
+            verify(passwordEncoder, never()).encode(anyString());
             verify(userRepository, never()).save(any(User.class));
         }
 
@@ -123,7 +161,7 @@ class UserServiceTest {
             User savedUser = userService.register(user);
 
             // Then
-            verify(userRepository).existsByEmail(newEmail);
+            verify(userRepository, times(2)).existsByEmail(newEmail);
             verify(userRepository).save(any(User.class));
             assertThat(savedUser).isNotNull();
             assertThat(savedUser.getEmail()).isEqualTo(newEmail);
@@ -242,4 +280,50 @@ class UserServiceTest {
             verify(userRepository, never()).save(any(User.class));
         }
     }
+
+    @Nested
+    @DisplayName("대량 회원가입")
+    class BulkRegister {
+        @Test
+        @DisplayName("행마다 결과를 입력 순서대로 돌려주고 유효한 행만 청크 단위로 저장한다")
+        void reportsOutcomePerRow() {
+            // Given
+            List<User> users = List.of(
+                    User.of("first@email.com", "password1234", "이재훈", "01077779999"),
+                    User.of("invalid-email", "password1234", "이재훈", "01077779999"),
+                    User.of("first@email.com", "password1234", "이재훈", "01077779999"),
+                    User.of("existing@email.com", "password1234", "이재훈", "01077779999"),
+                    User.of("second@email.com", "password1234", "이재훈", "01077779999"),
+                    User.of("third@email.com", "password1234", "이재훈", "01077779999")
+            );
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("existing@email.com"));
+            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+
+            // When
+            List<UserBulkRegisterResult> results = userService.registerAll(users);
+
+            // Then
+            assertThat(results).extracting(UserBulkRegisterResult::code).containsExactly(
+                    "SUCCESS",
+                    ErrorCode.INVALID_EMAIL_FORMAT.getCode(),
+                    ErrorCode.DUPLICATE_EMAIL.getCode(),
+                    ErrorCode.DUPLICATE_EMAIL.getCode(),
+                    "SUCCESS",
+                    "SUCCESS"
+            );
+            verify(passwordEncoder, times(3)).encode("password1234");
+            verify(userRepository, times(2)).saveAll(anyList());
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("허용된 행 수를 넘으면 실패한다")
+        void failIfTooManyRows() {
+            List<User> users = Collections.nCopies(101, User.of("test@email.com", "password1234", "이재훈", "01077779999"));
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> userService.registerAll(users));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.BULK_REGISTER_TOO_LARGE);
+            verify(userRepository, never()).saveAll(anyList());
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.tikkit.api.user.service;
+
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.exception.ValidationException;
+import com.tikkit.api.user.entity.User;
+import com.tikkit.api.user.validation.UserValidationConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("UserValidator 테스트")
+class UserValidatorTest {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(UserValidationConstants.EMAIL_REGEX);
+    private static final Pattern PHONE_PATTERN = Pattern.compile(UserValidationConstants.PHONE_REGEX);
+
+    @Nested
+    @DisplayName("정규식 호환성")
+    class RegexCompatibility {
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "a@b.co", "first.last+tag@sub.domain.com", "a_b-c@x-y.z.io", "@b.com", "a@", "a@b", "a@.com",
+                "a@b.c", "a@b.c1", "a@b..com", "a@@b.com", "a b@c.com", "a@b.com\n", "한글@tikkit.com",
+                "a@b.com.", "a@-.co", "a@b.CoM", ".@..ab", "a+@1.ab", "a@b_c.com"
+        })
+        @DisplayName("이메일 판정이 EMAIL_REGEX 와 같다")
+        void emailMatchesRegex(String email) {
+            assertThat(UserValidator.isValidEmail(email)).isEqualTo(EMAIL_PATTERN.matcher(email).matches());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0101234567", "01012345678", "010123456", "010123456789", "010-1234-5678", "０１０１２３４５６７８", "0101234567\n"})
+        @DisplayName("전화번호 판정이 PHONE_REGEX 와 같다")
+        void phoneMatchesRegex(String phone) {
+            assertThat(UserValidator.isValidPhone(phone)).isEqualTo(PHONE_PATTERN.matcher(phone).matches());
+        }
+
+        @Test
+        @DisplayName("무작위 입력에 대해서도 정규식과 같은 결과를 낸다")
+        void randomInputsMatchRegex() {
+            Random random = new Random(42);
+            String alphabet = "aZ09+_.-@ .\n가";
+            for (int i = 0; i < 200_000; i++) {
+                StringBuilder builder = new StringBuilder();
+                int length = random.nextInt(14);
+                for (int j = 0; j < length; j++) {
+                    builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                String input = builder.toString();
+                assertThat(UserValidator.isValidEmail(input))
+                        .as(input)
+                        .isEqualTo(EMAIL_PATTERN.matcher(input).matches());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("오류 보고")
+    class ErrorReporting {
+        @Test
+        @DisplayName("validateAll 은 필드별 오류를 한 번에 모은다")
+        void validateAllCollectsEveryFieldError() {
+            User user = User.of("invalid-email", "short", " ", "010-1234-5678");
+
+            assertThat(UserValidator.validateAll(user)).containsExactly(
+                    ErrorCode.INVALID_EMAIL_FORMAT,
+                    ErrorCode.PASSWORD_LENGTH_INVALID,
+                    ErrorCode.NAME_REQUIRED,
+                    ErrorCode.INVALID_PHONE_FORMAT
+            );
+        }
+
+        @Test
+        @DisplayName("유효하면 firstError 는 null, validateAll 은 빈 리스트를 돌려준다")
+        void validUserHasNoErrors() {
+            User user = User.of("test@email.com", "password1234", "이재훈", "01012345678");
+
+            assertThat(UserValidator.firstError(user)).isNull();
+            assertThat(UserValidator.validateAll(user)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("validate 는 스택 트레이스 없는 예외를 던진다")
+        void validateThrowsStacklessException() {
+            User user = User.of("invalid-email", "password1234", "이재훈", "01012345678");
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> UserValidator.validate(user));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_EMAIL_FORMAT);
+            assertThat(exception.getStackTrace()).isEmpty();
+        }
+    }
+}
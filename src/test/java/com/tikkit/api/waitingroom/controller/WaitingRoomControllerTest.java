@@ -0,0 +1,226 @@
+package com.tikkit.api.waitingroom.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tikkit.api.auth.token.HmacSigner;
+import com.tikkit.api.auth.token.TokenProvider;
+import com.tikkit.api.event.entity.Event;
+import com.tikkit.api.event.repository.EventRepository;
+import com.tikkit.api.event.service.SeatService;
+import com.tikkit.api.global.exception.ErrorCode;
+import com.tikkit.api.global.response.PreSerializedResponses;
+import com.tikkit.api.user.entity.Role;
+import com.tikkit.api.waitingroom.dto.WaitingRoomJoinResponse;
+import com.tikkit.api.waitingroom.queue.WaitingRoomProperties;
+import com.tikkit.api.waitingroom.queue.WaitingRoomTokens;
+import com.tikkit.api.waitingroom.service.WaitingRoomServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "tikkit.waiting-room.tick-interval=1h",    // 테스트에서 직접 tick
+        "tikkit.waiting-room.sync-interval=1h"     // 테스트에서 직접 sync
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("대기열 API 테스트")
+class WaitingRoomControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private WaitingRoomServiceImpl waitingRoomService;
+
+    @Autowired
+    private PreSerializedResponses preSerializedResponses;
+
+    @Autowired
+    private HmacSigner hmacSigner;
+
+    @Autowired
+    private WaitingRoomProperties waitingRoomProperties;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Test
+    @DisplayName("대기열이 열린 공연은 입장 토큰이 있어야 좌석을 잡을 수 있다")
+    void admissionGatesSeatHolds() throws Exception {
+        Event event = seatService.createEvent("waiting-room", 10);
+        mockMvc.perform(post("/api/waiting-room/{eventId}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(1L, Role.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"admissionPerSecond\": 1}"))
+                .andExpect(status().isOk());
+
+        JsonNode first = join(event.getId(), 100L, null);
+        JsonNode second = join(event.getId(), 200L, null);
+        assertThat(first.path("position").asLong()).isEqualTo(1);
+        assertThat(second.path("position").asLong()).isEqualTo(2);
+        assertThat(first.path("admissionToken").isNull()).isTrue();
+
+        mockMvc.perform(post("/api/events/{eventId}/seats/0/hold", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(100L, Role.USER)))
+                .andExpect(status().isConflict())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.ADMISSION_REQUIRED)));
+
+        Thread.sleep(1_100);
+        waitingRoomService.tick();
+
+        // 같은 순번 토큰으로 다시 들어오면 순번이 유지되고, 입장했으므로 입장 토큰을 받는다
+        JsonNode rejoined = join(event.getId(), 100L, first.path("positionToken").asText());
+        assertThat(rejoined.path("position").asLong()).isZero();
+        String admissionToken = rejoined.path("admissionToken").asText();
+
+        mockMvc.perform(post("/api/events/{eventId}/seats/0/hold", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(100L, Role.USER))
+                        .header("X-Admission-Token", admissionToken))
+                .andExpect(status().isOk());
+        // 입장 토큰은 본인만 쓸 수 있다
+        mockMvc.perform(post("/api/events/{eventId}/seats/1/hold", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(200L, Role.USER))
+                        .header("X-Admission-Token", admissionToken))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("SSE 구독 시 현재 순번을 바로 보낸다")
+    void pushesPositionOverSse() throws Exception {
+        Event event = seatService.createEvent("sse", 10);
+        waitingRoomService.open(event.getId(), 1);
+        join(event.getId(), 300L, null);
+        JsonNode joined = join(event.getId(), 400L, null);
+
+        MvcResult result = mockMvc.perform(get("/api/waiting-room/{eventId}/events", event.getId())
+                        .param("positionToken", joined.path("positionToken").asText()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:position").contains("\"position\":2");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 열고 닫은 대기열도 이 노드에서 입장을 확인한다")
+    void followsRoomsOpenedOnOtherNodes() throws Exception {
+        Event event = seatService.createEvent("other-node", 10);
+        eventRepository.updateWaitingRoom(event.getId(), 1);
+
+        // sync 전에도 대기열에 들어갈 수 있다
+        JsonNode joined = join(event.getId(), 500L, null);
+        assertThat(joined.path("position").asLong()).isEqualTo(1);
+
+        waitingRoomService.sync();
+        mockMvc.perform(post("/api/events/{eventId}/seats/0/hold", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(600L, Role.USER)))
+                .andExpect(status().isConflict())
+                .andExpect(content().bytes(preSerializedResponses.failure(ErrorCode.ADMISSION_REQUIRED)));
+
+        eventRepository.updateWaitingRoom(event.getId(), null);
+        waitingRoomService.sync();
+        mockMvc.perform(post("/api/events/{eventId}/seats/0/hold", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(600L, Role.USER)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발급한 순번 토큰으로는 이 노드의 대기열에서 새치기하지 못한다")
+    void rejectsPositionTokenFromOtherNode() throws Exception {
+        Event event = seatService.createEvent("other-node-token", 10);
+        waitingRoomService.open(event.getId(), 1);
+        join(event.getId(), 700L, null);
+        join(event.getId(), 701L, null);
+        // 다른 노드에서는 seq 0 이 맨 앞이다
+        String foreign = new WaitingRoomTokens(hmacSigner, waitingRoomProperties).issuePosition(event.getId(), 702L, 0);
+
+        JsonNode joined = join(event.getId(), 702L, foreign);
+
+        assertThat(joined.path("position").asLong()).isEqualTo(3);
+        assertThat(joined.path("positionToken").asText()).isNotEqualTo(foreign);
+        mockMvc.perform(get("/api/waiting-room/{eventId}/events", event.getId()).param("positionToken", foreign))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("노드가 여럿이어도 합계 입장 인원은 초당 허용 인원을 넘지 않는다")
+    void sharesAdmissionRateAcrossNodes() {
+        Event event = seatService.createEvent("shared-rate", 10);
+        waitingRoomService.open(event.getId(), 1);
+        WaitingRoomServiceImpl otherNode = new WaitingRoomServiceImpl(eventRepository,
+                new WaitingRoomTokens(hmacSigner, waitingRoomProperties), waitingRoomProperties,
+                transactionOperations, new SimpleMeterRegistry());
+        try {
+            List<WaitingRoomJoinResponse> joined = new ArrayList<>();
+            for (long userId = 800; userId < 805; userId++) {
+                joined.add(waitingRoomService.join(event.getId(), userId, null));
+                joined.add(otherNode.join(event.getId(), userId + 100, null));
+            }
+
+            waitingRoomService.tick();
+            otherNode.tick();
+
+            long admitted = 0;
+            for (int i = 0; i < joined.size(); i++) {
+                WaitingRoomServiceImpl node = i % 2 == 0 ? waitingRoomService : otherNode;
+                long userId = 800 + i / 2 + (i % 2 == 0 ? 0 : 100);
+                if (node.join(event.getId(), userId, joined.get(i).positionToken()).admissionToken() != null) {
+                    admitted++;
+                }
+            }
+            // 첫 tick 은 1초 분량(+1명)까지: 노드마다 따로 세면 4명이 된다
+            assertThat(admitted).isEqualTo(2);
+        } finally {
+            otherNode.shutdown();
+        }
+    }
+
+    private JsonNode join(long eventId, long userId, String positionToken) throws Exception {
+        var request = post("/api/waiting-room/{eventId}/join", eventId)
+                .header(HttpHeaders.AUTHORIZATION, bearer(userId, Role.USER));
+        if (positionToken != null) {
+            request.header("X-Position-Token", positionToken);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+
+    private String bearer(long userId, Role role) {
+        return "Bearer " + tokenProvider.issueAccessToken(userId, role);
+    }
+}
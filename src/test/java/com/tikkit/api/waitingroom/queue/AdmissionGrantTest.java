@@ -0,0 +1,65 @@
+package com.tikkit.api.waitingroom.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdmissionGrant 테스트")
+class AdmissionGrantTest {
+
+    private static final long TICK = 100_000;     // 100ms(마이크로초)
+    private static final long NOW = 1_000_000_000_000L;
+
+    @Test
+    @DisplayName("일정한 tick 으로 나눠 받아도 합계는 초당 입장 인원과 같다")
+    void admitsAtRateAcrossTicks() {
+        long next = 0;
+        long admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            AdmissionGrant grant = AdmissionGrant.of(next, NOW + i * TICK, 15, TICK, Long.MAX_VALUE);
+            admitted += grant.admitted();
+            next = grant.nextAdmissionAtMicros();
+        }
+
+        // 10초 + 처음 한 tick 분량
+        assertThat(admitted).isBetween(150L, 152L);
+    }
+
+    @Test
+    @DisplayName("두 노드가 번갈아 가져가도 합계는 초당 입장 인원을 넘지 않는다")
+    void sharedAcrossNodes() {
+        long next = 0;
+        long admitted = 0;
+        for (int i = 0; i < 200; i++) {
+            // 노드 A 와 B 가 50ms 간격으로 같은 TAT 에서 가져간다
+            AdmissionGrant grant = AdmissionGrant.of(next, NOW + i * TICK / 2, 10, TICK, Long.MAX_VALUE);
+            admitted += grant.admitted();
+            next = grant.nextAdmissionAtMicros();
+        }
+
+        assertThat(admitted).isBetween(100L, 102L);
+    }
+
+    @Test
+    @DisplayName("tick 이 밀렸거나 대기자가 없던 동안의 여유는 한 tick 분량까지만 쓴다")
+    void capsBurstToOneTick() {
+        AdmissionGrant first = AdmissionGrant.of(0, NOW, 100, TICK, Long.MAX_VALUE);
+        assertThat(first.admitted()).isEqualTo(11);
+
+        AdmissionGrant late = AdmissionGrant.of(first.nextAdmissionAtMicros(), NOW + 60_000_000, 100, TICK, Long.MAX_VALUE);
+        assertThat(late.admitted()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("대기자 수보다 많이 가져가지 않고, 가져가지 않으면 TAT 를 옮기지 않는다")
+    void takesOnlyWhatIsWanted() {
+        AdmissionGrant grant = AdmissionGrant.of(0, NOW, 100, TICK, 3);
+        assertThat(grant.admitted()).isEqualTo(3);
+        assertThat(grant.nextAdmissionAtMicros()).isEqualTo(NOW + 30_000);
+
+        AdmissionGrant none = AdmissionGrant.of(NOW + 500_000, NOW, 100, TICK, 3);
+        assertThat(none.admitted()).isZero();
+        assertThat(none.nextAdmissionAtMicros()).isEqualTo(NOW + 500_000);
+    }
+}
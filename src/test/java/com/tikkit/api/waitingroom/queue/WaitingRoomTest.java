@@ -0,0 +1,59 @@
+package com.tikkit.api.waitingroom.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WaitingRoom 테스트")
+class WaitingRoomTest {
+
+    @Test
+    @DisplayName("도착 순서대로 번호를 받고, 받은 허용량만큼 앞에서부터 입장한다")
+    void admitsInFifoOrder() {
+        WaitingRoom<Object> room = new WaitingRoom<>(1L, 10);
+        for (int i = 0; i < 25; i++) {
+            assertThat(room.join()).isEqualTo(i);
+        }
+
+        assertThat(room.admit(10)).isEqualTo(10);
+
+        assertThat(room.isAdmitted(9)).isTrue();
+        assertThat(room.isAdmitted(10)).isFalse();
+        assertThat(room.positionOf(10)).isEqualTo(1);
+        assertThat(room.positionOf(24)).isEqualTo(15);
+        assertThat(room.estimatedWaitSeconds(24)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기자보다 많은 허용량을 받아도 입장선은 대기자 끝을 넘지 않는다")
+    void doesNotAdmitBeyondWaiting() {
+        WaitingRoom<Object> room = new WaitingRoom<>(1L, 10);
+        assertThat(room.admit(100)).isZero();
+
+        for (int i = 0; i < 5; i++) {
+            room.join();
+        }
+
+        assertThat(room.admit(100)).isEqualTo(5);
+        assertThat(room.getWaitingCount()).isZero();
+        // 나중에 온 대기자는 이전 허용량으로 입장하지 않는다
+        assertThat(room.isAdmitted(room.join())).isFalse();
+    }
+
+    @Test
+    @DisplayName("입장선을 넘은 구독자만 순서대로 꺼낸다")
+    void pollsAdmittedSubscribers() {
+        WaitingRoom<String> room = new WaitingRoom<>(1L, 2);
+        for (int i = 0; i < 3; i++) {
+            room.subscribe(room.join(), "user" + i);
+        }
+
+        room.admit(2);
+
+        assertThat(room.pollAdmitted().getValue()).isEqualTo("user0");
+        assertThat(room.pollAdmitted().getValue()).isEqualTo("user1");
+        assertThat(room.pollAdmitted()).isNull();
+        assertThat(room.subscribers()).containsOnlyKeys(2L);
+    }
+}